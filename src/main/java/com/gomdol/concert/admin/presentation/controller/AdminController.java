@@ -2,7 +2,9 @@ package com.gomdol.concert.admin.presentation.controller;
 
 import com.gomdol.concert.admin.presentation.dto.ConcertCreateRequest;
 import com.gomdol.concert.admin.presentation.dto.ConcertUpdateRequest;
+import com.gomdol.concert.admin.presentation.dto.RankingRebuildResponse;
 import com.gomdol.concert.common.presentation.exception.ApiException;
+import com.gomdol.concert.concert.application.service.FastSellingRankingRebuilder;
 import com.gomdol.concert.concert.presentation.dto.ConcertResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -23,8 +26,11 @@ import java.nio.file.attribute.UserPrincipal;
 @Tag(name = "Admin")
 @RestController
 @RequestMapping("/api/v1/admins")
+@RequiredArgsConstructor
 public class AdminController {
 
+    private final FastSellingRankingRebuilder rankingRebuilder;
+
     /**
      * TODO: 현재는 콘서트와 공연이 1:1로 매칭되게 함 -> 추후 1:N으로 매핑해서 여러개의 공연을 처리하도록 변경 필요
      */
@@ -117,4 +123,22 @@ public class AdminController {
     ) {
         return ResponseEntity.ok().body(null);
     }
+
+    @Operation(summary = "랭킹 재구성", description = "Redis 랭킹 데이터를 MySQL 확정 예약 기준으로 다시 적재합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = RankingRebuildResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ApiException.class))),
+            @ApiResponse(responseCode = "422", description = "재구성 진행 중",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class))),
+            @ApiResponse(responseCode = "500", description = "서버 오류",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    @PostMapping("/rankings/rebuild")
+    public ResponseEntity<RankingRebuildResponse> rebuildRanking(
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal token
+    ) {
+        return ResponseEntity.ok(RankingRebuildResponse.from(rankingRebuilder.rebuild()));
+    }
 }
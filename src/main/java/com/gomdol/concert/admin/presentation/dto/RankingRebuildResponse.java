@@ -0,0 +1,20 @@
+package com.gomdol.concert.admin.presentation.dto;
+
+import com.gomdol.concert.concert.application.service.FastSellingRankingRebuilder.RebuildResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "랭킹 재구성 결과")
+public record RankingRebuildResponse(
+        @Schema(description = "랭킹에 적재한 콘서트 수", example = "12")
+        int concerts,
+
+        @Schema(description = "읽은 확정 좌석 수", example = "184203")
+        long confirmedSeats,
+
+        @Schema(description = "소요 시간(ms)", example = "1830")
+        long elapsedMs
+) {
+    public static RankingRebuildResponse from(RebuildResult result) {
+        return new RankingRebuildResponse(result.concerts(), result.confirmedSeats(), result.elapsedMs());
+    }
+}
@@ -29,6 +29,18 @@ public interface CacheRepository {
      */
     <T> void set(String key, T value, Duration ttl);
 
+    /**
+     * 키가 없을 때만 값 저장 (SET NX, TTL 포함)
+     * - 동시 요청 중 하나만 통과시키는 게이트 용도 → 저장소 오류는 삼키지 않고 예외로 전달
+     *
+     * @param key 캐시 키
+     * @param value 저장할 값
+     * @param ttl 만료 시간
+     * @param <T> 값의 타입
+     * @return 저장했으면 true, 이미 키가 있으면 false
+     */
+    <T> boolean setIfAbsent(String key, T value, Duration ttl);
+
     /**
      * 캐시에서 값 삭제
      *
@@ -0,0 +1,61 @@
+package com.gomdol.concert.common.application.inbox;
+
+import com.gomdol.concert.common.infra.config.InboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Consumer Inbox (중복 수신 선차단)
+ * - at-least-once 재전달(리밸런스, 실패 후 재시도, Relay 중복 전송) 시 비즈니스 처리 전에 한 번의 조회/INSERT로 중복 판별
+ * - 메시지 ID: Outbox ID 헤더가 있으면 topic:outboxId (Relay 중복 전송까지 차단), 없으면 topic-partition@offset
+ * - 처리 트랜잭션 안에서 기록 → 처리 실패로 롤백되면 기록도 취소되어 재전달 시 다시 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsumerInbox {
+
+    private final InboxRepository inboxRepository;
+    private final InboxProperties properties;
+
+    /**
+     * 처음 수신한 메시지인지 확인 후 기록
+     *
+     * @return 처음 수신이면 true, 이미 처리한 메시지면 false
+     */
+    public boolean tryReceive(String consumerGroup, String messageId) {
+        boolean first = inboxRepository.record(consumerGroup, messageId);
+        if (!first)
+            log.info("[Inbox] 중복 메시지 건너뜀 - group={}, messageId={}", consumerGroup, messageId);
+        return first;
+    }
+
+    /**
+     * 보관 기간이 지난 기록을 청크 단위로 삭제
+     */
+    public int purgeExpired() {
+        LocalDateTime before = LocalDateTime.now().minusHours(properties.retentionHours());
+        int deleted = 0;
+        int chunk;
+        do {
+            chunk = inboxRepository.deleteReceivedBefore(before, properties.purgeChunkSize());
+            deleted += chunk;
+        } while (chunk >= properties.purgeChunkSize());
+        return deleted;
+    }
+
+    public static String messageId(String topic, int partition, long offset, byte[] outboxId) {
+        if (outboxId != null && outboxId.length > 0)
+            return topic + ":" + new String(outboxId, StandardCharsets.UTF_8);
+        return topic + "-" + partition + "@" + offset;
+    }
+
+    public static String messageId(String topic, int partition, long offset, Object outboxIdHeader) {
+        return messageId(topic, partition, offset, outboxIdHeader instanceof byte[] bytes ? bytes
+                : outboxIdHeader != null ? outboxIdHeader.toString().getBytes(StandardCharsets.UTF_8) : null);
+    }
+}
@@ -0,0 +1,26 @@
+package com.gomdol.concert.common.application.inbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * Consumer Inbox 저장소 (Consumer Group별 처리한 메시지 ID 기록)
+ */
+public interface InboxRepository {
+
+    /**
+     * 메시지 수신 기록 (이미 기록된 메시지면 아무것도 하지 않음)
+     * 트랜잭션 안에서 호출되면 트랜잭션이 롤백될 때 기록도 함께 취소됨
+     *
+     * @return 새로 기록했으면 true, 이미 처리된 메시지면 false
+     */
+    boolean record(String consumerGroup, String messageId);
+
+    /**
+     * 보관 기간이 지난 기록 삭제
+     *
+     * @param before 이 시각 이전에 수신한 기록 삭제
+     * @param limit 한 번에 삭제할 최대 개수
+     * @return 삭제한 개수 (TTL로 만료되는 저장소는 0)
+     */
+    int deleteReceivedBefore(LocalDateTime before, int limit);
+}
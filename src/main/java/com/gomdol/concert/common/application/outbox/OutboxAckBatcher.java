@@ -0,0 +1,156 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Outbox 발행 결과(ack) 일괄 반영기
+ * - Kafka 콜백(프로듀서 I/O 스레드)에서는 결과를 큐에 적재만 함
+ * - 전용 스레드가 모아서 UPDATE ... WHERE id IN (...) 으로 반영 (건당 UPDATE 제거)
+ * - 선점한 Relay(owner)가 여전히 선점 중인 행만 반영 → lease 만료 후 다른 Relay가 처리한 행은 덮어쓰지 않음
+ * - 반영 실패 시 이벤트는 IN_FLIGHT로 남고 lease 만료 후 재발행됨 (at-least-once)
+ */
+@Slf4j
+@Component
+public class OutboxAckBatcher {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final Map<String, OutboxRepository> outboxRepositories;
+    private final BlockingQueue<Ack> acks = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final int batchSize;
+
+    public OutboxAckBatcher(List<OutboxRepository> outboxRepositories,
+                            @Value("${outbox.ack.flush-interval-ms:50}") long flushIntervalMs,
+                            @Value("${outbox.ack.batch-size:500}") int batchSize) {
+        this.outboxRepositories = outboxRepositories.stream()
+                .collect(Collectors.toMap(OutboxRepository::aggregateType, Function.identity()));
+        this.batchSize = batchSize;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-ack-"));
+        this.flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void published(OutboxEvent event) {
+        offer(new Ack(event.getAggregateType(), event.getClaimedBy(), event.getId(), null));
+    }
+
+    public void failed(OutboxEvent event, String errorMessage) {
+        offer(new Ack(event.getAggregateType(), event.getClaimedBy(), event.getId(), truncate(errorMessage)));
+    }
+
+    /**
+     * 배치 크기만큼 쌓이면 주기를 기다리지 않고 바로 반영
+     * - 예약된 즉시 반영이 실행 전이면 추가로 예약하지 않음 (ack마다 flush 작업이 쌓이지 않도록)
+     * - 종료 후에는 예약하지 않음 → 남은 ack는 shutdown()의 마지막 반영 대상, 그 이후 ack는 lease 만료 후 재발행
+     */
+    private void offer(Ack ack) {
+        acks.offer(ack);
+        if (acks.size() < batchSize || !flushScheduled.compareAndSet(false, true))
+            return;
+
+        try {
+            flusher.execute(() -> {
+                flushScheduled.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+            log.warn("Outbox ack 반영기 종료됨 - eventId={}, lease 만료 후 재발행 예정", ack.id());
+        }
+    }
+
+    /**
+     * 큐에 쌓인 ack를 batchSize 단위로 꺼내 aggregateType/결과별로 묶어 반영
+     */
+    void flush() {
+        List<Ack> batch = new ArrayList<>(batchSize);
+        while (acks.drainTo(batch, batchSize) > 0) {
+            try {
+                apply(batch);
+            } catch (Exception e) {
+                log.error("Outbox 발행 결과 반영 실패 - 개수: {}, lease 만료 후 재발행 예정", batch.size(), e);
+            }
+            batch.clear();
+        }
+    }
+
+    private void apply(List<Ack> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Target, List<Long>> publishedIds = new LinkedHashMap<>();
+        Map<Target, Map<String, List<Long>>> failedIds = new LinkedHashMap<>();
+
+        for (Ack ack : batch) {
+            Target target = new Target(ack.aggregateType(), ack.owner());
+            if (ack.success())
+                publishedIds.computeIfAbsent(target, k -> new ArrayList<>()).add(ack.id());
+            else
+                failedIds.computeIfAbsent(target, k -> new LinkedHashMap<>())
+                        .computeIfAbsent(ack.errorMessage(), k -> new ArrayList<>()).add(ack.id());
+        }
+
+        publishedIds.forEach((target, ids) ->
+                warnIfStale(target, ids, outboxRepositories.get(target.aggregateType()).markPublished(ids, target.owner(), now)));
+        failedIds.forEach((target, byMessage) -> byMessage.forEach((errorMessage, ids) ->
+                warnIfStale(target, ids, outboxRepositories.get(target.aggregateType()).markFailed(ids, target.owner(), errorMessage))));
+
+        log.debug("Outbox 발행 결과 반영 - 개수: {}", batch.size());
+    }
+
+    /**
+     * 반영되지 않은 ack = 그 사이 lease가 만료되어 다른 Relay가 다시 선점/처리한 이벤트 (결과는 그 Relay가 반영)
+     */
+    private void warnIfStale(Target target, List<Long> ids, int updated) {
+        if (updated < ids.size())
+            log.warn("[{} Outbox] 선점이 만료된 이벤트의 발행 결과 제외 - owner={}, 대상: {}건, 반영: {}건",
+                    target.aggregateType(), target.owner(), ids.size(), updated);
+    }
+
+    private static String truncate(String errorMessage) {
+        if (errorMessage == null)
+            return "unknown";
+        return errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH) : errorMessage;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(5, TimeUnit.SECONDS))
+                flusher.shutdownNow();
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 종료 전 남은 결과 반영
+        flush();
+    }
+
+    private record Target(String aggregateType, String owner) {}
+
+    private record Ack(String aggregateType, String owner, Long id, String errorMessage) {
+        boolean success() {
+            return errorMessage == null;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Outbox 즉시 발행 핸들러
+ * - Outbox 저장 트랜잭션이 커밋되면 바로 Kafka로 발행 (폴링 지연 제거)
+ * - 발행 실패/유실 건은 OutboxScheduler가 주기적으로 재처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDispatchHandler {
+
+    private final OutboxRelay outboxRelay;
+
+    /**
+     * - 트랜잭션 커밋 후에 실행 (AFTER_COMMIT) → 롤백된 이벤트는 발행되지 않음
+     * - 비동기로 실행하여 호출한 트랜잭션(Consumer/API)의 응답 시간에 영향 없음
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOutboxCreated(OutboxCreatedEvent event) {
+        try {
+            outboxRelay.dispatch(event.outboxEvent());
+        } catch (Exception e) {
+            // 스케줄러가 PENDING 상태로 남은 이벤트를 다시 발행함
+            log.warn("Outbox 즉시 발행 실패 - 스케줄러에서 재처리 예정 eventId={}", event.outboxEvent().getId(), e);
+        }
+    }
+}
@@ -3,69 +3,156 @@ package com.gomdol.concert.common.application.outbox;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gomdol.concert.common.domain.outbox.OutboxCreatedEvent;
 import com.gomdol.concert.common.domain.outbox.OutboxEvent;
-import lombok.RequiredArgsConstructor;
+import com.gomdol.concert.common.domain.saga.SagaMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Outbox 이벤트를 Kafka로 발행하는 서비스
+ * - 서비스별 Outbox 테이블은 aggregateType으로 구분
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class OutboxEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
-    private final OutboxRepository outboxRepository;
+    // Kafka 헤더 (payload 역직렬화 없이 라우팅/추적에 사용)
+    public static final String HEADER_EVENT_TYPE = "eventType";
+    public static final String HEADER_AGGREGATE_TYPE = "aggregateType";
+    public static final String HEADER_OUTBOX_ID = "outboxId";
+    // Saga 구간 지연 측정 (SagaHopInterceptor에서 Micrometer Timer로 집계)
+    public static final String HEADER_SAGA_ID = "sagaId";
+    public static final String HEADER_OUTBOX_CREATED_AT = "outboxCreatedAt";  // Outbox 저장 시각 (epoch ms)
+    public static final String HEADER_PUBLISHED_AT = "publishedAt";           // Relay 전송 시각 (epoch ms)
+
+    private final KafkaTemplate<String, String> outboxKafkaTemplate;
+    private final Map<String, OutboxRepository> outboxRepositories;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxAckBatcher ackBatcher;
     private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
+    public OutboxEventPublisher(KafkaTemplate<String, String> outboxKafkaTemplate,
+                                List<OutboxRepository> outboxRepositories,
+                                ApplicationEventPublisher eventPublisher,
+                                OutboxAckBatcher ackBatcher) {
+        this.outboxKafkaTemplate = outboxKafkaTemplate;
+        this.outboxRepositories = outboxRepositories.stream()
+                .collect(Collectors.toMap(OutboxRepository::aggregateType, Function.identity()));
+        this.eventPublisher = eventPublisher;
+        this.ackBatcher = ackBatcher;
+    }
+
     /**
      * Outbox 이벤트를 저장
      * 트랜잭션 내에서 호출되어야 함
+     * - 커밋 후 OutboxDispatchHandler가 즉시 Kafka로 발행
      */
-    public void saveOutboxEvent( String aggregateType,  String aggregateId,  String eventType,  String topic,  Object event) {
+    public OutboxEvent saveOutboxEvent(String aggregateType, String aggregateId, String eventType, String topic, Object event) {
+        String payload = serialize(aggregateType, event);
+        OutboxEvent saved = repositoryOf(aggregateType).save(OutboxEvent.create(aggregateType, aggregateId, eventType, topic, payload, sagaIdOf(event)));
+        eventPublisher.publishEvent(OutboxCreatedEvent.of(saved));
+        log.debug("Outbox 이벤트 저장 - aggregateType={}, aggregateId={}, eventType={}", aggregateType, aggregateId, eventType);
+        return saved;
+    }
+
+    /**
+     * Outbox 이벤트 일괄 저장 (배치 Consumer에서 poll 단위로 호출)
+     * 트랜잭션 내에서 호출되어야 함
+     */
+    public List<OutboxEvent> saveOutboxEvents(String aggregateType, List<OutboxMessage> messages) {
+        if (messages.isEmpty())
+            return List.of();
+
+        List<OutboxEvent> events = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            events.add(OutboxEvent.create(aggregateType, message.aggregateId(), message.eventType(), message.topic(), serialize(aggregateType, message.event()), sagaIdOf(message.event())));
+        }
+
+        List<OutboxEvent> saved = repositoryOf(aggregateType).saveAll(events);
+        saved.forEach(event -> eventPublisher.publishEvent(OutboxCreatedEvent.of(event)));
+        log.debug("Outbox 이벤트 일괄 저장 - aggregateType={}, 개수={}", aggregateType, saved.size());
+        return saved;
+    }
+
+    private static String sagaIdOf(Object event) {
+        return event instanceof SagaMessage sagaMessage ? sagaMessage.sagaId() : null;
+    }
+
+    private String serialize(String aggregateType, Object event) {
         try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent = OutboxEvent.create(aggregateType, aggregateId, eventType, topic, payload);
-            outboxRepository.save(outboxEvent);
-            log.debug("Outbox 이벤트 저장 - aggregateType={}, aggregateId={}, eventType={}", aggregateType, aggregateId, eventType);
+            return objectMapper.writeValueAsString(event);
         } catch (JsonProcessingException e) {
-            log.error("Outbox 이벤트 직렬화 실패", e);
+            log.error("[{} Outbox] 이벤트 직렬화 실패", aggregateType, e);
             throw new RuntimeException("Failed to serialize outbox event", e);
         }
     }
 
     /**
      * Outbox 이벤트를 Kafka로 발행
-     * Scheduler에서 호출됨
+     * 선점(IN_FLIGHT) 이후 OutboxRelay에서 호출됨
+     * - 상태 변경은 이벤트가 저장된 Outbox 테이블에 반영
+     * @return Kafka ack(성공/실패) 수신 시 완료되는 future
      */
-    @Transactional
-    public void publishEvent(OutboxEvent event) {
+    public CompletableFuture<Void> publishEvent(OutboxEvent event) {
         try {
-            // JSON을 Object로 역직렬화 (Kafka JsonSerializer가 처리)
-            Object payload = objectMapper.readValue(event.getPayload(), Object.class);
-            kafkaTemplate.send(event.getTopic(), event.getAggregateId(), payload)
+            // 저장된 JSON payload를 그대로 전송 (역직렬화/재직렬화 없음)
+            return outboxKafkaTemplate.send(toRecord(event))
                     .whenComplete((result, ex) -> {
+                        // 상태 반영은 OutboxAckBatcher가 모아서 일괄 처리
                         if (ex == null) {
-                            log.info("Outbox Kafka 전송 성공 - topic={}, aggregateId={}, offset={}", event.getTopic(), event.getAggregateId(), result.getRecordMetadata().offset());
-                            // 발행 성공 처리
-                            OutboxEvent published = event.markAsPublished();
-                            outboxRepository.save(published);
+                            log.debug("Outbox Kafka 전송 성공 - topic={}, aggregateId={}, offset={}", event.getTopic(), event.getAggregateId(), result.getRecordMetadata().offset());
+                            ackBatcher.published(event);
                         } else {
                             log.error("Outbox Kafka 전송 실패 - topic={}, aggregateId={}", event.getTopic(), event.getAggregateId(), ex);
-                            // 발행 실패 처리
-                            OutboxEvent failed = event.markAsFailed(ex.getMessage());
-                            outboxRepository.save(failed);
+                            ackBatcher.failed(event, ex.getMessage());
                         }
-                    });
+                    })
+                    .handle((result, ex) -> null);
         } catch (Exception e) {
             log.error("Outbox 이벤트 발행 중 예외 - eventId={}", event.getId(), e);
             // 예외 발생 시 실패 처리
-            OutboxEvent failed = event.markAsFailed(e.getMessage());
-            outboxRepository.save(failed);
+            ackBatcher.failed(event, e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
+
+    static ProducerRecord<String, String> toRecord(OutboxEvent event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(event.getTopic(), event.getAggregateId(), event.getPayload());
+        record.headers()
+                .add(HEADER_EVENT_TYPE, event.getEventType().getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_AGGREGATE_TYPE, event.getAggregateType().getBytes(StandardCharsets.UTF_8));
+        if (event.getId() != null)
+            record.headers().add(HEADER_OUTBOX_ID, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        if (event.getSagaId() != null)
+            record.headers().add(HEADER_SAGA_ID, event.getSagaId().getBytes(StandardCharsets.UTF_8));
+        if (event.getCreatedAt() != null)
+            record.headers().add(HEADER_OUTBOX_CREATED_AT, epochMillis(event.getCreatedAt()));
+        record.headers().add(HEADER_PUBLISHED_AT, Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private static byte[] epochMillis(LocalDateTime time) {
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private OutboxRepository repositoryOf(String aggregateType) {
+        OutboxRepository repository = outboxRepositories.get(aggregateType);
+        if (repository == null)
+            throw new IllegalArgumentException("지원하지 않는 Outbox aggregateType: " + aggregateType);
+        return repository;
+    }
 }
@@ -0,0 +1,10 @@
+package com.gomdol.concert.common.application.outbox;
+
+/**
+ * Outbox에 저장할 이벤트 (일괄 저장용)
+ */
+public record OutboxMessage(String aggregateId, String eventType, String topic, Object event) {
+    public static OutboxMessage of(String aggregateId, String eventType, String topic, Object event) {
+        return new OutboxMessage(aggregateId, eventType, topic, event);
+    }
+}
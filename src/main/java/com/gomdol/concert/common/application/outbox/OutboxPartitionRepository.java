@@ -0,0 +1,21 @@
+package com.gomdol.concert.common.application.outbox;
+
+import java.time.LocalDate;
+
+/**
+ * Outbox 파티션 관리 Port
+ * - created_at 일 단위 RANGE 파티션이 적용된 Outbox 테이블에서 사용
+ */
+public interface OutboxPartitionRepository {
+
+    /**
+     * before 이전 날짜의 파티션 삭제 (PUBLISHED가 아닌 이벤트가 남아 있는 파티션은 유지)
+     * @return 삭제한 파티션 수
+     */
+    int dropPartitionsBefore(String aggregateType, LocalDate before);
+
+    /**
+     * until 날짜까지의 파티션이 없으면 생성
+     */
+    void createPartitionsUntil(String aggregateType, LocalDate until);
+}
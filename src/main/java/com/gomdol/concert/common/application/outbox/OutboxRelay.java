@@ -0,0 +1,222 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.infra.config.OutboxRelayProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 서비스 공통 Outbox Relay
+ * - 모든 Outbox 테이블(OutboxRepository 구현체)을 하나의 Relay가 처리
+ * - aggregateId 해시로 워커를 고정 → 같은 aggregate는 순서 보장, 서로 다른 aggregate는 병렬 발행
+ * - Kafka ack 대기 건수(maxInFlight)를 넘으면 더 이상 선점하지 않음 (backpressure)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final int MAX_PAGES_PER_RUN = 10;
+
+    private final Map<String, OutboxRepository> outboxRepositories;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final OutboxRelayProperties properties;
+    private final ExecutorService[] workers;
+    private final Semaphore inFlight;
+    private final String instanceId = ManagementFactory.getRuntimeMXBean().getName(); // pid@hostname
+
+    public OutboxRelay(List<OutboxRepository> outboxRepositories, OutboxEventPublisher outboxEventPublisher, OutboxRelayProperties properties) {
+        this.outboxRepositories = outboxRepositories.stream()
+                .collect(Collectors.toMap(OutboxRepository::aggregateType, Function.identity()));
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.properties = properties;
+        this.inFlight = new Semaphore(properties.maxInFlight());
+        this.workers = new ExecutorService[properties.workerCount()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-relay-" + i + "-"));
+        }
+    }
+
+    /**
+     * 커밋 직후 단건 발행
+     * - 선점에 성공한 경우에만 발행 (스케줄러/다른 인스턴스와 중복 발행 방지)
+     * - 발행 여유가 없으면 PENDING으로 두고 스케줄러에 맡김
+     */
+    public void dispatch(OutboxEvent event) {
+        if (!inFlight.tryAcquire()) {
+            log.debug("Outbox 발행 대기 한도 초과 - 스케줄러에서 발행 예정 eventId={}", event.getId());
+            return;
+        }
+
+        LocalDateTime leaseUntil = leaseUntil();
+        boolean claimed;
+        try {
+            claimed = repositoryOf(event.getAggregateType()).claim(event.getId(), instanceId, leaseUntil);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+
+        if (!claimed) {
+            inFlight.release();
+            log.debug("Outbox 이벤트 이미 선점됨 - eventId={}", event.getId());
+            return;
+        }
+        submit(event.markAsInFlight(instanceId, leaseUntil));
+    }
+
+    /**
+     * threshold 이전에 생성된 PENDING(+ lease 만료) 이벤트를 테이블별로 선점하여 발행
+     * @return 발행 요청한 이벤트 수
+     */
+    public int relayPendingEvents(LocalDateTime threshold) {
+        int relayed = 0;
+        for (OutboxRepository repository : outboxRepositories.values()) {
+            relayed += relayPendingEvents(repository, threshold);
+        }
+        return relayed;
+    }
+
+    private int relayPendingEvents(OutboxRepository repository, LocalDateTime threshold) {
+        int relayed = 0;
+        for (int page = 0; page < MAX_PAGES_PER_RUN; page++) {
+            // 발행 여유만큼만 선점 (선점 후 lease 동안 다른 인스턴스가 가져가지 못하므로)
+            int limit = reservePermits();
+            if (limit == 0) {
+                log.warn("[{} Outbox] 발행 대기 한도 도달 - inFlight={}", repository.aggregateType(), inFlightCount());
+                break;
+            }
+
+            List<OutboxEvent> claimed = claimWithin(limit, () -> repository.claimPendingEvents(instanceId, threshold, leaseUntil(), limit));
+            claimed.forEach(this::submit);
+
+            relayed += claimed.size();
+            if (claimed.size() < limit)
+                break;
+        }
+        return relayed;
+    }
+
+    /**
+     * 재시도 가능한 FAILED 이벤트를 테이블별로 선점하여 재발행
+     * - PENDING과 같이 선점(IN_FLIGHT + lease)한 이벤트만 발행 → 인스턴스 수만큼 중복 발행되지 않음
+     * @return 재발행 요청한 이벤트 수
+     */
+    public int retryFailedEvents() {
+        int retried = 0;
+        for (OutboxRepository repository : outboxRepositories.values()) {
+            int limit = reservePermits();
+            if (limit == 0) {
+                log.warn("[{} Outbox] 발행 대기 한도 도달 - 재시도 보류 inFlight={}", repository.aggregateType(), inFlightCount());
+                break;
+            }
+
+            List<OutboxEvent> claimed = claimWithin(limit, () -> repository.claimFailedEvents(instanceId, properties.maxRetries(), leaseUntil(), limit));
+            claimed.forEach(this::submit);
+            retried += claimed.size();
+        }
+        return retried;
+    }
+
+    /**
+     * 선점 전에 발행 여유(permit)를 미리 확보
+     * - dispatch()와 경합해 확보에 실패하면 남은 여유만큼 줄여서 재시도 (블로킹하지 않음)
+     * @return 확보한 permit 수 (0이면 이번 주기는 건너뜀)
+     */
+    private int reservePermits() {
+        int limit = Math.min(properties.batchSize(), inFlight.availablePermits());
+        while (limit > 0 && !inFlight.tryAcquire(limit)) {
+            limit = Math.min(limit - 1, inFlight.availablePermits());
+        }
+        return Math.max(limit, 0);
+    }
+
+    /**
+     * 확보한 permit 범위 안에서 선점하고, 선점하지 못한 만큼 permit 반환
+     */
+    private List<OutboxEvent> claimWithin(int reserved, Supplier<List<OutboxEvent>> claim) {
+        List<OutboxEvent> claimed;
+        try {
+            claimed = claim.get();
+        } catch (RuntimeException e) {
+            inFlight.release(reserved);
+            throw e;
+        }
+        if (claimed.size() < reserved)
+            inFlight.release(reserved - claimed.size());
+        return claimed;
+    }
+
+    public int inFlightCount() {
+        return properties.maxInFlight() - inFlight.availablePermits();
+    }
+
+    /**
+     * aggregateId 해시로 워커를 선택하여 발행
+     * - 워커는 단일 스레드이므로 같은 aggregate의 이벤트는 선점 순서대로 전송됨
+     */
+    private void submit(OutboxEvent event) {
+        try {
+            workerOf(event.getAggregateId()).execute(() -> {
+                try {
+                    outboxEventPublisher.publishEvent(event).whenComplete((result, ex) -> inFlight.release());
+                } catch (RuntimeException e) {
+                    inFlight.release();
+                    log.error("Outbox 이벤트 발행 실패 - eventId={}", event.getId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - IN_FLIGHT 이벤트는 lease 만료 후 재발행됨
+            inFlight.release();
+            log.warn("Outbox Relay 종료 중 - eventId={}", event.getId());
+        }
+    }
+
+    private ExecutorService workerOf(String aggregateId) {
+        return workers[Math.floorMod(Objects.hashCode(aggregateId), workers.length)];
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plusNanos(properties.leaseMs() * 1_000_000);
+    }
+
+    private OutboxRepository repositoryOf(String aggregateType) {
+        OutboxRepository repository = outboxRepositories.get(aggregateType);
+        if (repository == null)
+            throw new IllegalArgumentException("지원하지 않는 Outbox aggregateType: " + aggregateType);
+        return repository;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ExecutorService worker : workers) {
+            worker.shutdown();
+        }
+        try {
+            for (ExecutorService worker : workers) {
+                if (!worker.awaitTermination(5, TimeUnit.SECONDS))
+                    worker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            for (ExecutorService worker : workers) {
+                worker.shutdownNow();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+}
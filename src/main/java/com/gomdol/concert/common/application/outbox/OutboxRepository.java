@@ -5,6 +5,7 @@ import com.gomdol.concert.common.domain.outbox.OutboxStatus;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Outbox Repository Port
@@ -17,22 +18,62 @@ public interface OutboxRepository {
     OutboxEvent save(OutboxEvent event);
 
     /**
-     * PENDING 상태 이벤트 조회
+     * Outbox 이벤트 일괄 저장 (배치 Consumer용)
      */
-    List<OutboxEvent> findPendingEvents();
+    List<OutboxEvent> saveAll(List<OutboxEvent> events);
 
     /**
-     * FAILED 상태이면서 재시도 가능한 이벤트 조회
+     * 발행 대상 이벤트를 최대 limit건 선점 (IN_FLIGHT로 변경)
+     * - threshold 이전에 생성된 PENDING 이벤트 + lease가 만료된 IN_FLIGHT 이벤트
+     * - 다른 인스턴스가 선점 중인 행은 건너뜀 (FOR UPDATE SKIP LOCKED)
      */
-    List<OutboxEvent> findFailedEventsForRetry(int maxRetries);
+    List<OutboxEvent> claimPendingEvents(String owner, LocalDateTime threshold, LocalDateTime leaseUntil, int limit);
 
     /**
-     * 오래된 PUBLISHED 이벤트 조회 (정리용)
+     * 단건 선점 (커밋 직후 즉시 발행용)
+     * @return PENDING 상태였고 선점에 성공한 경우 true
      */
-    List<OutboxEvent> findOldPublishedEvents(LocalDateTime threshold);
+    boolean claim(Long id, String owner, LocalDateTime leaseUntil);
 
     /**
-     * 이벤트 삭제
+     * 발행 성공 일괄 반영 (UPDATE ... WHERE id IN)
+     * - owner가 선점 중인(IN_FLIGHT) 행만 반영 → lease 만료 후 다른 Relay가 다시 선점한 행은 건너뜀
+     * @return 반영된 행 수
      */
-    void delete(OutboxEvent event);
+    int markPublished(List<Long> ids, String owner, LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 반영 (UPDATE ... WHERE id IN, retryCount 증가)
+     * - owner가 선점 중인(IN_FLIGHT) 행만 반영 → 늦게 도착한 실패 ack가 PUBLISHED를 FAILED로 되돌리지 않음
+     * @return 반영된 행 수
+     */
+    int markFailed(List<Long> ids, String owner, String errorMessage);
+
+    /**
+     * 재시도 가능한 FAILED 이벤트를 최대 limit건 선점 (IN_FLIGHT로 변경)
+     * - retryCount < maxRetries
+     * - 다른 인스턴스가 선점 중인 행은 건너뜀 (FOR UPDATE SKIP LOCKED), lease 만료 시 claimPendingEvents에서 다시 선점
+     */
+    List<OutboxEvent> claimFailedEvents(String owner, int maxRetries, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * 가장 작은 PUBLISHED 이벤트 ID (보관 기간 정리 시작점)
+     * - 삭제되지 않는 FAILED(재시도 한도 초과)/PENDING 행이 시작점을 붙잡지 않도록 PUBLISHED만 기준
+     */
+    Optional<Long> findMinPublishedId();
+
+    /**
+     * threshold 이전에 생성된 이벤트 중 가장 큰 ID (보관 기간 정리 끝점)
+     */
+    Optional<Long> findMaxIdCreatedBefore(LocalDateTime threshold);
+
+    /**
+     * [fromId, toId) 범위의 PUBLISHED 이벤트 삭제
+     */
+    int deletePublishedInIdRange(long fromId, long toId);
+
+    /**
+     * 담당하는 Aggregate 타입 (PAYMENT, POINT, RESERVATION)
+     */
+    String aggregateType();
 }
@@ -0,0 +1,101 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.infra.config.OutboxRelayProperties;
+import com.gomdol.concert.common.infra.config.OutboxRetentionProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Outbox 보관 기간 정리
+ * - 파티션 테이블이면 오래된 일자 파티션을 DROP PARTITION으로 제거 (행 단위 삭제 없음)
+ * - 남은 행은 id 범위 청크 단위 DELETE (전체 조회 후 건별 삭제 제거)
+ */
+@Slf4j
+@Component
+public class OutboxRetention {
+
+    private final List<OutboxRepository> outboxRepositories;
+    private final OutboxPartitionRepository partitionRepository;
+    private final OutboxRelayProperties relayProperties;
+    private final OutboxRetentionProperties properties;
+
+    public OutboxRetention(List<OutboxRepository> outboxRepositories,
+                           ObjectProvider<OutboxPartitionRepository> partitionRepository,
+                           OutboxRelayProperties relayProperties,
+                           OutboxRetentionProperties properties) {
+        this.outboxRepositories = outboxRepositories;
+        this.partitionRepository = partitionRepository.getIfAvailable();
+        this.relayProperties = relayProperties;
+        this.properties = properties;
+    }
+
+    /**
+     * 모든 Outbox 테이블 정리
+     * @return 행 단위로 삭제한 이벤트 수 (DROP PARTITION으로 제거된 행 제외)
+     */
+    public int purgeAll() {
+        LocalDateTime threshold = LocalDate.now().minusDays(relayProperties.cleanupDays()).atStartOfDay();
+        int deleted = 0;
+        for (OutboxRepository repository : outboxRepositories) {
+            try {
+                if (partitionEnabled())
+                    rotatePartitions(repository.aggregateType(), threshold.toLocalDate());
+                deleted += purge(repository, threshold);
+            } catch (Exception e) {
+                log.error("[{} Outbox] 보관 기간 정리 실패", repository.aggregateType(), e);
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * [PUBLISHED 중 MIN(id), threshold 이전 MAX(id)] 범위를 chunkSize 단위로 나눠 삭제
+     * - 청크마다 별도 트랜잭션 → 잠금/undo 크기가 청크 크기로 제한됨
+     * - 시작점은 PUBLISHED 기준 → 남아 있는 FAILED/PENDING 행 때문에 매일 이미 비운 구간을 다시 훑지 않음
+     */
+    int purge(OutboxRepository repository, LocalDateTime threshold) {
+        Optional<Long> maxId = repository.findMaxIdCreatedBefore(threshold);
+        if (maxId.isEmpty())
+            return 0;
+
+        long end = maxId.get() + 1;
+        long from = repository.findMinPublishedId().orElse(end);
+        int deleted = 0;
+        while (from < end) {
+            long to = Math.min(from + properties.chunkSize(), end);
+            deleted += repository.deletePublishedInIdRange(from, to);
+            from = to;
+            pause();
+        }
+
+        log.info("[{} Outbox] 보관 기간 정리 완료 - 삭제 개수: {}", repository.aggregateType(), deleted);
+        return deleted;
+    }
+
+    private void rotatePartitions(String aggregateType, LocalDate before) {
+        int dropped = partitionRepository.dropPartitionsBefore(aggregateType, before);
+        partitionRepository.createPartitionsUntil(aggregateType, LocalDate.now().plusDays(properties.partitionAheadDays()));
+        if (dropped > 0)
+            log.info("[{} Outbox] 파티션 삭제 완료 - 삭제 파티션 수: {}", aggregateType, dropped);
+    }
+
+    private boolean partitionEnabled() {
+        return properties.partitionDropEnabled() && partitionRepository != null;
+    }
+
+    private void pause() {
+        if (properties.chunkPauseMs() <= 0)
+            return;
+        try {
+            Thread.sleep(properties.chunkPauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.gomdol.concert.common.application.pagination;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션 커서 인코딩
+ * - 마지막으로 내려준 행의 id를 버전 접두어와 함께 Base64(URL-safe)로 감싸 클라이언트에는 불투명 문자열로 노출
+ * - 정렬 키가 바뀌어도 접두어 버전으로 구분 가능
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    public static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서가 없으면 null (첫 페이지)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX))
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            return Long.parseLong(raw.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException e) {  // Base64 디코딩 실패, NumberFormatException 포함
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.gomdol.concert.common.config;
 
+import com.gomdol.concert.common.infra.kafka.KeyOrderedParallelProcessor;
+import com.gomdol.concert.common.infra.kafka.SagaHopInterceptor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -7,6 +9,7 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
@@ -34,11 +37,24 @@ public class KafkaConfig {
     @Value("${kafka.producer.retries}")
     private int retries;
 
+    @Value("${kafka.consumer.max-poll-records:100}")
+    private int maxPollRecords;
+
+    @Value("${kafka.consumer.concurrency.default:1}")
+    private int defaultConcurrency;
+
+    @Value("${kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${kafka.producer.outbox.compression-type:lz4}")
+    private String outboxCompressionType;
+
     /**
      * Kafka Producer 설정 (범용 Object 타입)
      * 모든 이벤트 타입을 JSON으로 직렬화
      */
     @Bean
+    @Primary
     public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
@@ -52,10 +68,36 @@ public class KafkaConfig {
     }
 
     @Bean
+    @Primary
     public KafkaTemplate<String, Object> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * Outbox 전용 Producer 설정
+     * Outbox에 저장된 JSON payload를 그대로 전송 (역직렬화/재직렬화 없음)
+     * - 이벤트 타입 등 메타데이터는 헤더로 전달
+     * - 배치 단위 압축 (none, lz4, zstd 등)
+     */
+    @Bean
+    public ProducerFactory<String, String> outboxProducerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.ACKS_CONFIG, acks);
+        config.put(ProducerConfig.RETRIES_CONFIG, retries);
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);  // 멱등성 보장
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, outboxCompressionType);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        return new DefaultKafkaProducerFactory<>(config);
+    }
+
+    @Bean
+    public KafkaTemplate<String, String> outboxKafkaTemplate() {
+        return new KafkaTemplate<>(outboxProducerFactory());
+    }
+
     /**
      * Kafka Consumer 설정 (범용 Object 타입)
      * TYPE_MAPPINGS를 사용하여 토픽별 이벤트 타입 매핑
@@ -71,14 +113,41 @@ public class KafkaConfig {
         config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);  // 타입 정보 헤더 사용 안함
         config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);  // 수동 커밋
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");  // 처음부터 읽기
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return new DefaultKafkaConsumerFactory<>(config);
     }
 
+    /**
+     * 단건 Listener 설정
+     * - concurrency: 기본값, Listener별로 @KafkaListener(concurrency = "${kafka.consumer.concurrency.xxx}")로 재정의
+     * - 파티션 수보다 큰 concurrency는 유휴 스레드만 늘어남 (메시지 키 단위 파티셔닝, 키별 순서 보장)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(SagaHopInterceptor sagaHopInterceptor) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(defaultConcurrency);
+        factory.setRecordInterceptor(sagaHopInterceptor);  // Saga 구간 지연 측정 (saga.hop)
+        factory.getContainerProperties().setAckMode(org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * 배치 Listener 설정
+     * poll 단위(최대 max-poll-records)로 List를 전달받아 한 트랜잭션에서 처리
+     * - 처리 실패 시 BatchListenerFailedException(index)로 실패 레코드부터 재처리
+     * - 파티션 회수 시 병렬 처리기의 재전달 건너뜀 기록 삭제
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(SagaHopInterceptor sagaHopInterceptor,
+                                                                                                      KeyOrderedParallelProcessor parallelProcessor) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(defaultConcurrency);
+        factory.setBatchListener(true);
+        factory.setBatchInterceptor(sagaHopInterceptor);  // Saga 구간 지연 측정 (saga.hop)
         factory.getContainerProperties().setAckMode(org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setConsumerRebalanceListener(parallelProcessor);
         return factory;
     }
 }
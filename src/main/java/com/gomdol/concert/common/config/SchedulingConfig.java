@@ -0,0 +1,13 @@
+package com.gomdol.concert.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * @Scheduled 어노테이션을 사용하기 위한 설정 (Outbox 재발행, 대기열 토큰 관리 등)
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+}
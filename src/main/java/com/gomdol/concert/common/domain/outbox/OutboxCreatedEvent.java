@@ -0,0 +1,11 @@
+package com.gomdol.concert.common.domain.outbox;
+
+/**
+ * Outbox 이벤트 저장 완료 로컬 이벤트
+ * - 트랜잭션 커밋 직후 Kafka로 즉시 발행하기 위해 사용
+ */
+public record OutboxCreatedEvent(OutboxEvent outboxEvent) {
+    public static OutboxCreatedEvent of(OutboxEvent outboxEvent) {
+        return new OutboxCreatedEvent(outboxEvent);
+    }
+}
@@ -21,6 +21,9 @@ public class OutboxEvent {
     private final LocalDateTime publishedAt;
     private final int retryCount;
     private final String errorMessage;
+    private final String claimedBy;      // 선점한 인스턴스 ID (IN_FLIGHT)
+    private final LocalDateTime leaseUntil; // 선점 만료 시각 (IN_FLIGHT)
+    private final String sagaId;         // Saga 추적 ID (paymentId), Kafka 헤더로 전달
 
     private OutboxEvent(
             Long id,
@@ -33,7 +36,10 @@ public class OutboxEvent {
             LocalDateTime createdAt,
             LocalDateTime publishedAt,
             int retryCount,
-            String errorMessage
+            String errorMessage,
+            String claimedBy,
+            LocalDateTime leaseUntil,
+            String sagaId
     ) {
         this.id = id;
         this.aggregateType = aggregateType;
@@ -46,6 +52,9 @@ public class OutboxEvent {
         this.publishedAt = publishedAt;
         this.retryCount = retryCount;
         this.errorMessage = errorMessage;
+        this.claimedBy = claimedBy;
+        this.leaseUntil = leaseUntil;
+        this.sagaId = sagaId;
     }
 
     /**
@@ -57,6 +66,20 @@ public class OutboxEvent {
             String eventType,
             String topic,
             String payload
+    ) {
+        return create(aggregateType, aggregateId, eventType, topic, payload, null);
+    }
+
+    /**
+     * 새로운 Outbox 이벤트 생성 (Saga 메시지)
+     */
+    public static OutboxEvent create(
+            String aggregateType,
+            String aggregateId,
+            String eventType,
+            String topic,
+            String payload,
+            String sagaId
     ) {
         return new OutboxEvent(
                 null,
@@ -69,7 +92,10 @@ public class OutboxEvent {
                 LocalDateTime.now(),
                 null,
                 0,
-                null
+                null,
+                null,
+                null,
+                sagaId
         );
     }
 
@@ -88,6 +114,28 @@ public class OutboxEvent {
             LocalDateTime publishedAt,
             int retryCount,
             String errorMessage
+    ) {
+        return of(id, aggregateType, aggregateId, eventType, topic, payload, status, createdAt, publishedAt, retryCount, errorMessage, null, null, null);
+    }
+
+    /**
+     * DB에서 조회한 기존 이벤트 (선점 정보, Saga ID 포함)
+     */
+    public static OutboxEvent of(
+            Long id,
+            String aggregateType,
+            String aggregateId,
+            String eventType,
+            String topic,
+            String payload,
+            OutboxStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime publishedAt,
+            int retryCount,
+            String errorMessage,
+            String claimedBy,
+            LocalDateTime leaseUntil,
+            String sagaId
     ) {
         return new OutboxEvent(
                 id,
@@ -100,7 +148,10 @@ public class OutboxEvent {
                 createdAt,
                 publishedAt,
                 retryCount,
-                errorMessage
+                errorMessage,
+                claimedBy,
+                leaseUntil,
+                sagaId
         );
     }
 
@@ -119,7 +170,10 @@ public class OutboxEvent {
                 this.createdAt,
                 LocalDateTime.now(),
                 this.retryCount,
-                null
+                null,
+                null,
+                null,
+                this.sagaId
         );
     }
 
@@ -138,7 +192,32 @@ public class OutboxEvent {
                 this.createdAt,
                 this.publishedAt,
                 this.retryCount + 1,
-                errorMessage
+                errorMessage,
+                null,
+                null,
+                this.sagaId
+        );
+    }
+
+    /**
+     * 발행 선점 처리 (IN_FLIGHT)
+     */
+    public OutboxEvent markAsInFlight(String claimedBy, LocalDateTime leaseUntil) {
+        return new OutboxEvent(
+                this.id,
+                this.aggregateType,
+                this.aggregateId,
+                this.eventType,
+                this.topic,
+                this.payload,
+                OutboxStatus.IN_FLIGHT,
+                this.createdAt,
+                this.publishedAt,
+                this.retryCount,
+                this.errorMessage,
+                claimedBy,
+                leaseUntil,
+                this.sagaId
         );
     }
 }
@@ -5,6 +5,7 @@ package com.gomdol.concert.common.domain.outbox;
  */
 public enum OutboxStatus {
     PENDING,    // 발행 대기 중
+    IN_FLIGHT,  // 인스턴스가 선점하여 발행 중 (lease 만료 시 다시 선점 가능)
     PUBLISHED,  // 발행 완료
     FAILED      // 발행 실패
 }
@@ -0,0 +1,9 @@
+package com.gomdol.concert.common.domain.saga;
+
+/**
+ * 결제 Saga에 참여하는 Command/Event
+ * - sagaId: Saga 추적 ID (paymentId), Outbox 저장 시 함께 저장되어 Kafka 헤더로 전달
+ */
+public interface SagaMessage {
+    String sagaId();
+}
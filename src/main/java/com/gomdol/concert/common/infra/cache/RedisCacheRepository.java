@@ -62,6 +62,20 @@ public class RedisCacheRepository implements CacheRepository {
         }
     }
 
+    @Override
+    public <T> boolean setIfAbsent(String key, T value, Duration ttl) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 값 직렬화에 실패했습니다. key=" + key, e);
+        }
+
+        boolean stored = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, json, ttl));
+        log.debug("Cache setIfAbsent - key: {}, stored: {}", key, stored);
+        return stored;
+    }
+
     @Override
     public void delete(String key) {
         try {
@@ -0,0 +1,20 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Consumer Inbox 설정
+ * - store: jdbc (consumer_inbox 테이블, INSERT IGNORE) / redis (SET NX + TTL)
+ * - retentionHours: 중복 판별 보관 기간 (재전달 가능 기간보다 길게)
+ * - purgeChunkSize: jdbc 저장소 정리 시 한 번에 삭제할 행 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "inbox")
+public record InboxProperties(
+        String store,
+        @Min(1) @Max(720) int retentionHours,
+        @Min(100) @Max(100000) int purgeChunkSize
+) {}
@@ -0,0 +1,44 @@
+package com.gomdol.concert.common.infra.config;
+
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리더보드 설정
+ * - dimensions × windows 조합마다 보드 하나 (판매 1건 → 모든 보드를 스크립트 1회로 갱신)
+ * - windows: name(조회 키), size(윈도우 길이), bucket(만료 단위, size의 약수)
+ */
+@Validated
+@ConfigurationProperties(prefix = "leaderboard")
+public record LeaderboardProperties(
+        @NotEmpty List<LeaderboardDimension> dimensions,
+        @NotEmpty List<@Valid Window> windows
+) {
+    public record Window(
+            @NotBlank String name,
+            @NotNull Duration size,
+            @NotNull Duration bucket
+    ) {
+        @AssertTrue(message = "bucket은 size의 약수(초 단위)여야 합니다.")
+        public boolean isBucketAligned() {
+            return size == null || bucket == null
+                    || (bucket.toSeconds() > 0 && size.toSeconds() >= bucket.toSeconds() && size.toSeconds() % bucket.toSeconds() == 0);
+        }
+    }
+
+    public Window window(String name) {
+        return windows.stream()
+                .filter(window -> window.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 리더보드 기간입니다: " + name));
+    }
+}
@@ -0,0 +1,9 @@
+package com.gomdol.concert.common.infra.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({OutboxRelayProperties.class, OutboxRetentionProperties.class})
+public class OutboxConfig {
+}
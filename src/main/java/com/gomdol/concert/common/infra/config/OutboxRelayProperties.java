@@ -0,0 +1,25 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Outbox Relay 설정
+ * - workerCount: 발행 워커 수 (aggregateId 해시로 분배, 같은 aggregate는 같은 워커에서 순서대로 발행)
+ * - maxInFlight: Kafka ack 대기 중인 최대 메시지 수 (초과 시 선점 중단 → backpressure)
+ */
+@Validated
+@ConfigurationProperties(prefix = "outbox.scheduler")
+public record OutboxRelayProperties(
+        @Min(100) long publishIntervalMs,
+        @Min(1000) long retryIntervalMs,
+        @Min(0) int maxRetries,
+        @Min(1) @Max(1000) int batchSize,
+        @Min(1) int cleanupDays,
+        @Min(0) long stragglerGraceMs,
+        @Min(1000) long leaseMs,
+        @Min(1) @Max(64) int workerCount,
+        @Min(1) @Max(100000) int maxInFlight
+) {}
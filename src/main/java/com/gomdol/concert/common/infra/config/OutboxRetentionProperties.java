@@ -0,0 +1,22 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Outbox 보관 기간 정리 설정
+ * - chunkSize: 한 번의 DELETE가 다루는 id 범위 크기 (트랜잭션/잠금 크기 제한)
+ * - chunkPauseMs: 청크 사이 대기 시간 (복제 지연/IO 부하 완화)
+ * - partitionDropEnabled: created_at 일 단위 RANGE 파티션 테이블인 경우 DROP PARTITION 사용
+ * - partitionAheadDays: 미리 만들어 둘 미래 파티션 일 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "outbox.retention")
+public record OutboxRetentionProperties(
+        @Min(100) @Max(100000) int chunkSize,
+        @Min(0) long chunkPauseMs,
+        boolean partitionDropEnabled,
+        @Min(1) @Max(90) int partitionAheadDays
+) {}
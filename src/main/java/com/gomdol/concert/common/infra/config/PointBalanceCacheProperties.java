@@ -0,0 +1,20 @@
+package com.gomdol.concert.common.infra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 포인트 잔액 캐시 설정
+ * - ttl: Redis 보관 기간 (쓰기 반영 누락 시 최대 stale 기간)
+ * - nearCacheTtl: 인스턴스 로컬 캐시 보관 기간 (다른 인스턴스의 변경이 보이기까지의 최대 지연)
+ * - nearCacheMaxSize: 로컬 캐시 최대 항목 수 (초과 시 비움)
+ */
+@Validated
+@ConfigurationProperties(prefix = "point.balance-cache")
+public record PointBalanceCacheProperties(
+        Duration ttl,
+        Duration nearCacheTtl,
+        int nearCacheMaxSize
+) {}
@@ -0,0 +1,20 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 원장(ledger) 저장소 스냅샷 설정 (point.store=ledger)
+ * - snapshotIntervalMs: 스냅샷 압축 주기
+ * - minTailSize: 스냅샷 이후 이력이 이 건수 이상 쌓인 사용자만 압축
+ * - batchSize: 한 번에 조회할 압축 대상 사용자 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "point.ledger")
+public record PointLedgerProperties(
+        @Min(1000) long snapshotIntervalMs,
+        @Min(1) int minTailSize,
+        @Min(1) @Max(10000) int batchSize
+) {}
@@ -0,0 +1,18 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 랭킹 재구성 설정
+ * - warmUpOnStartup: 기동 시 랭킹이 비어 있으면 MySQL에서 재구성
+ * - writeBatchSize: Redis 파이프라인 한 번에 적재할 콘서트 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "ranking.rebuild")
+public record RankingRebuildProperties(
+        boolean warmUpOnStartup,
+        @Min(1) @Max(10000) int writeBatchSize
+) {}
@@ -0,0 +1,21 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 랭킹 재계산 설정 (ranking.rescore.enabled=true)
+ * - intervalMs: 전체 랭킹 재계산 주기
+ * - batchSize: 한 번에 통계 조회/점수 반영할 콘서트 수
+ * - halfLifeMinutes: 판매속도 시간 감쇠 반감기 (0이면 최근 60분 판매량 단순 합)
+ */
+@Validated
+@ConfigurationProperties(prefix = "ranking.rescore")
+public record RankingRescoreProperties(
+        @Min(1000) long intervalMs,
+        @Min(1) @Max(1000) int batchSize,
+        @DecimalMin("0") double halfLifeMinutes
+) {}
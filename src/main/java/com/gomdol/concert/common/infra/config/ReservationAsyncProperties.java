@@ -0,0 +1,19 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 비동기 예약(접수 후 폴링) 모드 설정
+ * - workerCount: 예약 처리 워커 수 (DB 커넥션 풀 크기 이하로 설정)
+ * - queueCapacity: 워커가 처리하기 전 대기할 수 있는 최대 요청 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "reservation.async")
+public record ReservationAsyncProperties(
+        boolean enabled,
+        @Min(1) @Max(64) int workerCount,
+        @Min(1) @Max(100000) int queueCapacity
+) {}
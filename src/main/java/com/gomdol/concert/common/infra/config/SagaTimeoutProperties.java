@@ -0,0 +1,22 @@
+package com.gomdol.concert.common.infra.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 결제 Saga 단계별 기한 설정
+ * - pointStepTimeoutMs: UsePointCommand 발행 후 PointUsedEvent 대기 기한
+ * - seatsStepTimeoutMs: ConfirmSeatsCommand 발행 후 SeatsConfirmedEvent 대기 기한
+ * - 기한은 Outbox 재시도(retry-interval-ms × max-retries)보다 길게 잡아 정상 재시도 중인 Saga를 보상하지 않도록 함
+ * - batchSize: 스캐너가 한 트랜잭션에서 보상할 최대 Saga 수
+ */
+@Validated
+@ConfigurationProperties(prefix = "saga.timeout")
+public record SagaTimeoutProperties(
+        @Min(1000) long pointStepTimeoutMs,
+        @Min(1000) long seatsStepTimeoutMs,
+        @Min(1000) long scanIntervalMs,
+        @Min(1) @Max(1000) int batchSize
+) {}
@@ -0,0 +1,44 @@
+package com.gomdol.concert.common.infra.inbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Consumer Inbox 테이블 매핑 (스키마 정의용, 읽기/쓰기는 JdbcInboxRepository의 네이티브 SQL)
+ * - PK (consumer_group, message_id) → INSERT IGNORE로 중복 판별
+ */
+@Getter
+@Entity
+@IdClass(ConsumerInboxEntity.InboxId.class)
+@Table(name = "consumer_inbox",
+        indexes = {
+                @Index(name = "ix_consumer_inbox_received_at", columnList = "received_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ConsumerInboxEntity {
+
+    @Id
+    @Column(name = "consumer_group", nullable = false, length = 100)
+    private String consumerGroup;
+
+    @Id
+    @Column(name = "message_id", nullable = false, length = 200)
+    private String messageId;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class InboxId implements Serializable {
+        private String consumerGroup;
+        private String messageId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.gomdol.concert.common.infra.inbox;
+
+import com.gomdol.concert.common.application.inbox.InboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * MySQL consumer_inbox 테이블 기반 Inbox (inbox.store=jdbc, 기본값)
+ * - INSERT IGNORE 한 번으로 중복 판별 (PK 충돌 시 영향 행 0)
+ * - 처리 트랜잭션에 참여 → 롤백 시 기록도 취소, 동시 재전달은 PK 잠금에서 대기 후 중복으로 판별
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inbox.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcInboxRepository implements InboxRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean record(String consumerGroup, String messageId) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO consumer_inbox (consumer_group, message_id, received_at) VALUES (?, ?, ?)",
+                consumerGroup, messageId, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public int deleteReceivedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM consumer_inbox WHERE received_at < ? LIMIT ?", before, limit);
+    }
+}
@@ -0,0 +1,53 @@
+package com.gomdol.concert.common.infra.inbox;
+
+import com.gomdol.concert.common.application.inbox.InboxRepository;
+import com.gomdol.concert.common.infra.config.InboxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Redis 기반 Inbox (inbox.store=redis)
+ * - SET NX + TTL 한 번으로 중복 판별, 보관 기간은 TTL로 만료
+ * - DB 트랜잭션에 참여하지 않으므로 트랜잭션이 커밋되지 않으면 키를 삭제해 재전달 시 다시 처리되게 함
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "inbox.store", havingValue = "redis")
+public class RedisInboxRepository implements InboxRepository {
+
+    private static final String KEY_PREFIX = "inbox:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final InboxProperties properties;
+
+    @Override
+    public boolean record(String consumerGroup, String messageId) {
+        String key = KEY_PREFIX + consumerGroup + ":" + messageId;
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(key, "1", Duration.ofHours(properties.retentionHours()));
+        if (!Boolean.TRUE.equals(created))
+            return false;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED)
+                        redisTemplate.delete(key);
+                }
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public int deleteReceivedBefore(LocalDateTime before, int limit) {
+        return 0;  // TTL로 만료
+    }
+}
@@ -0,0 +1,149 @@
+package com.gomdol.concert.common.infra.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * 파티션 내 키 단위 병렬 처리기 (배치 Listener용)
+ * - poll된 레코드를 메시지 키로 묶어 키마다 하나의 작업으로 실행 → 같은 키는 순서대로, 다른 키는 동시에 처리
+ * - 키가 없는 레코드는 파티션 단위로 묶어 파티션 순서 유지
+ * - 한 키에서 실패하면 그 키의 이후 레코드는 실행하지 않음 (키 순서 보장)
+ * - 실패 시 가장 앞선 실패 index로 BatchListenerFailedException → 그 이전 offset만 커밋, 이후는 재전달
+ * - 실패 index 이후에 이미 성공한 레코드는 기억해 두었다가 재전달 시 건너뜀 (중복 처리 방지, 같은 인스턴스 한정)
+ *   → 파티션별로 보관, 커밋된 offset 이전 기록과 회수(revoke/lost)된 파티션 기록은 삭제 (무한히 쌓이지 않도록)
+ *   → 배치 Listener 컨테이너에 ConsumerRebalanceListener로 등록 (KafkaConfig)
+ */
+@Slf4j
+@Component
+public class KeyOrderedParallelProcessor implements ConsumerAwareRebalanceListener {
+
+    private final ExecutorService executor;
+    private final Map<TopicPartition, Set<Long>> completedAhead = new ConcurrentHashMap<>();
+
+    public KeyOrderedParallelProcessor(@Value("${kafka.consumer.parallel.max-concurrency:8}") int maxConcurrency) {
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, new CustomizableThreadFactory("kafka-parallel-"));
+    }
+
+    public <V> void process(List<ConsumerRecord<String, V>> records, Consumer<ConsumerRecord<String, V>> handler) {
+        Map<String, List<Integer>> groups = groupByKey(records);
+        AtomicReferenceArray<Throwable> failures = new AtomicReferenceArray<>(records.size());
+        boolean[] succeeded = new boolean[records.size()];
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(groups.size());
+        for (List<Integer> indexes : groups.values()) {
+            tasks.add(CompletableFuture.runAsync(() -> {
+                for (int index : indexes) {
+                    try {
+                        handler.accept(records.get(index));
+                        succeeded[index] = true;
+                    } catch (Exception e) {
+                        failures.set(index, e);
+                        return;  // 같은 키의 이후 레코드는 재전달 후 처리
+                    }
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        int failedIndex = firstFailure(failures);
+        if (failedIndex < 0)
+            return;
+
+        for (int i = failedIndex + 1; i < records.size(); i++) {
+            if (succeeded[i])
+                completedAhead.computeIfAbsent(partitionOf(records.get(i)), tp -> ConcurrentHashMap.newKeySet()).add(records.get(i).offset());
+        }
+        ConsumerRecord<String, V> failed = records.get(failedIndex);
+        log.warn("키 단위 병렬 처리 실패 - topic={}, partition={}, offset={}, key={}",
+                failed.topic(), failed.partition(), failed.offset(), failed.key());
+        throw new BatchListenerFailedException("레코드 처리 실패 - key=" + failed.key(), failures.get(failedIndex), failedIndex);
+    }
+
+    /**
+     * 파티션이 다른 컨슈머로 넘어가면 기록 삭제 (다시 할당돼도 커밋된 offset부터 받으므로 재사용할 일 없음)
+     * - lost는 기본 구현이 revoked를 호출
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        partitions.forEach(completedAhead::remove);
+    }
+
+    /**
+     * 키별 index 목록 (poll 순서 유지), 이전 배치에서 이미 처리된 레코드는 제외
+     */
+    private <V> Map<String, List<Integer>> groupByKey(List<ConsumerRecord<String, V>> records) {
+        pruneCommitted(records);
+
+        Map<String, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, V> record = records.get(i);
+            Set<Long> skipped = completedAhead.get(partitionOf(record));
+            if (skipped != null && skipped.remove(record.offset())) {
+                log.debug("이미 처리된 레코드 건너뜀 - topic={}, partition={}, offset={}", record.topic(), record.partition(), record.offset());
+                continue;
+            }
+            String key = record.key() != null ? record.key() : record.topic() + "-" + record.partition();
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    /**
+     * 배치의 첫 offset보다 앞선 기록은 이미 커밋된 것이므로 삭제
+     */
+    private <V> void pruneCommitted(List<ConsumerRecord<String, V>> records) {
+        Map<TopicPartition, Long> firstOffsets = new HashMap<>();
+        for (ConsumerRecord<String, V> record : records) {
+            firstOffsets.merge(partitionOf(record), record.offset(), Math::min);
+        }
+        firstOffsets.forEach((partition, firstOffset) -> completedAhead.computeIfPresent(partition, (tp, offsets) -> {
+            offsets.removeIf(offset -> offset < firstOffset);
+            return offsets.isEmpty() ? null : offsets;
+        }));
+    }
+
+    private static int firstFailure(AtomicReferenceArray<Throwable> failures) {
+        for (int i = 0; i < failures.length(); i++) {
+            if (failures.get(i) != null)
+                return i;
+        }
+        return -1;
+    }
+
+    private static TopicPartition partitionOf(ConsumerRecord<?, ?> record) {
+        return new TopicPartition(record.topic(), record.partition());
+    }
+
+    int completedAheadSize() {
+        return completedAhead.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS))
+            executor.shutdownNow();
+    }
+}
@@ -0,0 +1,116 @@
+package com.gomdol.concert.common.infra.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.gomdol.concert.common.application.outbox.OutboxEventPublisher.*;
+
+/**
+ * Saga 메시지 구간 지연 측정 (Listener Container 인터셉터)
+ * - 수신 시: Outbox 지연(publishedAt - outboxCreatedAt), 브로커 지연(수신 - publishedAt) 기록
+ * - 처리 후: 처리 시간, 전체 지연(완료 - outboxCreatedAt) 기록
+ * - Outbox 헤더가 없는 메시지(외부 이벤트 등)는 Kafka record timestamp 기준으로 브로커 지연/처리 시간만 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SagaHopInterceptor implements RecordInterceptor<String, Object>, BatchInterceptor<String, Object> {
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String NONE = "none";
+
+    private final SagaHopMetrics metrics;
+    private final ThreadLocal<Long> consumeStartedAt = new ThreadLocal<>();
+
+    @Override
+    public ConsumerRecord<String, Object> intercept(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        long now = System.currentTimeMillis();
+        consumeStartedAt.set(now);
+        recordArrival(record, now);
+        return record;
+    }
+
+    @Override
+    public void success(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        recordCompletion(record, SUCCESS);
+    }
+
+    @Override
+    public void failure(ConsumerRecord<String, Object> record, Exception exception, Consumer<String, Object> consumer) {
+        recordCompletion(record, FAILURE);
+    }
+
+    @Override
+    public void afterRecord(ConsumerRecord<String, Object> record, Consumer<String, Object> consumer) {
+        consumeStartedAt.remove();
+    }
+
+    @Override
+    public ConsumerRecords<String, Object> intercept(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        long now = System.currentTimeMillis();
+        consumeStartedAt.set(now);
+        records.forEach(record -> recordArrival(record, now));
+        return records;
+    }
+
+    @Override
+    public void success(ConsumerRecords<String, Object> records, Consumer<String, Object> consumer) {
+        records.forEach(record -> recordCompletion(record, SUCCESS));
+        consumeStartedAt.remove();
+    }
+
+    @Override
+    public void failure(ConsumerRecords<String, Object> records, Exception exception, Consumer<String, Object> consumer) {
+        records.forEach(record -> recordCompletion(record, FAILURE));
+        consumeStartedAt.remove();
+    }
+
+    private void recordArrival(ConsumerRecord<String, Object> record, long now) {
+        long createdAt = headerMillis(record, HEADER_OUTBOX_CREATED_AT);
+        long publishedAt = headerMillis(record, HEADER_PUBLISHED_AT);
+        if (createdAt > 0 && publishedAt > 0)
+            metrics.record("outbox", record.topic(), NONE, publishedAt - createdAt);
+        metrics.record("broker", record.topic(), NONE, now - (publishedAt > 0 ? publishedAt : record.timestamp()));
+    }
+
+    private void recordCompletion(ConsumerRecord<String, Object> record, String outcome) {
+        Long startedAt = consumeStartedAt.get();
+        if (startedAt == null)
+            return;
+        long now = System.currentTimeMillis();
+        metrics.record("handler", record.topic(), outcome, now - startedAt);
+
+        long createdAt = headerMillis(record, HEADER_OUTBOX_CREATED_AT);
+        if (createdAt > 0) {
+            metrics.record("total", record.topic(), outcome, now - createdAt);
+            log.debug("Saga hop - sagaId={}, topic={}, total={}ms, handler={}ms, outcome={}",
+                    headerString(record, HEADER_SAGA_ID), record.topic(), now - createdAt, now - startedAt, outcome);
+        }
+    }
+
+    private static long headerMillis(ConsumerRecord<?, ?> record, String name) {
+        String value = headerString(record, name);
+        if (value == null)
+            return -1;
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String headerString(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
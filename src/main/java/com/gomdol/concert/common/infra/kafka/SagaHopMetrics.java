@@ -0,0 +1,44 @@
+package com.gomdol.concert.common.infra.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saga 구간별 지연 Timer (saga.hop)
+ * - hop=outbox : Outbox 저장 → Relay 전송 (Outbox 지연)
+ * - hop=broker : Relay 전송 → Consumer 수신 (브로커/Consumer lag)
+ * - hop=handler: Consumer 처리 시간 (outcome=success|failure)
+ * - hop=total  : Outbox 저장 → Consumer 처리 완료
+ * - topic 태그로 Saga 단계 구분, /actuator/metrics/saga.hop?tag=hop:broker 형태로 조회
+ */
+@Component
+@RequiredArgsConstructor
+public class SagaHopMetrics {
+
+    public static final String METRIC_NAME = "saga.hop";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public void record(String hop, String topic, String outcome, long millis) {
+        if (millis < 0)
+            return;  // 인스턴스 간 시계 오차로 음수가 나오면 버림
+        timerOf(hop, topic, outcome).record(Duration.ofMillis(millis));
+    }
+
+    private Timer timerOf(String hop, String topic, String outcome) {
+        return timers.computeIfAbsent(hop + "|" + topic + "|" + outcome, key -> Timer.builder(METRIC_NAME)
+                .description("Saga 메시지 구간별 지연")
+                .tag("hop", hop)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry));
+    }
+}
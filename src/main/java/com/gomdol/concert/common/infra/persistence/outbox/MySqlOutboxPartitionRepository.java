@@ -0,0 +1,103 @@
+package com.gomdol.concert.common.infra.persistence.outbox;
+
+import com.gomdol.concert.common.application.outbox.OutboxPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * MySQL RANGE 파티션 기반 Outbox 파티션 관리
+ * - 테이블: {aggregateType}_outbox, PARTITION BY RANGE (TO_DAYS(created_at))
+ * - 파티션 이름: pYYYYMMDD (해당 일자 데이터), p_future (MAXVALUE)
+ * - DDL은 docs/outbox-retention.md 참고
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "outbox.retention.partition-drop-enabled", havingValue = "true")
+public class MySqlOutboxPartitionRepository implements OutboxPartitionRepository {
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final long TO_DAYS_EPOCH = 719528L; // TO_DAYS('1970-01-01')
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int dropPartitionsBefore(String aggregateType, LocalDate before) {
+        String table = tableOf(aggregateType);
+        int dropped = 0;
+        for (PartitionInfo partition : findPartitions(table)) {
+            // 파티션 상한(LESS THAN)이 before 이하 → 파티션 전체가 before 이전 데이터
+            if (partition.isFuture() || partition.lessThanDays() > toDays(before))
+                continue;
+
+            Integer unpublished = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " PARTITION (" + partition.name() + ") WHERE status <> 'PUBLISHED'", Integer.class);
+            if (unpublished != null && unpublished > 0) {
+                log.warn("[{} Outbox] 미발행 이벤트가 남아 있어 파티션 유지 - partition={}, count={}", aggregateType, partition.name(), unpublished);
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+            dropped++;
+        }
+        return dropped;
+    }
+
+    @Override
+    public void createPartitionsUntil(String aggregateType, LocalDate until) {
+        String table = tableOf(aggregateType);
+        List<PartitionInfo> partitions = findPartitions(table);
+        if (partitions.stream().noneMatch(PartitionInfo::isFuture)) {
+            log.warn("[{} Outbox] 파티션 테이블이 아님 - 파티션 생성 건너뜀", aggregateType);
+            return;
+        }
+
+        long lastDays = partitions.stream()
+                .filter(p -> !p.isFuture())
+                .mapToLong(PartitionInfo::lessThanDays)
+                .max()
+                .orElse(toDays(LocalDate.now()));
+
+        // 마지막 파티션 다음 날부터 until까지 p_future를 쪼개서 생성
+        for (LocalDate day = LocalDate.ofEpochDay(lastDays - TO_DAYS_EPOCH); !day.isAfter(until); day = day.plusDays(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + "PARTITION " + day.format(PARTITION_NAME) + " VALUES LESS THAN (" + toDays(day.plusDays(1)) + "), "
+                    + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+        }
+    }
+
+    private List<PartitionInfo> findPartitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new PartitionInfo(rs.getString(1), rs.getString(2)),
+                table);
+    }
+
+    private static String tableOf(String aggregateType) {
+        return aggregateType.toLowerCase() + "_outbox";
+    }
+
+    private static long toDays(LocalDate date) {
+        return date.toEpochDay() + TO_DAYS_EPOCH;
+    }
+
+    private record PartitionInfo(String name, String description) {
+        boolean isFuture() {
+            return "MAXVALUE".equalsIgnoreCase(description);
+        }
+
+        long lessThanDays() {
+            return Long.parseLong(description);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.gomdol.concert.common.infra.scheduler;
+
+import com.gomdol.concert.common.application.inbox.ConsumerInbox;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumer Inbox 정리 스케줄러
+ * - 보관 기간이 지난 수신 기록 삭제 (redis 저장소는 TTL로 만료되므로 삭제 대상 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InboxCleanupScheduler {
+
+    private final ConsumerInbox consumerInbox;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void cleanupExpired() {
+        try {
+            int deleted = consumerInbox.purgeExpired();
+            if (deleted > 0)
+                log.info("[Inbox] 수신 기록 정리 완료 - 삭제 개수: {}", deleted);
+        } catch (Exception e) {
+            log.error("[Inbox] 정리 Scheduler 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.gomdol.concert.common.infra.scheduler;
+
+import com.gomdol.concert.common.application.outbox.OutboxRelay;
+import com.gomdol.concert.common.application.outbox.OutboxRetention;
+import com.gomdol.concert.common.infra.config.OutboxRelayProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox Relay 스케줄러 (Payment/Point/Reservation Outbox 공통)
+ * - 평상시에는 커밋 직후 즉시 발행되므로 누락/실패 이벤트만 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayScheduler {
+
+    private final OutboxRelay outboxRelay;
+    private final OutboxRetention outboxRetention;
+    private final OutboxRelayProperties properties;
+
+    /**
+     * 즉시 발행에서 누락된 PENDING 이벤트 발행 (Fallback)
+     */
+    @Scheduled(fixedDelayString = "${outbox.scheduler.publish-interval-ms:5000}", initialDelay = 10000)
+    public void publishPendingEvents() {
+        try {
+            // 커밋 직후 즉시 발행되므로 유예 시간이 지난 PENDING 이벤트만 재처리
+            LocalDateTime threshold = LocalDateTime.now().minusNanos(properties.stragglerGraceMs() * 1_000_000);
+            int relayed = outboxRelay.relayPendingEvents(threshold);
+            if (relayed > 0)
+                log.info("[Outbox] 누락 이벤트 발행 완료 - 발행 개수: {}, inFlight: {}", relayed, outboxRelay.inFlightCount());
+        } catch (Exception e) {
+            log.error("[Outbox] Scheduler 예외 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.scheduler.retry-interval-ms:60000}", initialDelay = 30000)
+    public void retryFailedEvents() {
+        try {
+            int retried = outboxRelay.retryFailedEvents();
+            if (retried > 0)
+                log.info("[Outbox] 재시도 완료 - 재시도 개수: {}", retried);
+        } catch (Exception e) {
+            log.error("[Outbox] 재시도 Scheduler 예외 발생", e);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 PUBLISHED 이벤트 정리 (id 범위 청크 삭제 / 파티션 삭제)
+     */
+    @Scheduled(cron = "0 0 3 * * *")
+    public void cleanupOldPublishedEvents() {
+        try {
+            int deleted = outboxRetention.purgeAll();
+            log.info("[Outbox] 이벤트 정리 완료 - 삭제 개수: {}", deleted);
+        } catch (Exception e) {
+            log.error("[Outbox] 정리 Scheduler 예외 발생", e);
+        }
+    }
+}
@@ -16,6 +16,10 @@ public final class CacheUtils {
         return "reservation:result:" + requestId;
     }
 
+    public static String reservationStatus(String requestId) {
+        return "reservation:status:" + requestId;
+    }
+
     public static String pointResult(String requestId) {
         return "point:result:" + requestId;
     }
@@ -0,0 +1,18 @@
+package com.gomdol.concert.common.presentation.dto;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - nextCursor: 다음 페이지 요청 시 그대로 전달하는 불투명 문자열 (마지막 페이지면 null)
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorResponse<T> of(List<T> content, int size, String nextCursor) {
+        return new CursorResponse<>(content, size, nextCursor, nextCursor != null);
+    }
+}
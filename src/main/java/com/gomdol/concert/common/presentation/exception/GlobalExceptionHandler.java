@@ -17,6 +17,8 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 @RequiredArgsConstructor
 public class GlobalExceptionHandler {
@@ -77,6 +79,14 @@ public class GlobalExceptionHandler {
                 req.getRequestURI());
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE) // 503
+    public ErrorResponse handleRejected(RejectedExecutionException e, HttpServletRequest req) {
+        log.warn("worker_queue_full userId={} reqId={} uri={}",
+                req.getHeader("X-User-Id"), req.getHeader("Idempotency-Key"), req.getRequestURI());
+        return ErrorResponse.of("SERVICE_UNAVAILABLE", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도하세요.", req.getRequestURI());
+    }
+
     @ExceptionHandler(IllegalStateException.class) // 잔액부족 등
     @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY) // 422
     public ErrorResponse handleBusiness(IllegalStateException e, HttpServletRequest req) {
@@ -0,0 +1,31 @@
+package com.gomdol.concert.concert.application.eventhandler;
+
+import com.gomdol.concert.concert.application.service.LeaderboardService;
+import com.gomdol.concert.concert.domain.event.RankingUpdateRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 리더보드 이벤트 핸들러
+ * - 랭킹 업데이트 요청 이벤트(좌석 확정)를 받아 기준 × 기간 리더보드 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardEventHandler {
+
+    private final LeaderboardService leaderboardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRankingUpdateRequested(RankingUpdateRequestedEvent event) {
+        try {
+            leaderboardService.recordSale(event);
+        } catch (Exception e) {
+            log.error("리더보드 반영 실패 - reservationId={}, error={}", event.getReservationId(), e.getMessage(), e);
+            // 실패해도 예약은 유지 (비동기 처리이므로 예외를 전파하지 않음)
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gomdol.concert.concert.application.facade;
+
+import com.gomdol.concert.concert.application.port.in.GetFastSellingRankingPort;
+import com.gomdol.concert.concert.domain.model.FastSellingConcert;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 랭킹 상위 목록 로컬 캐시 Facade
+ * - 상위 50개 목록을 인스턴스 메모리에 짧게(기본 1초) 보관 → 요청 수와 무관하게 인스턴스당 TTL마다 한 번만 Redis 조회
+ * - single-flight: 만료 시 한 요청만 갱신, 나머지는 이전 목록을 바로 반환 (최초 적재 시에만 갱신 완료까지 대기)
+ * - serve-stale: 갱신 실패 시 이전 목록 반환, 다음 갱신은 TTL 이후 재시도 (장애 중 Redis 재호출 폭주 방지)
+ */
+@Slf4j
+@Component
+public class FastSellingRankingFacade {
+
+    public static final int MAX_TOP = 50;
+
+    private final GetFastSellingRankingPort getFastSellingRankingPort;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public FastSellingRankingFacade(GetFastSellingRankingPort getFastSellingRankingPort, Clock clock,
+                                    @Value("${ranking.local-cache.ttl-ms:1000}") long ttlMillis) {
+        this.getFastSellingRankingPort = getFastSellingRankingPort;
+        this.clock = clock;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public List<FastSellingConcert> getTopRanking(int topNum) {
+        List<FastSellingConcert> rankings = currentRankings();
+        return rankings.subList(0, Math.min(topNum, rankings.size()));
+    }
+
+    private List<FastSellingConcert> currentRankings() {
+        Snapshot current = snapshot;
+        if (current != null && !current.isExpired(clock.millis()))
+            return current.rankings();
+
+        if (current != null) {
+            // 다른 요청이 갱신 중이면 기다리지 않고 이전 목록 반환
+            if (!refreshLock.tryLock())
+                return current.rankings();
+        } else {
+            refreshLock.lock();
+        }
+
+        try {
+            Snapshot latest = snapshot;  // 대기하는 동안 다른 요청이 갱신했을 수 있음
+            if (latest != null && !latest.isExpired(clock.millis()))
+                return latest.rankings();
+            return refresh(latest).rankings();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot refresh(Snapshot stale) {
+        long now = clock.millis();
+        try {
+            Snapshot loaded = new Snapshot(List.copyOf(getFastSellingRankingPort.getTopRanking(MAX_TOP)), now + ttlMillis);
+            snapshot = loaded;
+            return loaded;
+        } catch (Exception e) {
+            List<FastSellingConcert> fallback = stale != null ? stale.rankings() : List.of();
+            log.warn("랭킹 캐시 갱신 실패, 이전 목록 사용 - staleSize={}, error={}", fallback.size(), e.getMessage());
+            Snapshot retained = new Snapshot(fallback, now + ttlMillis);
+            snapshot = retained;
+            return retained;
+        }
+    }
+
+    private record Snapshot(List<FastSellingConcert> rankings, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
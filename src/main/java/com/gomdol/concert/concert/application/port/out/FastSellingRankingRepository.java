@@ -19,7 +19,7 @@ public interface FastSellingRankingRepository {
     void updateConcertScore(Long concertId, double score);
 
     /**
-     * 콘서트의 시간당 판매량 증가
+     * 콘서트의 시간당 판매량 증가 (현재 분 버킷)
      *
      * @param concertId 콘서트 ID
      */
@@ -30,6 +30,7 @@ public interface FastSellingRankingRepository {
      *
      * @param topN 조회할 개수
      * @return 콘서트 ID 목록 (점수 높은 순)
+     * - 저장소 장애 시 예외 전파 (빈 랭킹과 구분)
      */
     List<Long> getTopConcertIds(int topN);
 
@@ -68,15 +69,55 @@ public interface FastSellingRankingRepository {
     void saveConcertStats(Long concertId, String concertTitle, int totalSeats, int reservedSeats);
 
     /**
-     * 콘서트의 최근 1시간 판매량 조회
+     * 콘서트의 최근 1시간 판매량 조회 (현재 분 포함 최근 60분 이동 윈도우)
      *
      * @param concertId 콘서트 ID
      * @return 최근 1시간 판매량
      */
     int getLastHourSales(Long concertId);
 
+    /**
+     * 랭킹에 올라 있는 모든 콘서트의 현재 점수 조회 (재계산 대상)
+     *
+     * @return 콘서트별 랭킹 점수
+     * - 저장소 장애 시 예외 전파
+     */
+    Map<Long, Double> getAllConcertScores();
+
+    /**
+     * 여러 콘서트의 시간 감쇠 판매량 조회 (최근 60분 분 버킷 가중 합)
+     *
+     * @param concertIds      콘서트 ID 목록
+     * @param halfLifeMinutes 반감기 (분), 0이면 가중치 없이 단순 합
+     * @return 콘서트별 감쇠 판매량
+     * - 저장소 장애 시 예외 전파 (판매량 0과 구분)
+     */
+    Map<Long, Double> getDecayedSales(List<Long> concertIds, double halfLifeMinutes);
+
+    /**
+     * 재계산한 점수를 일괄 반영
+     *
+     * @param scores          콘서트별 새 점수 (랭킹에 남아 있는 콘서트만 갱신)
+     * @param staleConcertIds 통계가 만료된 콘서트 (그사이 통계가 다시 저장되지 않았으면 랭킹에서 제거)
+     */
+    void rescoreConcerts(Map<Long, Double> scores, List<Long> staleConcertIds);
+
+    /**
+     * 재구성한 랭킹 데이터 일괄 적재 (랭킹 점수 + 통계 + 분 버킷)
+     *
+     * @param concerts 콘서트별 재구성 데이터
+     */
+    void restoreConcerts(List<RestoredConcert> concerts);
+
     /**
      * 콘서트 통계 정보
      */
     record ConcertStats(String concertTitle, int totalSeats, int reservedSeats, int lastHourSales) {}
+
+    /**
+     * 재구성한 콘서트 랭킹 데이터
+     * - minuteSales: epochMinute → 그 분에 확정된 예약 건수 (최근 60분)
+     */
+    record RestoredConcert(Long concertId, String concertTitle, int totalSeats, int reservedSeats,
+                           Map<Long, Integer> minuteSales, double score) {}
 }
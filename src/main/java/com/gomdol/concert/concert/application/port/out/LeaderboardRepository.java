@@ -0,0 +1,35 @@
+package com.gomdol.concert.concert.application.port.out;
+
+import com.gomdol.concert.common.infra.config.LeaderboardProperties.Window;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리더보드 Repository Port
+ * - 기준(dimension) × 기간(window)별 판매량 순위
+ */
+public interface LeaderboardRepository {
+
+    /**
+     * 판매 1건을 설정된 모든 보드에 반영 (저장소 호출 1회)
+     *
+     * @param members 기준별 대상 ID (없는 기준은 생략)
+     * @param windows 반영할 기간 목록
+     * @param amount  판매량 (좌석 수)
+     */
+    void recordSale(Map<LeaderboardDimension, Long> members, List<Window> windows, int amount);
+
+    /**
+     * 보드 상위 N개 조회 (판매량 높은 순)
+     *
+     * @param dimension 기준
+     * @param window    기간
+     * @param topN      조회할 개수
+     * @return 대상 ID와 기간 내 판매량
+     */
+    List<LeaderboardEntry> getTop(LeaderboardDimension dimension, Window window, int topN);
+
+    record LeaderboardEntry(Long id, long sales) {}
+}
@@ -0,0 +1,29 @@
+package com.gomdol.concert.concert.application.port.out;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 랭킹 재구성 원천 데이터 Port (MySQL)
+ * - 전체 결과를 메모리에 올리지 않고 한 행씩 전달 (forward-only 스트리밍)
+ */
+public interface RankingSourceRepository {
+
+    /**
+     * 공연별 정원 스트리밍 (삭제되지 않은 콘서트/공연)
+     *
+     * @param consumer 공연 정원 처리
+     */
+    void streamShowCapacities(Consumer<ShowCapacity> consumer);
+
+    /**
+     * 확정된 예약 좌석 스트리밍
+     *
+     * @param consumer 확정 좌석 처리
+     */
+    void streamConfirmedSeats(Consumer<ConfirmedSeat> consumer);
+
+    record ShowCapacity(Long showId, Long concertId, String concertTitle, int capacity) {}
+
+    record ConfirmedSeat(Long reservationId, Long showId, LocalDateTime confirmedAt) {}
+}
@@ -0,0 +1,150 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.RankingRebuildProperties;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository.RestoredConcert;
+import com.gomdol.concert.concert.application.port.out.RankingSourceRepository;
+import com.gomdol.concert.concert.domain.model.FastSellingConcert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 랭킹 재구성 (Redis 데이터 유실 복구)
+ * 1. 공연 정원 스트리밍 → showId→concertId 매핑, 콘서트별 제목/전체 좌석 수
+ * 2. 확정 좌석 스트리밍 → 콘서트별 예약 좌석 수, 최근 60분 분 단위 확정 예약 건수 (예약 단위 중복 제거)
+ * 3. 최근 60분 안에 판매가 있는 콘서트만 파이프라인 배치로 적재 (라이브 랭킹과 같은 대상)
+ * 4. 재계산 Job과 같은 기준(시간 감쇠)으로 점수 보정
+ *
+ * - 인스턴스 안에서 동시 실행 방지 (기동 warm-up과 관리자 요청 중복)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FastSellingRankingRebuilder {
+
+    private static final int WINDOW_MINUTES = 60;
+
+    private final RankingSourceRepository sourceRepository;
+    private final FastSellingRankingRepository rankingRepository;
+    private final FastSellingRankingRescorer rescorer;
+    private final RankingRebuildProperties properties;
+    private final Clock clock;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 랭킹이 비어 있을 때만 재구성 (기동 warm-up)
+     */
+    public RebuildResult rebuildIfEmpty() {
+        if (!rankingRepository.getAllConcertScores().isEmpty()) {
+            log.info("랭킹 데이터가 있어 재구성 생략");
+            return RebuildResult.skipped();
+        }
+        return rebuild();
+    }
+
+    public RebuildResult rebuild() {
+        if (!running.compareAndSet(false, true))
+            throw new IllegalStateException("랭킹 재구성이 이미 진행 중입니다.");
+
+        try {
+            long startedAt = clock.millis();
+            long currentMinute = clock.instant().getEpochSecond() / 60;
+
+            Map<Long, Long> concertByShow = new HashMap<>();
+            Map<Long, ConcertAggregate> aggregates = new HashMap<>();
+            sourceRepository.streamShowCapacities(show -> {
+                concertByShow.put(show.showId(), show.concertId());
+                aggregates.computeIfAbsent(show.concertId(), id -> new ConcertAggregate(show.concertTitle()))
+                        .totalSeats += show.capacity();
+            });
+
+            long[] seatCount = {0};
+            sourceRepository.streamConfirmedSeats(seat -> {
+                Long concertId = concertByShow.get(seat.showId());
+                if (concertId == null)
+                    return;  // 삭제된 공연
+                seatCount[0]++;
+                ConcertAggregate aggregate = aggregates.get(concertId);
+                aggregate.reservedSeats++;
+                long minute = toEpochMinute(seat.confirmedAt());
+                if (minute > currentMinute - WINDOW_MINUTES && minute <= currentMinute)
+                    aggregate.recentReservations.computeIfAbsent(minute, m -> new HashSet<>()).add(seat.reservationId());
+            });
+
+            List<RestoredConcert> restored = new ArrayList<>();
+            int loaded = 0;
+            for (Map.Entry<Long, ConcertAggregate> entry : aggregates.entrySet()) {
+                ConcertAggregate aggregate = entry.getValue();
+                if (aggregate.recentReservations.isEmpty())
+                    continue;
+                restored.add(aggregate.toRestored(entry.getKey()));
+                if (restored.size() >= properties.writeBatchSize()) {
+                    rankingRepository.restoreConcerts(restored);
+                    loaded += restored.size();
+                    restored = new ArrayList<>();
+                }
+            }
+            rankingRepository.restoreConcerts(restored);
+            loaded += restored.size();
+
+            if (loaded > 0)
+                rescorer.rescoreAll();
+
+            RebuildResult result = new RebuildResult(loaded, seatCount[0], clock.millis() - startedAt);
+            log.info("랭킹 재구성 완료 - concerts={}, confirmedSeats={}, elapsedMs={}", result.concerts(), result.confirmedSeats(), result.elapsedMs());
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long toEpochMinute(LocalDateTime confirmedAt) {
+        if (confirmedAt == null)
+            return Long.MIN_VALUE;
+        return confirmedAt.atZone(clock.getZone()).toEpochSecond() / 60;
+    }
+
+    /**
+     * 콘서트별 집계 (재구성 중에만 사용)
+     */
+    private static final class ConcertAggregate {
+        private final String concertTitle;
+        private int totalSeats;
+        private int reservedSeats;
+        private final Map<Long, Set<Long>> recentReservations = new HashMap<>();
+
+        private ConcertAggregate(String concertTitle) {
+            this.concertTitle = concertTitle;
+        }
+
+        private RestoredConcert toRestored(Long concertId) {
+            Map<Long, Integer> minuteSales = new HashMap<>();
+            recentReservations.forEach((minute, reservationIds) -> minuteSales.put(minute, reservationIds.size()));
+            int lastHourSales = minuteSales.values().stream().mapToInt(Integer::intValue).sum();
+            double score = FastSellingConcert.of(concertId, concertTitle, totalSeats, reservedSeats, lastHourSales).getRankingScore();
+            return new RestoredConcert(concertId, concertTitle, totalSeats, reservedSeats, minuteSales, score);
+        }
+    }
+
+    /**
+     * @param concerts       적재한 콘서트 수
+     * @param confirmedSeats 읽은 확정 좌석 수
+     * @param elapsedMs      소요 시간
+     */
+    public record RebuildResult(int concerts, long confirmedSeats, long elapsedMs) {
+        static RebuildResult skipped() {
+            return new RebuildResult(0, 0, 0);
+        }
+    }
+}
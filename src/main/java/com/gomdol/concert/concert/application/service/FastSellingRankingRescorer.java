@@ -0,0 +1,79 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.RankingRescoreProperties;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository.ConcertStats;
+import com.gomdol.concert.concert.domain.model.FastSellingConcert;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 점수 주기 재계산
+ * - 판매 이벤트가 없으면 점수가 갱신되지 않아 과거에 빨리 팔린 콘서트가 상위에 남는 문제 보정
+ * - 랭킹 전체를 배치 단위로: 통계 조회(1 RTT) + 감쇠 판매량 조회(1 RTT) → 점수 계산 → 변경분만 파이프라인 반영(1 RTT)
+ * - 통계가 만료된 콘서트(1시간 이상 판매 없음)는 랭킹에서 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FastSellingRankingRescorer {
+
+    private static final double SCORE_EPSILON = 0.0001;
+
+    private final FastSellingRankingRepository rankingRepository;
+    private final RankingRescoreProperties properties;
+
+    /**
+     * 전체 랭킹 재계산
+     * @return 점수가 바뀌거나 제거된 콘서트 수
+     */
+    public int rescoreAll() {
+        Map<Long, Double> current = rankingRepository.getAllConcertScores();
+        List<Long> concertIds = new ArrayList<>(current.keySet());
+
+        int changed = 0;
+        for (int from = 0; from < concertIds.size(); from += properties.batchSize()) {
+            List<Long> batch = concertIds.subList(from, Math.min(from + properties.batchSize(), concertIds.size()));
+            try {
+                changed += rescoreBatch(batch, current);
+            } catch (Exception e) {
+                log.warn("랭킹 재계산 배치 실패 - size={}, error={}", batch.size(), e.getMessage());
+            }
+        }
+        return changed;
+    }
+
+    private int rescoreBatch(List<Long> batch, Map<Long, Double> current) {
+        Map<Long, ConcertStats> stats = rankingRepository.getConcertStats(batch);
+        if (stats.isEmpty())
+            return 0;  // 통계 조회 실패 → 다음 주기에 재시도
+        Map<Long, Double> speeds = rankingRepository.getDecayedSales(batch, properties.halfLifeMinutes());
+
+        Map<Long, Double> scores = new HashMap<>();
+        List<Long> stale = new ArrayList<>();
+        for (Long concertId : batch) {
+            ConcertStats stat = stats.get(concertId);
+            if (isEmpty(stat)) {
+                stale.add(concertId);
+                continue;
+            }
+            double score = FastSellingConcert.of(concertId, stat.concertTitle(), stat.totalSeats(), stat.reservedSeats(),
+                    speeds.getOrDefault(concertId, 0.0)).getRankingScore();
+            if (Math.abs(score - current.get(concertId)) > SCORE_EPSILON)
+                scores.put(concertId, score);
+        }
+
+        rankingRepository.rescoreConcerts(scores, stale);
+        return scores.size() + stale.size();
+    }
+
+    private static boolean isEmpty(ConcertStats stat) {
+        return stat == null || (stat.concertTitle().isEmpty() && stat.totalSeats() == 0);
+    }
+}
@@ -6,10 +6,13 @@ import com.gomdol.concert.concert.domain.model.FastSellingConcert;
 import com.gomdol.concert.payment.domain.event.PaymentCompletedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.List;
+
 /**
  * 랭킹 서비스
  * - 공연 랭킹 업데이트 (이벤트 기반)
@@ -22,6 +25,10 @@ public class FastSellingRankingService {
 
     private final FastSellingRankingRepository rankingRepository;
 
+    // 재계산 Job과 같은 감쇠 기준으로 점수 계산 (0이면 최근 1시간 판매량 단순 합)
+    @Value("${ranking.rescore.half-life-minutes:0}")
+    private double halfLifeMinutes;
+
     /**
      * 랭킹 업데이트 요청 이벤트 처리
      * - 트랜잭션 커밋 후 실행
@@ -40,11 +47,13 @@ public class FastSellingRankingService {
             // 2. Redis에 콘서트 통계 저장 (이벤트 정보 사용)
             rankingRepository.saveConcertStats(event.getConcertId(), event.getConcertTitle(), event.getTotalSeats(), event.getReservedSeats());
 
-            // 3. 최근 1시간 판매량 조회
-            int lastHourSales = rankingRepository.getLastHourSales(event.getConcertId());
+            // 3. 최근 1시간 판매량 조회 (감쇠 설정 시 가중 합)
+            double salesSpeed = halfLifeMinutes > 0
+                    ? rankingRepository.getDecayedSales(List.of(event.getConcertId()), halfLifeMinutes).getOrDefault(event.getConcertId(), 0.0)
+                    : rankingRepository.getLastHourSales(event.getConcertId());
 
             // 4. 랭킹 점수 계산
-            FastSellingConcert fastSelling = FastSellingConcert.of(event.getConcertId(), event.getConcertTitle(), event.getTotalSeats(), event.getReservedSeats(), lastHourSales);
+            FastSellingConcert fastSelling = FastSellingConcert.of(event.getConcertId(), event.getConcertTitle(), event.getTotalSeats(), event.getReservedSeats(), salesSpeed);
 
             // 5. Redis에 랭킹 점수 저장
             rankingRepository.updateConcertScore(event.getConcertId(), fastSelling.getRankingScore());
@@ -55,7 +64,7 @@ public class FastSellingRankingService {
         } catch (Exception e) {
             log.error("랭킹 업데이트 실패 - concertId={}, error={}", event.getConcertId(), e.getMessage(), e);
             // 랭킹 업데이트 실패는 비즈니스 로직에 영향을 주지 않음
-            // TODO: 랭킹 복구 기능 추후 추가
+            // 누락분은 FastSellingRankingRebuilder(기동 warm-up / 관리자 재구성)로 복구
         }
     }
 }
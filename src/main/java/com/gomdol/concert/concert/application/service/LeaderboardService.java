@@ -0,0 +1,54 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.LeaderboardProperties;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository.LeaderboardEntry;
+import com.gomdol.concert.concert.domain.event.RankingUpdateRequestedEvent;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리더보드 서비스
+ * - 좌석 확정 1건 → 설정된 기준 × 기간 보드 전체를 저장소 호출 1회로 반영
+ * - 보드 조회는 설정된 기준/기간만 허용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private final LeaderboardRepository leaderboardRepository;
+    private final LeaderboardProperties properties;
+
+    public void recordSale(RankingUpdateRequestedEvent event) {
+        Map<LeaderboardDimension, Long> members = new EnumMap<>(LeaderboardDimension.class);
+        for (LeaderboardDimension dimension : properties.dimensions()) {
+            Long id = switch (dimension) {
+                case CONCERT -> event.getConcertId();
+                case SHOW -> event.getShowId();
+                case VENUE -> event.getVenueId();
+            };
+            if (id != null)
+                members.put(dimension, id);
+        }
+        if (members.isEmpty() || event.getSeatCount() <= 0)
+            return;
+
+        leaderboardRepository.recordSale(members, properties.windows(), event.getSeatCount());
+    }
+
+    public List<LeaderboardEntry> getTop(LeaderboardDimension dimension, String window, int topN) {
+        if (!properties.dimensions().contains(dimension))
+            throw new IllegalArgumentException("지원하지 않는 리더보드 기준입니다: " + dimension.key());
+        if (topN <= 0 || topN > 100)
+            throw new IllegalArgumentException("조회 개수는 1~100 사이여야 합니다.");
+
+        return leaderboardRepository.getTop(dimension, properties.window(window), topN);
+    }
+}
@@ -14,15 +14,19 @@ public class RankingUpdateRequestedEvent {
 
     private final Long reservationId;
     private final Long concertId;
+    private final Long showId;          // 공연 ID (공연별 리더보드, 없으면 null)
+    private final Long venueId;         // 공연장 ID (공연장별 리더보드, 없으면 null)
     private final String concertTitle;
     private final int totalSeats;       // 전체 좌석 수
     private final int reservedSeats;    // 예약된 좌석 수
     private final int seatCount;        // 이번 예약 좌석 수
     private final LocalDateTime occurredAt;
 
-    private RankingUpdateRequestedEvent(Long reservationId, Long concertId, String concertTitle, int totalSeats, int reservedSeats, int seatCount) {
+    private RankingUpdateRequestedEvent(Long reservationId, Long concertId, Long showId, Long venueId, String concertTitle, int totalSeats, int reservedSeats, int seatCount) {
         this.reservationId = reservationId;
         this.concertId = concertId;
+        this.showId = showId;
+        this.venueId = venueId;
         this.concertTitle = concertTitle;
         this.totalSeats = totalSeats;
         this.reservedSeats = reservedSeats;
@@ -31,6 +35,10 @@ public class RankingUpdateRequestedEvent {
     }
 
     public static RankingUpdateRequestedEvent of(Long reservationId, Long concertId, String concertTitle, int totalSeats, int reservedSeats, int seatCount) {
-        return new RankingUpdateRequestedEvent(reservationId, concertId, concertTitle, totalSeats, reservedSeats, seatCount);
+        return new RankingUpdateRequestedEvent(reservationId, concertId, null, null, concertTitle, totalSeats, reservedSeats, seatCount);
+    }
+
+    public static RankingUpdateRequestedEvent of(Long reservationId, Long concertId, Long showId, Long venueId, String concertTitle, int totalSeats, int reservedSeats, int seatCount) {
+        return new RankingUpdateRequestedEvent(reservationId, concertId, showId, venueId, concertTitle, totalSeats, reservedSeats, seatCount);
     }
 }
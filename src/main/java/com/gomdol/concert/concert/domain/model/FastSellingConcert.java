@@ -33,11 +33,14 @@ public class FastSellingConcert {
         this.rank = rank;
     }
 
-    public static FastSellingConcert of(Long concertId, String concertTitle, int totalSeats, int reservedSeats, int lastHourSales) {
+    /**
+     * @param salesSpeed 최근 1시간 판매량 (시간 감쇠 적용 시 가중 합)
+     */
+    public static FastSellingConcert of(Long concertId, String concertTitle, int totalSeats, int reservedSeats, double salesSpeed) {
         double salesRate = totalSeats > 0 ? (double) reservedSeats / totalSeats * 100 : 0;
-        double rankingScore = calculateScore(salesRate, lastHourSales);
+        double rankingScore = calculateScore(salesRate, salesSpeed);
 
-        return new FastSellingConcert(concertId, concertTitle, totalSeats, reservedSeats, salesRate, lastHourSales, rankingScore, 0);
+        return new FastSellingConcert(concertId, concertTitle, totalSeats, reservedSeats, salesRate, salesSpeed, rankingScore, 0);
     }
 
     /**
@@ -0,0 +1,13 @@
+package com.gomdol.concert.concert.domain.model;
+
+/**
+ * 리더보드 집계 기준
+ * - CONCERT: 콘서트별, SHOW: 공연(회차)별, VENUE: 공연장별
+ */
+public enum LeaderboardDimension {
+    CONCERT, SHOW, VENUE;
+
+    public String key() {
+        return name().toLowerCase();
+    }
+}
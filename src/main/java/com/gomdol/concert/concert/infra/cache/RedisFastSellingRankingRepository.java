@@ -4,19 +4,26 @@ import com.gomdol.concert.concert.application.port.out.FastSellingRankingReposit
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.DefaultStringTuple;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Redis 기반 랭킹 Repository
  * - Sorted Set을 사용한 랭킹 관리
  * - Hash를 사용한 통계 관리
+ * - 분 단위 링 버퍼(Hash)로 최근 60분 판매량 집계
+ * - 상위 N개 통계는 Lua 배치 스크립트로 한 번에 조회
  * - 콘서트 단위로 랭킹 집계
  */
 @Slf4j
@@ -29,41 +36,138 @@ public class RedisFastSellingRankingRepository implements FastSellingRankingRepo
     // 랭킹 관련 키들을 같은 슬롯에 배치 (hash tag 사용)
     private static final String RANKING_KEY = "ranking:{concerts}:fast-selling";
     private static final String STATS_KEY_PREFIX = "concert:{concerts}:stats:";
-    private static final String HOURLY_KEY_PREFIX = "concert:{concerts}:sales:hourly:";
+    private static final String SALES_WINDOW_KEY_PREFIX = "concert:{concerts}:sales:minutes:";
     private static final Duration RANKING_TTL = Duration.ofHours(24);
     private static final Duration STATS_TTL = Duration.ofHours(1);
     private static final Duration HOURLY_TTL = Duration.ofHours(2);
+    private static final int WINDOW_MINUTES = 60;
     // Lua 스크립트 객체
     private RedisScript<Long> incrementHourlySalesScript;
+    private RedisScript<Long> lastHourSalesScript;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> batchStatsScript;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> decayedSalesScript;
+
+    // KEYS[1] = 랭킹 키, KEYS[2..] = 통계 키, ARGV = 콘서트 ID (통계가 여전히 없을 때만 제거 → 그사이 판매된 콘서트 보존)
+    private static final String REMOVE_STALE_SCRIPT = """
+            local removed = 0
+            for i = 2, #KEYS do
+                if redis.call('EXISTS', KEYS[i]) == 0 then
+                    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i - 1])
+                end
+            end
+            return removed
+            """;
+
+    // 최근 window분 슬롯 합산 (단건/배치 스크립트 공용), halfLife > 0이면 경과 분마다 0.5^(경과/반감기) 가중
+    private static final String WINDOW_SUM_FUNCTION = """
+            local function windowSum(key, window, minute, halfLife)
+                local fields = redis.call('HGETALL', key)
+                local stamps = {}
+                local counts = {}
+                for i = 1, #fields, 2 do
+                    local field = fields[i]
+                    local slot = string.sub(field, 2)
+                    if string.sub(field, 1, 1) == 't' then
+                        stamps[slot] = tonumber(fields[i + 1])
+                    else
+                        counts[slot] = tonumber(fields[i + 1])
+                    end
+                end
+
+                local total = 0
+                for slot, stamp in pairs(stamps) do
+                    if stamp > minute - window and counts[slot] then
+                        if halfLife > 0 then
+                            total = total + counts[slot] * 0.5 ^ ((minute - stamp) / halfLife)
+                        else
+                            total = total + counts[slot]
+                        end
+                    end
+                end
+                return total
+            end
+            """;
 
     /**
      * Lua 스크립트 초기화
      * 애플리케이션 시작 시 한 번만 실행하여 성능 최적화
+     *
+     * [분 단위 링 버퍼] 콘서트마다 Hash 하나에 60개 슬롯 (slot = epochMinute % 60)
+     * - t{slot}: 슬롯이 담고 있는 분(epochMinute), c{slot}: 그 분의 판매량
+     * - 증가: 슬롯의 분이 현재 분과 다르면 이전 바퀴 값이므로 덮어쓰고, 같으면 증가 → O(1)
+     * - 조회: 최근 60분(현재 분 포함) 안의 슬롯만 합산 → O(60), 정시 경계에서 0으로 떨어지지 않는 이동 윈도우
+     * - 현재 분은 Redis 서버 시간(TIME) 기준 → 인스턴스 간 시계 차이 영향 없음
      */
     @PostConstruct
     public void initLuaScript() {
-        String scriptText = """
+        String incrementScript = """
                 local key = KEYS[1]
-                local currentHour = ARGV[1]
-                local ttlSeconds = tonumber(ARGV[2])
-
-                -- 현재 시간 필드 증가
-                redis.call('HINCRBY', key, currentHour, 1)
+                local ttlSeconds = tonumber(ARGV[1])
+                local window = tonumber(ARGV[2])
+                local now = redis.call('TIME')
+                local minute = math.floor(tonumber(now[1]) / 60)
+                local slot = minute % window
 
-                -- 이전 시간 필드들 삭제
-                local fields = redis.call('HKEYS', key)
-                for _, field in ipairs(fields) do
-                    if tonumber(field) < tonumber(currentHour) then
-                        redis.call('HDEL', key, field)
-                    end
+                if tonumber(redis.call('HGET', key, 't' .. slot)) == minute then
+                    redis.call('HINCRBY', key, 'c' .. slot, 1)
+                else
+                    redis.call('HSET', key, 't' .. slot, minute, 'c' .. slot, 1)
                 end
 
-                -- TTL 설정
                 redis.call('EXPIRE', key, ttlSeconds)
                 return 1
                 """;
 
-        this.incrementHourlySalesScript = new DefaultRedisScript<>(scriptText, Long.class);
+        String windowSumScript = WINDOW_SUM_FUNCTION + """
+                local now = redis.call('TIME')
+                local minute = math.floor(tonumber(now[1]) / 60)
+                return windowSum(KEYS[1], tonumber(ARGV[1]), minute, 0)
+                """;
+
+        // KEYS = 통계 키 N개 + 판매 윈도우 키 N개 (같은 순서), 결과 = 콘서트당 [제목, 총좌석, 예약좌석, 최근 판매량]
+        String batchStatsScript = WINDOW_SUM_FUNCTION + """
+                local window = tonumber(ARGV[1])
+                local now = redis.call('TIME')
+                local minute = math.floor(tonumber(now[1]) / 60)
+                local n = #KEYS / 2
+                local result = {}
+
+                for i = 1, n do
+                    local stats = redis.call('HMGET', KEYS[i], 'concertTitle', 'totalSeats', 'reservedSeats')
+                    if stats[1] or stats[2] or stats[3] then
+                        table.insert(result, stats[1] or '')
+                        table.insert(result, stats[2] or '0')
+                        table.insert(result, stats[3] or '0')
+                        table.insert(result, tostring(windowSum(KEYS[n + i], window, minute, 0)))
+                    else
+                        table.insert(result, '')
+                        table.insert(result, '0')
+                        table.insert(result, '0')
+                        table.insert(result, '0')
+                    end
+                end
+                return result
+                """;
+
+        // KEYS = 판매 윈도우 키 N개, 결과 = 콘서트당 감쇠 판매량 (소수 유지를 위해 문자열)
+        String decayedSalesScript = WINDOW_SUM_FUNCTION + """
+                local window = tonumber(ARGV[1])
+                local halfLife = tonumber(ARGV[2])
+                local now = redis.call('TIME')
+                local minute = math.floor(tonumber(now[1]) / 60)
+                local result = {}
+                for i = 1, #KEYS do
+                    result[i] = tostring(windowSum(KEYS[i], window, minute, halfLife))
+                end
+                return result
+                """;
+
+        this.incrementHourlySalesScript = new DefaultRedisScript<>(incrementScript, Long.class);
+        this.lastHourSalesScript = new DefaultRedisScript<>(windowSumScript, Long.class);
+        this.batchStatsScript = new DefaultRedisScript<>(batchStatsScript, List.class);
+        this.decayedSalesScript = new DefaultRedisScript<>(decayedSalesScript, List.class);
         log.info("Lua 스크립트 초기화 완료");
     }
 
@@ -81,18 +185,15 @@ public class RedisFastSellingRankingRepository implements FastSellingRankingRepo
     @Override
     public void incrementHourlySales(Long concertId) {
         try {
-            String hourlyKey = HOURLY_KEY_PREFIX + concertId;
-            long currentHour = System.currentTimeMillis() / 3600000;
-
-            // Lua 스크립트로 원자적 실행
+            // Lua 스크립트로 원자적 실행 (현재 분 슬롯 증가)
             redisTemplate.execute(
                     incrementHourlySalesScript,
-                    List.of(hourlyKey),
-                    String.valueOf(currentHour),
-                    String.valueOf(HOURLY_TTL.toSeconds())
+                    List.of(SALES_WINDOW_KEY_PREFIX + concertId),
+                    String.valueOf(HOURLY_TTL.toSeconds()),
+                    String.valueOf(WINDOW_MINUTES)
             );
 
-            log.debug("시간당 판매량 증가 - concertId={}, hour={}", concertId, currentHour);
+            log.debug("시간당 판매량 증가 - concertId={}", concertId);
         } catch (Exception e) {
             log.error("시간당 판매량 증가 실패 - concertId={}", concertId, e);
         }
@@ -100,17 +201,13 @@ public class RedisFastSellingRankingRepository implements FastSellingRankingRepo
 
     @Override
     public List<Long> getTopConcertIds(int topNum) {
-        try {
-            Set<String> results = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, topNum - 1);
-
-            if (results == null || results.isEmpty())
-                return List.of();
+        // 장애는 전파 (호출 측 로컬 캐시가 이전 목록으로 응답)
+        Set<String> results = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, topNum - 1);
 
-            return results.stream().map(Long::parseLong).toList();
-        } catch (Exception e) {
-            log.error("상위 콘서트 ID 조회 실패 - topN={}", topNum, e);
+        if (results == null || results.isEmpty())
             return List.of();
-        }
+
+        return results.stream().map(Long::parseLong).toList();
     }
 
     @Override
@@ -135,10 +232,136 @@ public class RedisFastSellingRankingRepository implements FastSellingRankingRepo
         }
     }
 
+    @Override
+    public Map<Long, Double> getAllConcertScores() {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet().rangeWithScores(RANKING_KEY, 0, -1);
+        if (tuples == null || tuples.isEmpty())
+            return Map.of();
+
+        Map<Long, Double> scores = new LinkedHashMap<>(tuples.size() * 2);
+        tuples.forEach(tuple -> scores.put(Long.parseLong(tuple.getValue()), tuple.getScore()));
+        return scores;
+    }
+
+    @Override
+    public Map<Long, Double> getDecayedSales(List<Long> concertIds, double halfLifeMinutes) {
+        if (concertIds.isEmpty())
+            return Map.of();
+
+        List<Long> ids = concertIds.stream().distinct().toList();
+        List<String> keys = ids.stream().map(id -> SALES_WINDOW_KEY_PREFIX + id).toList();
+        List<?> values = redisTemplate.execute(decayedSalesScript, keys, String.valueOf(WINDOW_MINUTES), String.valueOf(halfLifeMinutes));
+        if (values == null || values.size() != ids.size())
+            throw new IllegalStateException("감쇠 판매량 조회 결과 크기 불일치 - expected=" + ids.size());
+
+        Map<Long, Double> result = new LinkedHashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            result.put(ids.get(i), Double.parseDouble(String.valueOf(values.get(i))));
+        }
+        return result;
+    }
+
+    /**
+     * 재계산 점수 반영 (파이프라인 1 RTT)
+     * - ZADD XX: 그사이 제거된 콘서트는 다시 추가하지 않음
+     * - 통계 만료 콘서트는 스크립트로 통계 부재를 재확인 후 제거
+     */
+    @Override
+    public void rescoreConcerts(Map<Long, Double> scores, List<Long> staleConcertIds) {
+        if (scores.isEmpty() && staleConcertIds.isEmpty())
+            return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (!scores.isEmpty()) {
+                Set<StringRedisConnection.StringTuple> tuples = new HashSet<>(scores.size() * 2);
+                scores.forEach((concertId, score) -> tuples.add(new DefaultStringTuple(concertId.toString(), score)));
+                stringConnection.zAdd(RANKING_KEY, tuples, RedisZSetCommands.ZAddArgs.ifExists());
+            }
+            if (!staleConcertIds.isEmpty()) {
+                String[] keysAndArgs = new String[1 + staleConcertIds.size() * 2];
+                keysAndArgs[0] = RANKING_KEY;
+                for (int i = 0; i < staleConcertIds.size(); i++) {
+                    keysAndArgs[1 + i] = STATS_KEY_PREFIX + staleConcertIds.get(i);
+                    keysAndArgs[1 + staleConcertIds.size() + i] = staleConcertIds.get(i).toString();
+                }
+                stringConnection.eval(REMOVE_STALE_SCRIPT, ReturnType.INTEGER, 1 + staleConcertIds.size(), keysAndArgs);
+            }
+            return null;
+        });
+        log.debug("랭킹 점수 재계산 반영 - updated={}, stale={}", scores.size(), staleConcertIds.size());
+    }
+
+    /**
+     * 재구성 데이터 적재 (파이프라인 1 RTT)
+     * - 통계 Hash / 분 버킷 슬롯 / 랭킹 점수를 라이브 경로와 같은 키·TTL로 기록
+     * - 분 버킷은 슬롯 단위 덮어쓰기 (이전 바퀴 슬롯은 조회 시 분 비교로 제외되므로 삭제하지 않음)
+     */
+    @Override
+    public void restoreConcerts(List<RestoredConcert> concerts) {
+        if (concerts.isEmpty())
+            return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (RestoredConcert concert : concerts) {
+                String statsKey = STATS_KEY_PREFIX + concert.concertId();
+                stringConnection.hMSet(statsKey, Map.of(
+                        "concertTitle", concert.concertTitle(),
+                        "totalSeats", String.valueOf(concert.totalSeats()),
+                        "reservedSeats", String.valueOf(concert.reservedSeats())));
+                stringConnection.expire(statsKey, STATS_TTL.toSeconds());
+
+                if (!concert.minuteSales().isEmpty()) {
+                    String windowKey = SALES_WINDOW_KEY_PREFIX + concert.concertId();
+                    Map<String, String> slots = new HashMap<>(concert.minuteSales().size() * 4);
+                    concert.minuteSales().forEach((minute, count) -> {
+                        long slot = minute % WINDOW_MINUTES;
+                        slots.put("t" + slot, String.valueOf(minute));
+                        slots.put("c" + slot, String.valueOf(count));
+                    });
+                    stringConnection.hMSet(windowKey, slots);
+                    stringConnection.expire(windowKey, HOURLY_TTL.toSeconds());
+                }
+
+                stringConnection.zAdd(RANKING_KEY, concert.score(), concert.concertId().toString());
+            }
+            stringConnection.expire(RANKING_KEY, RANKING_TTL.toSeconds());
+            return null;
+        });
+        log.debug("랭킹 재구성 데이터 적재 - concerts={}", concerts.size());
+    }
+
+    /**
+     * 여러 콘서트의 통계 + 최근 1시간 판매량을 Lua 스크립트 한 번(1 RTT)으로 조회
+     * - 키가 모두 {concerts} 슬롯이라 클러스터에서도 단일 노드 실행
+     * - 통계가 없는 콘서트는 빈 통계 반환 (판매량 포함 0)
+     */
     @Override
     public Map<Long, ConcertStats> getConcertStats(List<Long> concertIds) {
+        if (concertIds.isEmpty())
+            return Map.of();
+
         try {
-            return concertIds.stream().collect(Collectors.toMap(concertId -> concertId, this::getConcertStatsForId));
+            List<Long> ids = concertIds.stream().distinct().toList();
+            List<String> keys = new ArrayList<>(ids.size() * 2);
+            ids.forEach(id -> keys.add(STATS_KEY_PREFIX + id));
+            ids.forEach(id -> keys.add(SALES_WINDOW_KEY_PREFIX + id));
+
+            List<?> values = redisTemplate.execute(batchStatsScript, keys, String.valueOf(WINDOW_MINUTES));
+            if (values == null || values.size() != ids.size() * 4)
+                throw new IllegalStateException("통계 배치 조회 결과 크기 불일치 - expected=" + ids.size() * 4);
+
+            Map<Long, ConcertStats> result = new LinkedHashMap<>(ids.size() * 2);
+            for (int i = 0; i < ids.size(); i++) {
+                int offset = i * 4;
+                result.put(ids.get(i), new ConcertStats(
+                        String.valueOf(values.get(offset)),
+                        Integer.parseInt(String.valueOf(values.get(offset + 1))),
+                        Integer.parseInt(String.valueOf(values.get(offset + 2))),
+                        Integer.parseInt(String.valueOf(values.get(offset + 3)))));
+            }
+            return result;
         } catch (Exception e) {
             log.error("콘서트 통계 조회 실패 - concertIds={}", concertIds, e);
             return Map.of();
@@ -165,39 +388,11 @@ public class RedisFastSellingRankingRepository implements FastSellingRankingRepo
     @Override
     public int getLastHourSales(Long concertId) {
         try {
-            String hourlyKey = HOURLY_KEY_PREFIX + concertId;
-            Map<Object, Object> allSales = redisTemplate.opsForHash().entries(hourlyKey);
-
-            if (allSales.isEmpty())
-                return 0;
-
-            return allSales.values().stream().mapToInt(value -> Integer.parseInt(value.toString())).sum();
+            Long sales = redisTemplate.execute(lastHourSalesScript, List.of(SALES_WINDOW_KEY_PREFIX + concertId), String.valueOf(WINDOW_MINUTES));
+            return sales != null ? sales.intValue() : 0;
         } catch (Exception e) {
             log.error("최근 1시간 판매량 조회 실패 - concertId={}", concertId, e);
             return 0;
         }
     }
-
-    /**
-     * 단일 콘서트의 통계 조회
-     */
-    private ConcertStats getConcertStatsForId(Long concertId) {
-        try {
-            String statsKey = STATS_KEY_PREFIX + concertId;
-            Map<Object, Object> stats = redisTemplate.opsForHash().entries(statsKey);
-
-            if (stats.isEmpty())
-                return new ConcertStats("",0, 0, 0);
-
-            String concertTitle = stats.getOrDefault("concertTitle", "").toString();
-            int totalSeats = Integer.parseInt(stats.getOrDefault("totalSeats", "0").toString());
-            int reservedSeats = Integer.parseInt(stats.getOrDefault("reservedSeats", "0").toString());
-            int lastHourSales = getLastHourSales(concertId);
-
-            return new ConcertStats(concertTitle, totalSeats, reservedSeats, lastHourSales);
-        } catch (Exception e) {
-            log.error("콘서트 통계 조회 실패 - concertId={}", concertId, e);
-            return new ConcertStats("",0, 0, 0);
-        }
-    }
 }
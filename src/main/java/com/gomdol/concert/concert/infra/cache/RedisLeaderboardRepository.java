@@ -0,0 +1,151 @@
+package com.gomdol.concert.concert.infra.cache;
+
+import com.gomdol.concert.common.infra.config.LeaderboardProperties.Window;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 리더보드 Repository
+ *
+ * [보드 구조] 보드(기준 × 기간)마다 prefix = leaderboard:{concerts}:{dimension}:{window}
+ * - {prefix}:agg     Sorted Set, 기간 내 판매량 합계 (조회 대상 → ZREVRANGE O(log N + M))
+ * - {prefix}:b:{n}   Sorted Set, n번째 버킷(bucket 초 단위)에 발생한 판매량
+ * - {prefix}:cursor  아직 agg에서 빼지 않은 가장 오래된 버킷 번호
+ *
+ * [롤링] 쓰기/조회 시 기간을 벗어난 버킷을 agg에서 차감(ZUNIONSTORE WEIGHTS 1 -1) 후 삭제
+ * - 버킷 주기마다 보드당 한 번만 발생 → 판매/조회당 비용은 보드 수에 비례하지만 RTT는 1회
+ * - 한 기간 이상 비어 있었으면 agg 전체가 만료된 것이므로 차감 없이 삭제
+ * - 현재 시각은 Redis 서버 시간(TIME) 기준
+ *
+ * - 모든 키가 {concerts} 슬롯이라 스크립트 안에서 버킷/커서 키를 만들어도 클러스터에서 같은 노드에서 실행
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RedisLeaderboardRepository implements LeaderboardRepository {
+
+    private static final String KEY_PREFIX = "leaderboard:{concerts}:";
+
+    private static final String ROLL_FUNCTION = """
+            local function roll(prefix, window, bucket, now)
+                local current = math.floor(now / bucket)
+                local count = window / bucket
+                local oldestLive = current - count + 1
+                local aggKey = prefix .. ':agg'
+                local cursorKey = prefix .. ':cursor'
+                local cursor = tonumber(redis.call('GET', cursorKey))
+
+                if cursor == nil or oldestLive - cursor >= count then
+                    redis.call('DEL', aggKey)
+                    redis.call('SET', cursorKey, oldestLive, 'EX', window * 2)
+                elseif cursor < oldestLive then
+                    for b = cursor, oldestLive - 1 do
+                        local bucketKey = prefix .. ':b:' .. b
+                        if redis.call('EXISTS', bucketKey) == 1 then
+                            redis.call('ZUNIONSTORE', aggKey, 2, aggKey, bucketKey, 'WEIGHTS', 1, -1)
+                            redis.call('DEL', bucketKey)
+                        end
+                    end
+                    redis.call('ZREMRANGEBYSCORE', aggKey, '-inf', 0)
+                    redis.call('SET', cursorKey, oldestLive, 'EX', window * 2)
+                end
+                return current
+            end
+            """;
+
+    private final StringRedisTemplate redisTemplate;
+
+    private RedisScript<Long> recordSaleScript;
+    @SuppressWarnings("rawtypes")
+    private RedisScript<List> topScript;
+
+    /**
+     * [판매 반영] KEYS = 보드 prefix 목록, ARGV[1] = 판매량, 이후 보드마다 (대상 ID, 기간 초, 버킷 초)
+     * [상위 조회] KEYS[1] = 보드 prefix, ARGV = (기간 초, 버킷 초, N) → [id, 판매량, ...]
+     */
+    @PostConstruct
+    public void initLuaScript() {
+        String recordScript = ROLL_FUNCTION + """
+                local now = tonumber(redis.call('TIME')[1])
+                local amount = tonumber(ARGV[1])
+                for i = 1, #KEYS do
+                    local base = 1 + (i - 1) * 3
+                    local member = ARGV[base + 1]
+                    local window = tonumber(ARGV[base + 2])
+                    local bucket = tonumber(ARGV[base + 3])
+                    local ttl = window * 2
+
+                    local current = roll(KEYS[i], window, bucket, now)
+                    local bucketKey = KEYS[i] .. ':b:' .. current
+                    local aggKey = KEYS[i] .. ':agg'
+                    redis.call('ZINCRBY', bucketKey, amount, member)
+                    redis.call('EXPIRE', bucketKey, ttl)
+                    redis.call('ZINCRBY', aggKey, amount, member)
+                    redis.call('EXPIRE', aggKey, ttl)
+                    redis.call('EXPIRE', KEYS[i] .. ':cursor', ttl)
+                end
+                return #KEYS
+                """;
+
+        String readScript = ROLL_FUNCTION + """
+                local now = tonumber(redis.call('TIME')[1])
+                roll(KEYS[1], tonumber(ARGV[1]), tonumber(ARGV[2]), now)
+                return redis.call('ZREVRANGE', KEYS[1] .. ':agg', 0, tonumber(ARGV[3]) - 1, 'WITHSCORES')
+                """;
+
+        this.recordSaleScript = new DefaultRedisScript<>(recordScript, Long.class);
+        this.topScript = new DefaultRedisScript<>(readScript, List.class);
+        log.info("리더보드 Lua 스크립트 초기화 완료");
+    }
+
+    @Override
+    public void recordSale(Map<LeaderboardDimension, Long> members, List<Window> windows, int amount) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(amount));
+        members.forEach((dimension, id) -> {
+            for (Window window : windows) {
+                keys.add(boardKey(dimension, window));
+                args.add(id.toString());
+                args.add(String.valueOf(window.size().toSeconds()));
+                args.add(String.valueOf(window.bucket().toSeconds()));
+            }
+        });
+        if (keys.isEmpty())
+            return;
+
+        redisTemplate.execute(recordSaleScript, keys, args.toArray());
+        log.debug("리더보드 판매 반영 - members={}, boards={}, amount={}", members, keys.size(), amount);
+    }
+
+    @Override
+    public List<LeaderboardEntry> getTop(LeaderboardDimension dimension, Window window, int topN) {
+        List<?> values = redisTemplate.execute(topScript, List.of(boardKey(dimension, window)),
+                String.valueOf(window.size().toSeconds()), String.valueOf(window.bucket().toSeconds()), String.valueOf(topN));
+        if (values == null || values.isEmpty())
+            return List.of();
+
+        List<LeaderboardEntry> entries = new ArrayList<>(values.size() / 2);
+        for (int i = 0; i + 1 < values.size(); i += 2) {
+            entries.add(new LeaderboardEntry(
+                    Long.parseLong(String.valueOf(values.get(i))),
+                    (long) Double.parseDouble(String.valueOf(values.get(i + 1)))));
+        }
+        return entries;
+    }
+
+    private static String boardKey(LeaderboardDimension dimension, Window window) {
+        return KEY_PREFIX + dimension.key() + ":" + window.name();
+    }
+}
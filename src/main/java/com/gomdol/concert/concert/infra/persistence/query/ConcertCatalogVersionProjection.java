@@ -0,0 +1,13 @@
+package com.gomdol.concert.concert.infra.persistence.query;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 변경 감지용 버전 (건수 + 마지막 수정 시각)
+ * - 삭제(soft delete)는 건수, 수정/공개 전환은 수정 시각으로 감지
+ */
+public interface ConcertCatalogVersionProjection {
+    Long getConcertCount();
+    LocalDateTime getConcertUpdatedAt();
+    LocalDateTime getVenueUpdatedAt();
+}
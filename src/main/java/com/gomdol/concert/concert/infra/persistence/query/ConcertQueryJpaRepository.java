@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,4 +49,27 @@ public interface ConcertQueryJpaRepository extends JpaRepository<ConcertEntity,
 
     @Query("select c from ConcertEntity c where c.status = :status")
     Page<ConcertEntity> findAllByStatus(Pageable pageable, @Param("status") ConcertStatus status);
+
+    @Query("""
+       select c
+       from ConcertEntity c
+       join fetch c.venue v
+       where c.id in :ids
+    """)
+    List<ConcertEntity> findAllWithVenueByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+       select c.id as id, c.title as title, c.artist as artist, v.name as venueName
+       from ConcertEntity c
+       join c.venue v
+       where c.status = :status
+    """)
+    List<ConcertSearchDocumentProjection> findSearchDocuments(@Param("status") ConcertStatus status);
+
+    @Query("""
+       select count(c) as concertCount, max(c.updatedAt) as concertUpdatedAt, max(v.updatedAt) as venueUpdatedAt
+       from ConcertEntity c
+       join c.venue v
+    """)
+    ConcertCatalogVersionProjection findCatalogVersion();
 }
@@ -4,21 +4,29 @@ import com.gomdol.concert.common.presentation.dto.PageResponse;
 import com.gomdol.concert.concert.domain.model.ConcertStatus;
 import com.gomdol.concert.concert.application.port.out.ConcertQueryRepository;
 import com.gomdol.concert.concert.infra.persistence.entitiy.ConcertEntity;
+import com.gomdol.concert.concert.infra.search.ConcertSearchIndex;
+import com.gomdol.concert.concert.infra.search.ConcertSearchIndex.SearchResult;
 import com.gomdol.concert.show.infra.persistence.query.ShowProjection;
 import com.gomdol.concert.concert.presentation.dto.ConcertResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
 public class ConcertQueryRepositoryImpl implements ConcertQueryRepository {
 
     private final ConcertQueryJpaRepository concertJpaRepository;
+    private final ConcertSearchIndex searchIndex;
 
     @Override
     public Optional<ConcertDetailProjection> findPublicDetailById(Long id) {
@@ -30,8 +38,19 @@ public class ConcertQueryRepositoryImpl implements ConcertQueryRepository {
         return concertJpaRepository.findShowsByConcertId(id);
     }
 
+    /**
+     * 키워드 검색
+     * - 검색 색인으로 현재 페이지 id와 전체 건수를 구한 뒤 해당 id만 조회 (LIKE 전체 스캔 + count 쿼리 없음)
+     * - 색인이 준비되지 않았거나 정렬 조건이 있으면 DB 조회
+     */
     @Override
     public PageResponse<ConcertResponse> findAllPublicAndKeyWord(Pageable pageable, String keyword) {
+        if (pageable.getSort().isUnsorted()) {
+            Optional<SearchResult> result = searchIndex.search(keyword, pageable.getOffset(), pageable.getPageSize());
+            if (result.isPresent())
+                return PageResponse.from(new PageImpl<>(findPublicInOrder(result.get().ids()), pageable, result.get().totalElements()));
+        }
+
         Page<ConcertEntity> entityPage = concertJpaRepository.findAllByStatusAndKeyWord(pageable, keyword, ConcertStatus.PUBLIC);
         return PageResponse.from(entityPage.map(ConcertResponse::from));
     }
@@ -41,4 +60,21 @@ public class ConcertQueryRepositoryImpl implements ConcertQueryRepository {
         Page<ConcertEntity> entityPage = concertJpaRepository.findAllByStatus(pageable, ConcertStatus.PUBLIC);
         return PageResponse.from(entityPage.map(ConcertResponse::from));
     }
+
+    /**
+     * 색인 결과 순서대로 조회 (색인 갱신 전 비공개 전환/삭제된 콘서트는 제외)
+     */
+    private List<ConcertResponse> findPublicInOrder(List<Long> ids) {
+        if (ids.isEmpty())
+            return List.of();
+
+        Map<Long, ConcertEntity> concerts = concertJpaRepository.findAllWithVenueByIdIn(ids).stream()
+                .collect(Collectors.toMap(ConcertEntity::getId, Function.identity()));
+        return ids.stream()
+                .map(concerts::get)
+                .filter(Objects::nonNull)
+                .filter(concert -> concert.getStatus() == ConcertStatus.PUBLIC)
+                .map(ConcertResponse::from)
+                .toList();
+    }
 }
@@ -0,0 +1,11 @@
+package com.gomdol.concert.concert.infra.persistence.query;
+
+/**
+ * 검색 색인 대상 (공개 콘서트의 제목/아티스트/공연장명)
+ */
+public interface ConcertSearchDocumentProjection {
+    Long getId();
+    String getTitle();
+    String getArtist();
+    String getVenueName();
+}
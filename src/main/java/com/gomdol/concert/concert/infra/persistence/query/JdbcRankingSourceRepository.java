@@ -0,0 +1,61 @@
+package com.gomdol.concert.concert.infra.persistence.query;
+
+import com.gomdol.concert.concert.application.port.out.RankingSourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * 랭킹 재구성 원천 데이터 조회 (JDBC 스트리밍)
+ * - TYPE_FORWARD_ONLY + fetchSize=Integer.MIN_VALUE → MySQL Connector/J가 행 단위로 읽음 (결과 전체 버퍼링 없음)
+ * - 엔티티/영속성 컨텍스트를 거치지 않아 수백만 행도 일정한 메모리로 처리
+ * - 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 consumer는 DB를 호출하지 않아야 함
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcRankingSourceRepository implements RankingSourceRepository {
+
+    private static final String SHOW_CAPACITY_SQL = """
+            SELECT s.id, s.concert_id, c.title, s.capacity
+            FROM shows s
+            JOIN concerts c ON c.id = s.concert_id
+            WHERE s.deleted_at IS NULL AND c.deleted_at IS NULL
+            """;
+
+    private static final String CONFIRMED_SEAT_SQL = """
+            SELECT rs.reservation_id, rs.show_id, r.confirmed_at
+            FROM reservation_seats rs
+            JOIN reservations r ON r.id = rs.reservation_id
+            WHERE rs.status = 'CONFIRMED'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void streamShowCapacities(Consumer<ShowCapacity> consumer) {
+        stream(SHOW_CAPACITY_SQL, rs -> consumer.accept(new ShowCapacity(
+                rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getInt(4))));
+    }
+
+    @Override
+    public void streamConfirmedSeats(Consumer<ConfirmedSeat> consumer) {
+        stream(CONFIRMED_SEAT_SQL, rs -> {
+            Timestamp confirmedAt = rs.getTimestamp(3);
+            consumer.accept(new ConfirmedSeat(rs.getLong(1), rs.getLong(2), confirmedAt != null ? confirmedAt.toLocalDateTime() : null));
+        });
+    }
+
+    private void stream(String sql, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(Integer.MIN_VALUE);
+            return ps;
+        }, handler);
+    }
+}
@@ -0,0 +1,32 @@
+package com.gomdol.concert.concert.infra.scheduler;
+
+import com.gomdol.concert.concert.infra.search.ConcertSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘서트 검색 색인 갱신 스케줄러
+ * - 기동 직후 색인 생성, 이후 주기마다 카탈로그 버전만 조회해 변경 시에만 재생성
+ * - 비활성화 시 색인이 만들어지지 않아 키워드 검색은 DB 조회로 처리
+ * - 색인 반영 지연 상한 = 갱신 주기 (그 사이 비공개/삭제된 콘서트는 조회 단계에서 제외)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "concert.search.index-enabled", havingValue = "true", matchIfMissing = true)
+public class ConcertSearchIndexScheduler {
+
+    private final ConcertSearchIndex searchIndex;
+
+    @Scheduled(fixedDelayString = "${concert.search.refresh-interval-ms:5000}", initialDelay = 0)
+    public void refresh() {
+        try {
+            searchIndex.refreshIfChanged();
+        } catch (Exception e) {
+            log.error("콘서트 검색 색인 갱신 실패 - 이전 색인 유지", e);
+        }
+    }
+}
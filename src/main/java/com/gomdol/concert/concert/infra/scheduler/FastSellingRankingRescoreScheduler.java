@@ -0,0 +1,33 @@
+package com.gomdol.concert.concert.infra.scheduler;
+
+import com.gomdol.concert.concert.application.service.FastSellingRankingRescorer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 점수 재계산 스케줄러
+ * - 새 판매가 없어도 시간 감쇠가 반영되도록 주기적으로 전체 랭킹 재계산
+ * - 인스턴스마다 실행되어도 같은 입력(Redis 통계/분 버킷, Redis 서버 시간)으로 계산하므로 같은 분 안에서는 같은 점수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.rescore.enabled", havingValue = "true")
+public class FastSellingRankingRescoreScheduler {
+
+    private final FastSellingRankingRescorer rescorer;
+
+    @Scheduled(fixedDelayString = "${ranking.rescore.interval-ms:10000}", initialDelay = 10000)
+    public void rescore() {
+        try {
+            int changed = rescorer.rescoreAll();
+            if (changed > 0)
+                log.debug("랭킹 점수 재계산 완료 - 변경 콘서트 수: {}", changed);
+        } catch (Exception e) {
+            log.error("랭킹 재계산 Scheduler 예외 발생", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gomdol.concert.concert.infra.scheduler;
+
+import com.gomdol.concert.concert.application.service.FastSellingRankingRebuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 랭킹 warm-up
+ * - Redis flush/failover로 랭킹이 비어 있으면 새 판매를 기다리지 않고 MySQL에서 재구성
+ * - 랭킹이 남아 있으면 생략 (배포마다 재구성하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ranking.rebuild.warm-up-on-startup", havingValue = "true")
+public class FastSellingRankingWarmUp {
+
+    private final FastSellingRankingRebuilder rebuilder;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuilder.rebuildIfEmpty();
+        } catch (Exception e) {
+            log.error("랭킹 warm-up 실패 - 새 판매 이벤트부터 다시 집계됨", e);
+        }
+    }
+}
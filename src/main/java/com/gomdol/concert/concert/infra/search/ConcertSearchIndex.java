@@ -0,0 +1,212 @@
+package com.gomdol.concert.concert.infra.search;
+
+import com.gomdol.concert.concert.domain.model.ConcertStatus;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertCatalogVersionProjection;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertQueryJpaRepository;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertSearchDocumentProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 콘서트 키워드 검색 색인 (인스턴스 메모리 역색인)
+ * - 제목/아티스트/공연장명을 NFC 정규화 + 소문자로 맞춘 뒤 1-gram, 2-gram으로 색인
+ *   (한글은 음절 단위 n-gram → 형태소 분석 없이 부분 일치, 자모 분리 입력(NFD)도 같은 음절로 정규화)
+ * - 검색: 키워드 n-gram의 posting 교집합(정렬된 id 배열 병합) → 후보만 원문 부분 일치 재확인 (기존 LIKE '%kw%'와 같은 결과)
+ *   → 카탈로그 전체를 스캔하지 않고, 페이지 건수도 교집합 크기로 계산 (count 쿼리 없음)
+ * - 갱신: 카탈로그 버전(건수/수정 시각)이 바뀌면 새 색인을 만들어 통째로 교체 (조회 중 잠금 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConcertSearchIndex {
+
+    private static final int MAX_GRAM = 2;
+
+    private final ConcertQueryJpaRepository concertQueryJpaRepository;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 키워드 검색 (id 오름차순)
+     * @return 색인이 아직 없으면 empty (호출 측이 DB 조회로 대체)
+     */
+    public Optional<SearchResult> search(String keyword, long offset, int limit) {
+        Snapshot current = snapshot;
+        if (current == null)
+            return Optional.empty();
+
+        String query = normalize(keyword);
+        if (query.isEmpty())
+            return Optional.empty();
+
+        long[] candidates = current.candidates(query);
+        List<Long> page = new ArrayList<>(limit);
+        long total = 0;
+        for (long id : candidates) {
+            if (!current.contains(id, query))
+                continue;
+            if (total >= offset && page.size() < limit)
+                page.add(id);
+            total++;
+        }
+        return Optional.of(new SearchResult(page, total));
+    }
+
+    /**
+     * 카탈로그가 바뀌었으면 색인 재생성
+     * @return 재생성 여부
+     */
+    public boolean refreshIfChanged() {
+        CatalogVersion version = CatalogVersion.from(concertQueryJpaRepository.findCatalogVersion());
+        Snapshot current = snapshot;
+        if (current != null && current.version.equals(version))
+            return false;
+
+        long startedAt = System.nanoTime();
+        List<ConcertSearchDocumentProjection> documents = concertQueryJpaRepository.findSearchDocuments(ConcertStatus.PUBLIC);
+        snapshot = Snapshot.build(documents, version);
+        log.info("콘서트 검색 색인 갱신 - documents={}, elapsedMs={}", documents.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        return true;
+    }
+
+    static String normalize(String text) {
+        if (text == null)
+            return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    public record SearchResult(List<Long> ids, long totalElements) {}
+
+    private record CatalogVersion(long count, LocalDateTime concertUpdatedAt, LocalDateTime venueUpdatedAt) {
+        static CatalogVersion from(ConcertCatalogVersionProjection projection) {
+            return new CatalogVersion(Objects.requireNonNullElse(projection.getConcertCount(), 0L),
+                    projection.getConcertUpdatedAt(), projection.getVenueUpdatedAt());
+        }
+    }
+
+    /**
+     * 불변 색인 스냅샷
+     * - postings: n-gram → 해당 n-gram을 포함한 콘서트 id (오름차순)
+     * - fields: 콘서트 id → 정규화한 제목/아티스트/공연장명 (후보 재확인용)
+     */
+    private static final class Snapshot {
+        private static final long[] EMPTY = new long[0];
+
+        private final Map<String, long[]> postings;
+        private final Map<Long, String[]> fields;
+        private final long[] allIds;
+        private final CatalogVersion version;
+
+        private Snapshot(Map<String, long[]> postings, Map<Long, String[]> fields, long[] allIds, CatalogVersion version) {
+            this.postings = postings;
+            this.fields = fields;
+            this.allIds = allIds;
+            this.version = version;
+        }
+
+        static Snapshot build(List<ConcertSearchDocumentProjection> documents, CatalogVersion version) {
+            Map<String, List<Long>> building = new HashMap<>();
+            Map<Long, String[]> fields = new HashMap<>(documents.size() * 2);
+            for (ConcertSearchDocumentProjection document : documents) {
+                String[] normalized = {normalize(document.getTitle()), normalize(document.getArtist()), normalize(document.getVenueName())};
+                fields.put(document.getId(), normalized);
+
+                Set<String> grams = new LinkedHashSet<>();
+                for (String field : normalized)
+                    addGrams(field, grams);
+                for (String gram : grams)
+                    building.computeIfAbsent(gram, g -> new ArrayList<>()).add(document.getId());
+            }
+
+            Map<String, long[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, ids) -> postings.put(gram, toSortedArray(ids)));
+            return new Snapshot(postings, fields, toSortedArray(fields.keySet()), version);
+        }
+
+        /**
+         * 키워드의 모든 n-gram을 포함한 후보 (짧은 posting부터 교집합)
+         */
+        long[] candidates(String query) {
+            Set<String> grams = new LinkedHashSet<>();
+            if (query.codePointCount(0, query.length()) < MAX_GRAM)
+                grams.add(query);
+            else
+                addGrams(query, grams, MAX_GRAM);
+
+            List<long[]> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                long[] posting = postings.get(gram);
+                if (posting == null)
+                    return EMPTY;
+                lists.add(posting);
+            }
+            if (lists.isEmpty())
+                return allIds;
+
+            lists.sort((a, b) -> Integer.compare(a.length, b.length));
+            long[] result = lists.get(0);
+            for (int i = 1; i < lists.size() && result.length > 0; i++)
+                result = intersect(result, lists.get(i));
+            return result;
+        }
+
+        boolean contains(long id, String query) {
+            String[] values = fields.get(id);
+            if (values == null)
+                return false;
+            for (String value : values) {
+                if (value.contains(query))
+                    return true;
+            }
+            return false;
+        }
+
+        private static void addGrams(String text, Set<String> grams) {
+            for (int n = 1; n <= MAX_GRAM; n++)
+                addGrams(text, grams, n);
+        }
+
+        private static void addGrams(String text, Set<String> grams, int n) {
+            int[] codePoints = text.codePoints().toArray();
+            for (int i = 0; i + n <= codePoints.length; i++)
+                grams.add(new String(codePoints, i, n));
+        }
+
+        private static long[] intersect(long[] a, long[] b) {
+            long[] out = new long[Math.min(a.length, b.length)];
+            int i = 0, j = 0, k = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    out[k++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, k);
+        }
+
+        private static long[] toSortedArray(Iterable<Long> ids) {
+            List<Long> list = new ArrayList<>();
+            ids.forEach(list::add);
+            long[] array = list.stream().mapToLong(Long::longValue).distinct().toArray();
+            Arrays.sort(array);
+            return array;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.gomdol.concert.concert.presentation.controller;
 
+import com.gomdol.concert.concert.application.facade.FastSellingRankingFacade;
 import com.gomdol.concert.concert.application.port.in.GetFastSellingRankingPort;
+import com.gomdol.concert.concert.application.service.LeaderboardService;
 import com.gomdol.concert.concert.domain.model.FastSellingConcert;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
 import com.gomdol.concert.concert.presentation.dto.FastSellingRankingResponse;
+import com.gomdol.concert.concert.presentation.dto.LeaderboardResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -27,6 +31,8 @@ import static com.gomdol.concert.concert.presentation.dto.FastSellingRankingResp
 public class RankingController {
 
     private final GetFastSellingRankingPort getFastSellingRanking;
+    private final FastSellingRankingFacade rankingFacade;
+    private final LeaderboardService leaderboardService;
 
     /**
      * 콘서트 랭킹 상위 N개 조회
@@ -43,10 +49,11 @@ public class RankingController {
         log.info("콘서트 랭킹 조회 요청 - limit={}", limit);
 
         // limit 검증
-        if (limit < 1 || limit > 50)
+        if (limit < 1 || limit > FastSellingRankingFacade.MAX_TOP)
             throw new IllegalArgumentException("limit은 1~50 사이여야 합니다.");
 
-        List<FastSellingConcert> rankings = getFastSellingRanking.getTopRanking(limit);
+        // 상위 50개 목록을 로컬 캐시에서 잘라 반환
+        List<FastSellingConcert> rankings = rankingFacade.getTopRanking(limit);
         FastSellingRankingResponse response = of(rankings);
         log.info("콘서트 랭킹 조회 완료 - count={}", rankings.size());
 
@@ -73,4 +80,32 @@ public class RankingController {
         log.info("콘서트 랭킹 조회 완료 - concertId={}, rank={}", concertId, ranking.getRank());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 기준 × 기간별 판매량 리더보드 조회
+     *
+     * @param dimension 기준 (concert, show, venue)
+     * @param window    기간 (설정된 이름, 예: 5m, 1h, 24h)
+     * @param limit     조회할 개수 (기본 10개)
+     * @return 판매량 높은 순 목록
+     */
+    @Operation(summary = "리더보드 조회", description = "콘서트/공연/공연장별 최근 기간 판매량 상위 N개를 조회합니다.")
+    @GetMapping("/leaderboards/{dimension}/{window}")
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @Parameter(description = "기준 (concert, show, venue)", example = "show")
+            @PathVariable String dimension,
+            @Parameter(description = "기간 (5m, 1h, 24h)", example = "1h")
+            @PathVariable String window,
+            @Parameter(description = "조회할 개수 (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        LeaderboardDimension leaderboardDimension;
+        try {
+            leaderboardDimension = LeaderboardDimension.valueOf(dimension.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 리더보드 기준입니다: " + dimension);
+        }
+
+        return ResponseEntity.ok(LeaderboardResponse.of(dimension, window, leaderboardService.getTop(leaderboardDimension, window, limit)));
+    }
 }
@@ -0,0 +1,21 @@
+package com.gomdol.concert.concert.presentation.dto;
+
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository.LeaderboardEntry;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 리더보드 응답 DTO
+ * - id: 기준에 따라 콘서트/공연/공연장 ID
+ */
+public record LeaderboardResponse(String dimension, String window, List<LeaderboardEntryDto> rankings) {
+    public static LeaderboardResponse of(String dimension, String window, List<LeaderboardEntry> entries) {
+        List<LeaderboardEntryDto> list = IntStream.range(0, entries.size())
+                .mapToObj(i -> new LeaderboardEntryDto(entries.get(i).id(), entries.get(i).sales(), i + 1))
+                .toList();
+        return new LeaderboardResponse(dimension, window, list);
+    }
+
+    public record LeaderboardEntryDto(Long id, long sales, int rank) {}
+}
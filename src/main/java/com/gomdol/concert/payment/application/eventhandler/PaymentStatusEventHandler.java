@@ -0,0 +1,32 @@
+package com.gomdol.concert.payment.application.eventhandler;
+
+import com.gomdol.concert.payment.application.port.out.PaymentStatusPublisher;
+import com.gomdol.concert.payment.domain.event.PaymentStatusChangedEvent;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 상태 변경 이벤트 핸들러
+ * - 트랜잭션 커밋 후 Redis Pub/Sub으로 브로드캐스트 (요청이 대기 중인 인스턴스가 받아서 응답)
+ * - 전달 실패해도 결제 결과는 유지 (대기 요청은 타임아웃 후 DB 상태로 응답)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusEventHandler {
+
+    private final PaymentStatusPublisher paymentStatusPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePaymentStatusChanged(PaymentStatusChangedEvent event) {
+        try {
+            paymentStatusPublisher.publish(new PaymentResponse(event.paymentId(), event.reservationId(), event.status().toString(), event.amount(), event.paidAt()));
+        } catch (Exception e) {
+            log.warn("결제 상태 브로드캐스트 실패 - paymentId={}, error={}", event.paymentId(), e.getMessage());
+        }
+    }
+}
@@ -6,11 +6,13 @@ import com.gomdol.concert.common.application.lock.port.out.DistributedLock;
 import com.gomdol.concert.common.domain.idempotency.ResourceType;
 import com.gomdol.concert.common.infra.config.DistributedLockProperties;
 import com.gomdol.concert.payment.application.port.in.SavePaymentPort.PaymentCommand;
+import com.gomdol.concert.payment.application.saga.LocalPaymentSaga;
 import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
 import com.gomdol.concert.payment.application.usecase.PaymentQueryUseCase;
 import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +28,7 @@ import static com.gomdol.concert.common.infra.util.CacheUtils.*;
  * - DB 멱등키로 영속적 멱등성 보장
  * - Redis 분산 락으로 동시성 제어
  * - 단일 트랜잭션으로 비즈니스 로직 실행
+ * - saga.mode=local이면 로컬 Saga로 포인트 차감/좌석 확정까지 동기 처리
  */
 
 @Slf4j
@@ -39,6 +42,7 @@ public class PaymentFacade {
     private final PaymentQueryUseCase paymentQueryUseCase;
     private final PaymentSaveUseCase paymentSaveUseCase;
     private final IdempotencyService idempotencyService;
+    private final ObjectProvider<LocalPaymentSaga> localPaymentSaga;
 
     /**
      * 결제 처리 with 멱등성 보장 및 분산 락
@@ -85,7 +89,11 @@ public class PaymentFacade {
     private PaymentResponse executePayment(PaymentCommand command, String cacheKey) {
         try {
             log.info("결제 처리 시작 (동기) - userId={}, requestId={}, reservationId={}", command.userId(), command.requestId(), command.reservationId());
-            PaymentResponse response = paymentSaveUseCase.processPayment(command);
+            // saga.mode=local이면 같은 JVM에서 Saga 완료 후 최종 상태 반환, 아니면 PENDING 반환 후 Kafka Saga 진행
+            LocalPaymentSaga localSaga = localPaymentSaga.getIfAvailable();
+            PaymentResponse response = localSaga != null
+                    ? localSaga.process(command)
+                    : paymentSaveUseCase.processPayment(command);
             // 성공 시 캐시에 저장
             cacheRepository.set(cacheKey, response, PAYMENT_CACHE_TTL);
             log.info("캐시 저장 - requestId={}, paymentId={}", command.requestId(), response.paymentId());
@@ -0,0 +1,22 @@
+package com.gomdol.concert.payment.application.port.out;
+
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentSagaRepository {
+    PaymentSaga save(PaymentSaga saga);
+
+    /**
+     * Saga 상태 잠금 조회 (Consumer와 타임아웃 스캐너의 상태 전이 직렬화)
+     */
+    Optional<PaymentSaga> findByPaymentIdForUpdate(Long paymentId);
+
+    /**
+     * 기한이 지난 진행 중 Saga 선점 (다른 인스턴스가 잠근 행은 건너뜀)
+     * - next_deadline 인덱스 범위 스캔, 기한이 이른 순
+     */
+    List<PaymentSaga> findExpiredForUpdate(LocalDateTime now, int limit);
+}
@@ -0,0 +1,10 @@
+package com.gomdol.concert.payment.application.port.out;
+
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+
+/**
+ * 결제 상태 변경 브로드캐스트 (모든 인스턴스의 구독자에게 전달)
+ */
+public interface PaymentStatusPublisher {
+    void publish(PaymentResponse response);
+}
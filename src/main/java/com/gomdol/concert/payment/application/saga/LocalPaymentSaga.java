@@ -0,0 +1,128 @@
+package com.gomdol.concert.payment.application.saga;
+
+import com.gomdol.concert.payment.application.port.in.SavePaymentPort.PaymentCommand;
+import com.gomdol.concert.payment.application.port.out.PaymentRepository;
+import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import com.gomdol.concert.point.application.service.PointCommandService;
+import com.gomdol.concert.reservation.application.port.out.ReservationRepository;
+import com.gomdol.concert.reservation.application.service.ReservationCommandService;
+import com.gomdol.concert.reservation.application.service.ReservationCompletionPublisher;
+import com.gomdol.concert.reservation.domain.model.Reservation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로컬 Saga 오케스트레이터 (saga.mode=local)
+ * Payment/Point/Reservation이 같은 JVM에 있을 때 Kafka 왕복 없이 Saga 단계를 직접 호출
+ *
+ * [정상 흐름]
+ * 1. Payment 생성 (PENDING) + Saga 시작 (AWAITING_POINT)
+ * 2. 포인트 차감 (PointCommandService.usePoint) → Saga AWAITING_SEATS
+ * 3. 좌석 확정 + Payment 완료 + 예약 완료 이벤트 + Saga COMPLETED (한 트랜잭션, 커밋 후 reservation-completed 토픽 발행)
+ *
+ * [보상 흐름] - Kafka Saga와 동일한 보상
+ * - 2 실패 (원인 무관): Payment FAILED + 좌석 취소 + Saga FAILED
+ * - 3 실패: Payment FAILED + 포인트 환불 + Saga FAILED
+ *
+ * - 단계마다 독립 트랜잭션 (각 단계 커밋 후 다음 단계 진행)
+ * - 보상까지 실패하면 Saga가 진행 단계로 남음 → 기한 초과 시 PaymentSagaTimeoutHandler가 좌석 취소/포인트 환불
+ * - 이미 기한 초과로 보상된 Saga(TIMED_OUT)는 중복 보상하지 않음 (단, 포인트 차감 직후 기한 초과면 환불)
+ * - 좌석 확정 직전에 기한 초과된 Saga는 좌석 확정/완료 이벤트 발행 없이 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.mode", havingValue = "local")
+public class LocalPaymentSaga {
+
+    private final PaymentSaveUseCase paymentSaveUseCase;
+    private final PaymentRepository paymentRepository;
+    private final PaymentSagaTracker sagaTracker;
+    private final PointCommandService pointCommandService;
+    private final ReservationCommandService reservationCommandService;
+    private final ReservationRepository reservationRepository;
+    private final ReservationCompletionPublisher completionPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public PaymentResponse process(PaymentCommand command) {
+        log.info("=== [Local Saga] 시작 - requestId={} ===", command.requestId());
+        Payment payment = paymentSaveUseCase.createPayment(command);
+
+        // 포인트 차감
+        try {
+            pointCommandService.usePoint(command.userId(), command.requestId(), payment.getAmount());
+        } catch (Exception e) {
+            log.warn("[Local Saga] 포인트 사용 실패 - paymentId={}, reason={}", payment.getId(), e.getMessage());
+            return PaymentResponse.fromDomain(transactionTemplate.execute(status -> {
+                PaymentSaga saga = lockSaga(payment.getId());
+                if (saga.getStep().isTerminal())
+                    return currentPayment(payment.getId());
+
+                reservationCommandService.cancelSeats(payment.getReservationId());
+                sagaTracker.fail(saga);
+                return paymentSaveUseCase.failPayment(payment.getId(), "포인트 사용 실패: " + e.getMessage());
+            }));
+        }
+
+        // 포인트 차감 완료 기록 (이후 보상이 실패해도 타임아웃 스캐너가 환불하도록)
+        boolean awaitingSeats = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            PaymentSaga saga = lockSaga(payment.getId());
+            if (!saga.isAwaiting(PaymentSagaStep.AWAITING_POINT))
+                return false;
+            sagaTracker.pointUsed(saga);
+            return true;
+        }));
+        if (!awaitingSeats) {
+            log.warn("[Local Saga] 포인트 차감 전 기한 초과 - paymentId={}, 포인트 환불", payment.getId());
+            pointCommandService.refundPoint(command.userId(), command.requestId() + "-refund", payment.getAmount(), "Saga 기한 초과 후 포인트 차감");
+            return PaymentResponse.fromDomain(currentPayment(payment.getId()));
+        }
+
+        // 좌석 확정 + 결제 완료
+        try {
+            Payment completed = transactionTemplate.execute(status -> {
+                PaymentSaga saga = lockSaga(payment.getId());
+                // 그 사이 기한 초과로 보상된 Saga면 좌석 확정/완료 이벤트 발행 없이 현재 상태 반환 (환불은 타임아웃 처리에서 수행)
+                if (!saga.isAwaiting(PaymentSagaStep.AWAITING_SEATS))
+                    return currentPayment(payment.getId());
+
+                reservationCommandService.confirmSeats(payment.getReservationId());
+                Reservation reservation = reservationRepository.findById(payment.getReservationId())
+                        .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다"));
+                completionPublisher.publish(reservation);
+                sagaTracker.complete(saga);
+                return paymentSaveUseCase.completePayment(payment.getId());
+            });
+            log.info("=== [Local Saga] 완료 - paymentId={}, status={} ===", payment.getId(), completed.getStatus());
+            return PaymentResponse.fromDomain(completed);
+        } catch (Exception e) {
+            log.warn("[Local Saga] 좌석 확정 실패 - paymentId={}, reason={}", payment.getId(), e.getMessage());
+            return PaymentResponse.fromDomain(transactionTemplate.execute(status -> {
+                PaymentSaga saga = lockSaga(payment.getId());
+                if (saga.getStep().isTerminal())
+                    return currentPayment(payment.getId());
+
+                pointCommandService.refundPoint(command.userId(), command.requestId() + "-refund", payment.getAmount(), "좌석 확정 실패");
+                sagaTracker.fail(saga);
+                return paymentSaveUseCase.failPayment(payment.getId(), "좌석 확정 실패: " + e.getMessage());
+            }));
+        }
+    }
+
+    private PaymentSaga lockSaga(Long paymentId) {
+        return sagaTracker.lock(paymentId)
+                .orElseThrow(() -> new IllegalStateException("결제 Saga를 찾을 수 없습니다. paymentId=" + paymentId));
+    }
+
+    private Payment currentPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다. ID: " + paymentId));
+    }
+}
@@ -0,0 +1,82 @@
+package com.gomdol.concert.payment.application.saga;
+
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
+import com.gomdol.concert.common.infra.config.SagaTimeoutProperties;
+import com.gomdol.concert.payment.application.port.out.PaymentRepository;
+import com.gomdol.concert.payment.application.port.out.PaymentSagaRepository;
+import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import com.gomdol.concert.reservation.domain.command.CancelSeatsCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 Saga 기한 초과 보상
+ * - PointUsedEvent/SeatsConfirmedEvent 유실 또는 Outbox FAILED 방치로 멈춘 Saga의 좌석/포인트 회수
+ * - 기한이 지난 Saga를 배치 단위로 선점 (FOR UPDATE SKIP LOCKED → 인스턴스 간 중복 보상 없음)
+ * - 결제 실패 처리 + 보상 Command를 한 트랜잭션에서 일괄 Outbox 저장
+ *   - AWAITING_POINT: 좌석 취소 (포인트 차감 여부를 알 수 없으므로 환불은 지연 도착한 PointUsedEvent(success)에서 처리)
+ *   - AWAITING_SEATS: 좌석 취소 + 포인트 환불
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentSagaTimeoutHandler {
+
+    static final String TIMEOUT_REASON = "Saga 단계 기한 초과";
+
+    private final PaymentSagaRepository sagaRepository;
+    private final PaymentRepository paymentRepository;
+    private final PaymentSaveUseCase paymentSaveUseCase;
+    private final PaymentSagaTracker sagaTracker;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final SagaTimeoutProperties properties;
+
+    @Value("${kafka.topics.cancel-seats-command}")
+    private String cancelSeatsCommandTopic;
+
+    /**
+     * 기한이 지난 Saga 보상 (한 배치)
+     * @return 보상 처리한 Saga 수
+     */
+    @Transactional
+    public int compensateExpired() {
+        List<PaymentSaga> expired = sagaRepository.findExpiredForUpdate(LocalDateTime.now(), properties.batchSize());
+        if (expired.isEmpty())
+            return 0;
+
+        List<OutboxMessage> messages = new ArrayList<>(expired.size() * 2);
+        for (PaymentSaga saga : expired) {
+            log.warn("[Saga Timeout] 기한 초과 - paymentId={}, step={}, deadline={}", saga.getPaymentId(), saga.getStep(), saga.getNextDeadline());
+            boolean pointUsed = saga.isAwaiting(PaymentSagaStep.AWAITING_SEATS);
+
+            failPaymentIfPending(saga.getPaymentId());
+            CancelSeatsCommand cancel = CancelSeatsCommand.of(saga.getPaymentId(), saga.getReservationId(), saga.getUserId(), saga.getRequestId(), TIMEOUT_REASON);
+            messages.add(OutboxMessage.of(cancel.messageKey(), "CancelSeatsCommand", cancelSeatsCommandTopic, cancel));
+            if (pointUsed)
+                messages.add(sagaTracker.refundMessage(saga, TIMEOUT_REASON));
+
+            saga.timeout();
+            sagaRepository.save(saga);
+        }
+        outboxEventPublisher.saveOutboxEvents("PAYMENT", messages);
+        log.info("[Saga Timeout] 보상 Command Outbox 저장 완료 - Saga 수={}, Command 수={}", expired.size(), messages.size());
+        return expired.size();
+    }
+
+    private void failPaymentIfPending(Long paymentId) {
+        boolean terminal = paymentRepository.findById(paymentId).map(Payment::isTerminal).orElse(true);
+        if (!terminal)
+            paymentSaveUseCase.failPayment(paymentId, TIMEOUT_REASON);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gomdol.concert.payment.application.saga;
+
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
+import com.gomdol.concert.common.infra.config.SagaTimeoutProperties;
+import com.gomdol.concert.payment.application.port.out.PaymentSagaRepository;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import com.gomdol.concert.point.domain.command.RefundPointCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 결제 Saga 진행 상태 추적
+ * - Saga 시작/단계 전이 시 다음 단계 기한(next_deadline) 갱신
+ * - Consumer와 타임아웃 스캐너는 Saga 행 잠금으로 직렬화 → 기한 초과 후 도착한 이벤트는 TIMED_OUT 상태로 판별
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentSagaTracker {
+
+    private final PaymentSagaRepository sagaRepository;
+    private final SagaTimeoutProperties properties;
+
+    @Value("${kafka.topics.refund-point-command}")
+    private String refundPointCommandTopic;
+
+    /**
+     * Saga 시작 (UsePointCommand 발행과 같은 트랜잭션)
+     */
+    public void start(Payment payment) {
+        sagaRepository.save(PaymentSaga.start(payment, deadline(properties.pointStepTimeoutMs())));
+    }
+
+    /**
+     * Saga 상태 잠금 조회 (Saga 추적 이전에 생성된 결제는 empty)
+     */
+    public Optional<PaymentSaga> lock(Long paymentId) {
+        return sagaRepository.findByPaymentIdForUpdate(paymentId);
+    }
+
+    public void pointUsed(PaymentSaga saga) {
+        saga.pointUsed(deadline(properties.seatsStepTimeoutMs()));
+        sagaRepository.save(saga);
+    }
+
+    public void complete(PaymentSaga saga) {
+        saga.complete();
+        sagaRepository.save(saga);
+    }
+
+    public void fail(PaymentSaga saga) {
+        saga.fail();
+        sagaRepository.save(saga);
+    }
+
+    /**
+     * 포인트 환불 Command (기한 초과 보상, 기한 초과 후 도착한 포인트 차감 성공 보상)
+     */
+    public OutboxMessage refundMessage(PaymentSaga saga, String reason) {
+        RefundPointCommand refund = RefundPointCommand.of(saga.getPaymentId(), saga.getReservationId(), saga.getUserId(),
+                saga.getRequestId() + "-refund", saga.getAmount(), reason);
+        return OutboxMessage.of(refund.messageKey(), "RefundPointCommand", refundPointCommandTopic, refund);
+    }
+
+    private static LocalDateTime deadline(long timeoutMs) {
+        return LocalDateTime.now().plusNanos(timeoutMs * 1_000_000);
+    }
+}
@@ -0,0 +1,99 @@
+package com.gomdol.concert.payment.application.service;
+
+import com.gomdol.concert.payment.application.usecase.PaymentQueryUseCase;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결제 상태 대기 요청 관리 (인스턴스 로컬)
+ * - 요청 스레드를 점유하지 않고 future만 등록 → 상태 변경 수신 시 완료
+ * - 완료된 future는 자동 정리, 타임아웃 시 호출 측에서 unwatch
+ * - 다른 사용자의 결제는 존재하지 않는 것으로 처리 (결제 ID 열거로 타인의 상태/금액 조회 방지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusWatcher {
+
+    private final PaymentQueryUseCase paymentQueryUseCase;
+    private final Map<Long, Set<CompletableFuture<PaymentResponse>>> watchers = new ConcurrentHashMap<>();
+
+    /**
+     * 최종 상태(SUCCEEDED/FAILED) 대기
+     * - 먼저 등록한 뒤 조회 (조회 ~ 등록 사이에 도착한 알림 누락 방지)
+     * - 이미 최종 상태면 즉시 완료
+     */
+    public CompletableFuture<PaymentResponse> awaitFinalStatus(Long paymentId, String userId) {
+        CompletableFuture<PaymentResponse> future = watch(paymentId);
+        future.whenComplete((response, ex) -> unwatch(paymentId, future));
+        try {
+            Payment current = findPayment(paymentId, userId);
+            if (current.isCompleted())
+                future.complete(PaymentResponse.fromDomain(current));
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        return future;
+    }
+
+    public PaymentResponse currentStatus(Long paymentId, String userId) {
+        return PaymentResponse.fromDomain(findPayment(paymentId, userId));
+    }
+
+    private Payment findPayment(Long paymentId, String userId) {
+        return paymentQueryUseCase.findById(paymentId)
+                .filter(payment -> payment.getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다. ID: " + paymentId));
+    }
+
+    /**
+     * 등록은 compute 안에서 수행 (조회 후 add 사이에 unwatch/notify가 Set을 맵에서 제거하면 맵에 없는 Set에 등록되어 알림 누락)
+     */
+    public CompletableFuture<PaymentResponse> watch(Long paymentId) {
+        CompletableFuture<PaymentResponse> future = new CompletableFuture<>();
+        watchers.compute(paymentId, (id, futures) -> {
+            Set<CompletableFuture<PaymentResponse>> registered = futures != null ? futures : ConcurrentHashMap.newKeySet();
+            registered.add(future);
+            return registered;
+        });
+        return future;
+    }
+
+    public void unwatch(Long paymentId, CompletableFuture<PaymentResponse> future) {
+        watchers.computeIfPresent(paymentId, (id, futures) -> {
+            futures.remove(future);
+            return futures.isEmpty() ? null : futures;
+        });
+    }
+
+    /**
+     * 상태 변경 수신 (Redis 구독 스레드) → 대기 중인 요청 모두 완료
+     * - 제거도 compute 안에서 수행, 완료는 밖에서 (완료 콜백의 unwatch가 같은 키를 다시 갱신하므로)
+     */
+    public void notify(PaymentResponse response) {
+        List<CompletableFuture<PaymentResponse>> futures = new ArrayList<>();
+        watchers.computeIfPresent(response.paymentId(), (id, registered) -> {
+            futures.addAll(registered);
+            return null;
+        });
+        if (futures.isEmpty())
+            return;
+        futures.forEach(future -> future.complete(response));
+        log.debug("결제 상태 대기 요청 완료 - paymentId={}, status={}, count={}", response.paymentId(), response.status(), futures.size());
+    }
+
+    public int watchingCount() {
+        return watchers.values().stream().mapToInt(Set::size).sum();
+    }
+}
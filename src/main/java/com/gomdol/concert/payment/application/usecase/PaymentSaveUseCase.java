@@ -1,15 +1,13 @@
 package com.gomdol.concert.payment.application.usecase;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.gomdol.concert.common.application.idempotency.port.in.CreateIdempotencyKey;
-import com.gomdol.concert.common.application.outbox.OutboxRepository;
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
 import com.gomdol.concert.common.domain.idempotency.ResourceType;
-import com.gomdol.concert.common.domain.outbox.OutboxEvent;
 import com.gomdol.concert.payment.application.port.in.SavePaymentPort;
 import com.gomdol.concert.payment.application.port.out.PaymentRepository;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTracker;
 import com.gomdol.concert.payment.domain.command.UsePointCommand;
+import com.gomdol.concert.payment.domain.event.PaymentStatusChangedEvent;
 import com.gomdol.concert.payment.domain.model.Payment;
 import com.gomdol.concert.payment.infra.PaymentCodeGenerator;
 import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
@@ -17,13 +15,11 @@ import com.gomdol.concert.reservation.application.port.out.ReservationRepository
 import com.gomdol.concert.reservation.domain.model.Reservation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import static com.gomdol.concert.common.domain.outbox.OutboxEvent.create;
-
 
 /**
  * PaymentSaveUseCase
@@ -38,6 +34,8 @@ import static com.gomdol.concert.common.domain.outbox.OutboxEvent.create;
  * 7. Reservation Service → 좌석 확정 → SeatsConfirmedEvent Outbox 저장
  * 8. OutboxScheduler → Kafka: SeatsConfirmedEvent
  * 9. Payment Consumer → Payment 상태 업데이트 (COMPLETED)
+ *
+ * [단계 기한] 3~5, 7~9 단계가 기한 내에 끝나지 않으면 PaymentSagaTimeoutHandler가 보상 (payment_saga.next_deadline)
  */
 @Slf4j
 @Service
@@ -48,22 +46,37 @@ public class PaymentSaveUseCase implements SavePaymentPort {
     private final PaymentRepository paymentRepository;
     private final ReservationRepository reservationRepository;
     private final PaymentCodeGenerator codeGenerator;
+    private final PaymentSagaTracker sagaTracker;
 
-    @Qualifier("paymentOutboxRepositoryImpl")
-    private final OutboxRepository paymentOutboxRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${kafka.topics.use-point-command:use-point-command}")
     private String usePointCommandTopic;
 
     /**
-     * 결제 준비 (PENDING 상태로 생성)
+     * 결제 준비 (PENDING 상태로 생성) + Kafka Saga 시작
      */
     @Transactional
     public PaymentResponse processPayment(SavePaymentPort.PaymentCommand command) {
         log.info("=== [Payment Service] Saga 시작 - requestId={} ===", command.requestId());
+        Payment payment = createPayment(command);
+
+        // UsePointCommand를 Payment Outbox에 저장
+        UsePointCommand usePointCommand = UsePointCommand.of(payment.getId(), command.reservationId(), command.userId(), command.requestId(), command.amount());
+        saveOutboxEvent(usePointCommand.messageKey(), usePointCommandTopic, usePointCommand);
+        log.info("[Payment Service] UsePointCommand Outbox 저장 완료 - paymentId={}", payment.getId());
+
+        return PaymentResponse.fromDomain(payment);
+    }
 
-        // 결제 준비
+    /**
+     * 결제 준비 (PENDING 상태로 생성) + Saga 추적 시작
+     * - 로컬 Saga 모드에서는 Outbox 없이 이후 단계를 같은 JVM에서 바로 실행
+     * - 두 모드 모두 단계 기한을 넘기면 PaymentSagaTimeoutHandler가 보상
+     */
+    @Transactional
+    public Payment createPayment(SavePaymentPort.PaymentCommand command) {
         if(command.amount() <= 0)
             throw new IllegalArgumentException("결제 금액은 0보다 커야합니다");
         Reservation reservation = getPaymentEligibleReservation(command.reservationId(), command.amount());
@@ -76,13 +89,8 @@ public class PaymentSaveUseCase implements SavePaymentPort {
 
         // 멱등성 키 저장 - 성공적으로 처리된 요청 기록
         createIdempotencyKey.createIdempotencyKey(command.requestId(), command.userId(), ResourceType.PAYMENT, payment.getId());
-
-        // UsePointCommand를 Payment Outbox에 저장
-        UsePointCommand usePointCommand = UsePointCommand.of(payment.getId(), command.reservationId(), command.userId(), command.requestId(), command.amount());
-        saveOutboxEvent(payment.getId().toString(), usePointCommandTopic, usePointCommand);
-        log.info("[Payment Service] UsePointCommand Outbox 저장 완료 - paymentId={}", payment.getId());
-
-        return PaymentResponse.fromDomain(payment);
+        sagaTracker.start(payment);
+        return payment;
     }
 
     private Reservation getPaymentEligibleReservation(Long reservationId, long amount) {
@@ -96,14 +104,7 @@ public class PaymentSaveUseCase implements SavePaymentPort {
     }
 
     private void saveOutboxEvent(String aggregateId, String topic, Object event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent = create("PAYMENT", aggregateId, "UsePointCommand", topic, payload);
-            paymentOutboxRepository.save(outboxEvent);
-        } catch (JsonProcessingException e) {
-            log.error("[Payment Outbox] 이벤트 직렬화 실패", e);
-            throw new RuntimeException("Failed to serialize outbox event", e);
-        }
+        outboxEventPublisher.saveOutboxEvent("PAYMENT", aggregateId, "UsePointCommand", topic, event);
     }
 
     /**
@@ -136,27 +137,38 @@ public class PaymentSaveUseCase implements SavePaymentPort {
      * 결제 실패 처리
      */
     @Transactional
-    public void failPayment(Long paymentId, String reason) {
+    public Payment failPayment(Long paymentId, String reason) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다. ID: " + paymentId));
 
         payment.failed();
-        paymentRepository.save(payment);
+        Payment saved = paymentRepository.save(payment);
 
         log.warn("결제 실패 처리 - paymentId={}, reason={}", paymentId, reason);
+        publishStatusChanged(saved);
+        return saved;
     }
 
     /**
      * 결제 완료 처리 (Saga 성공)
      */
     @Transactional
-    public void completePayment(Long paymentId) {
+    public Payment completePayment(Long paymentId) {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다. ID: " + paymentId));
 
         payment.succeed();
-        paymentRepository.save(payment);
+        Payment saved = paymentRepository.save(payment);
 
         log.info("결제 완료 - paymentId={}", paymentId);
+        publishStatusChanged(saved);
+        return saved;
+    }
+
+    /**
+     * 최종 상태 이벤트 발행 → 커밋 후 결제 상태 대기 요청(long-poll)에 전달
+     */
+    private void publishStatusChanged(Payment payment) {
+        eventPublisher.publishEvent(new PaymentStatusChangedEvent(payment.getId(), payment.getReservationId(), payment.getStatus(), payment.getAmount(), payment.getPaidAt()));
     }
 }
@@ -0,0 +1,16 @@
+package com.gomdol.concert.payment.domain;
+
+/**
+ * 결제 Saga 진행 단계
+ * - AWAITING_POINT: UsePointCommand 발행 후 PointUsedEvent 대기
+ * - AWAITING_SEATS: ConfirmSeatsCommand 발행 후 SeatsConfirmedEvent 대기
+ * - COMPLETED / FAILED: 정상 종료
+ * - TIMED_OUT: 단계 기한 초과로 보상 처리됨 (이후 도착한 이벤트는 지연 이벤트로 처리)
+ */
+public enum PaymentSagaStep {
+    AWAITING_POINT, AWAITING_SEATS, COMPLETED, FAILED, TIMED_OUT;
+
+    public boolean isTerminal() {
+        return this == COMPLETED || this == FAILED || this == TIMED_OUT;
+    }
+}
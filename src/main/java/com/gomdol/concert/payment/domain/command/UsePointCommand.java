@@ -1,5 +1,6 @@
 package com.gomdol.concert.payment.domain.command;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
  * Payment가 Point Service로 전송
  */
 @Getter
-public class UsePointCommand {
+public class UsePointCommand implements SagaMessage {
     private final Long paymentId;
     private final Long reservationId;
     private final String userId;
@@ -49,4 +50,17 @@ public class UsePointCommand {
                 LocalDateTime.now()
         );
     }
+
+    /**
+     * Kafka 메시지 키 - 사용자 단위 파티셔닝
+     * 같은 사용자의 포인트 차감/환불은 같은 파티션에서 순서대로 처리
+     */
+    public String messageKey() {
+        return userId;
+    }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
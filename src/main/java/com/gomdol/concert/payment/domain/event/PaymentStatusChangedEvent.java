@@ -0,0 +1,18 @@
+package com.gomdol.concert.payment.domain.event;
+
+import com.gomdol.concert.payment.domain.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 최종 상태 변경 이벤트 (SUCCEEDED / FAILED)
+ * - 커밋 후 결제 상태 구독자(long-poll)에게 전달
+ */
+public record PaymentStatusChangedEvent(
+        Long paymentId,
+        Long reservationId,
+        PaymentStatus status,
+        long amount,
+        LocalDateTime paidAt
+) {
+}
@@ -0,0 +1,83 @@
+package com.gomdol.concert.payment.domain.model;
+
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 Saga 진행 상태 (결제당 1건)
+ * - 진행 중인 단계마다 기한(nextDeadline)을 두고, 기한이 지나면 타임아웃 스캐너가 보상 처리
+ * - 종료 단계는 nextDeadline = null (스캔 대상에서 제외)
+ */
+@Getter
+public class PaymentSaga {
+    private final Long paymentId;
+    private final Long reservationId;
+    private final String userId;
+    private final String requestId;
+    private final long amount;
+    private PaymentSagaStep step;
+    private LocalDateTime nextDeadline;
+
+    private PaymentSaga(Long paymentId, Long reservationId, String userId, String requestId, long amount, PaymentSagaStep step, LocalDateTime nextDeadline) {
+        this.paymentId = paymentId;
+        this.reservationId = reservationId;
+        this.userId = userId;
+        this.requestId = requestId;
+        this.amount = amount;
+        this.step = step;
+        this.nextDeadline = nextDeadline;
+    }
+
+    public static PaymentSaga start(Payment payment, LocalDateTime deadline) {
+        return new PaymentSaga(payment.getId(), payment.getReservationId(), payment.getUserId(), payment.getRequestId(), payment.getAmount(), PaymentSagaStep.AWAITING_POINT, deadline);
+    }
+
+    // DB에서 조회한 데이터
+    public static PaymentSaga of(Long paymentId, Long reservationId, String userId, String requestId, long amount, PaymentSagaStep step, LocalDateTime nextDeadline) {
+        return new PaymentSaga(paymentId, reservationId, userId, requestId, amount, step, nextDeadline);
+    }
+
+    // 비즈니스 메서드
+    public void pointUsed(LocalDateTime deadline) {
+        requireStep(PaymentSagaStep.AWAITING_POINT);
+        this.step = PaymentSagaStep.AWAITING_SEATS;
+        this.nextDeadline = deadline;
+    }
+
+    public void complete() {
+        requireStep(PaymentSagaStep.AWAITING_SEATS);
+        end(PaymentSagaStep.COMPLETED);
+    }
+
+    public void fail() {
+        if (step.isTerminal())
+            throw new IllegalStateException("이미 종료된 Saga입니다. step=" + step);
+        end(PaymentSagaStep.FAILED);
+    }
+
+    public void timeout() {
+        if (step.isTerminal())
+            throw new IllegalStateException("이미 종료된 Saga입니다. step=" + step);
+        end(PaymentSagaStep.TIMED_OUT);
+    }
+
+    public boolean isAwaiting(PaymentSagaStep expected) {
+        return this.step == expected;
+    }
+
+    public boolean isTimedOut() {
+        return this.step == PaymentSagaStep.TIMED_OUT;
+    }
+
+    private void end(PaymentSagaStep terminal) {
+        this.step = terminal;
+        this.nextDeadline = null;
+    }
+
+    private void requireStep(PaymentSagaStep expected) {
+        if (this.step != expected)
+            throw new IllegalStateException(expected + " 단계에서만 처리할 수 있습니다. step=" + step);
+    }
+}
@@ -1,11 +1,13 @@
 package com.gomdol.concert.payment.infra.kafka.consumer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.gomdol.concert.common.application.outbox.OutboxRepository;
-import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
+import com.gomdol.concert.common.infra.kafka.KeyOrderedParallelProcessor;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTracker;
 import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
 import com.gomdol.concert.point.domain.command.RefundPointCommand;
 import com.gomdol.concert.point.domain.event.PointUsedEvent;
 import com.gomdol.concert.reservation.domain.command.CancelSeatsCommand;
@@ -13,7 +15,7 @@ import com.gomdol.concert.reservation.domain.command.ConfirmSeatsCommand;
 import com.gomdol.concert.reservation.domain.event.SeatsConfirmedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
@@ -22,8 +24,10 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import static com.gomdol.concert.point.domain.command.RefundPointCommand.*;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Payment Service용 Saga Consumer
@@ -32,6 +36,8 @@ import static com.gomdol.concert.point.domain.command.RefundPointCommand.*;
  * 수신하는 이벤트:
  * 1. PointUsedEvent (from Point Service)
  * 2. SeatsConfirmedEvent (from Reservation Service)
+ *
+ * Saga 상태(payment_saga)를 잠그고 처리 → 기한 초과로 이미 보상된 Saga의 이벤트는 지연 이벤트로 처리
  */
 @Slf4j
 @Component
@@ -39,11 +45,11 @@ import static com.gomdol.concert.point.domain.command.RefundPointCommand.*;
 public class PaymentSagaConsumer {
 
     private final PaymentSaveUseCase paymentSaveUseCase;
+    private final PaymentSagaTracker sagaTracker;
 
-    @Qualifier("paymentOutboxRepositoryImpl")
-    private final OutboxRepository paymentOutboxRepository;
-
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final KeyOrderedParallelProcessor parallelProcessor;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${kafka.topics.confirm-seats-command}")
     private String confirmSeatsCommandTopic;
@@ -69,7 +75,9 @@ public class PaymentSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.point-used-event}",
             groupId = "${kafka.consumer.payment-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            concurrency = "${kafka.consumer.concurrency.payment:1}",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${kafka.consumer.batch-enabled:false}}"
     )
     public void handlePointUsedEvent(
             @Payload PointUsedEvent event,
@@ -79,13 +87,44 @@ public class PaymentSagaConsumer {
     ) {
         log.info("=== [Payment Service] PointUsedEvent 수신 - paymentId={}, succeeded={}, offset={} ===", event.paymentId(), event.succeeded(), offset);
 
+        handlePointUsed(event);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * PointUsedEvent 배치 수신 처리 (kafka.consumer.batch-enabled=true)
+     * - paymentId(메시지 키) 단위로 병렬 처리, 같은 결제의 이벤트는 순서대로 처리
+     * - 레코드별 독립 트랜잭션 (결제마다 Saga 상태 전이가 독립적)
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.point-used-event}",
+            groupId = "${kafka.consumer.payment-group}",
+            concurrency = "${kafka.consumer.concurrency.payment:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.consumer.batch-enabled:false}"
+    )
+    public void handlePointUsedEvents(List<ConsumerRecord<String, PointUsedEvent>> records, Acknowledgment acknowledgment) {
+        log.info("=== [Payment Service] PointUsedEvent 배치 수신 - 개수={} ===", records.size());
+        parallelProcessor.process(records, record -> transactionTemplate.executeWithoutResult(status -> handlePointUsed(record.value())));
+        acknowledgment.acknowledge();
+    }
+
+    private void handlePointUsed(PointUsedEvent event) {
         try {
-            if (event.succeeded())
+            Optional<PaymentSaga> saga = sagaTracker.lock(event.paymentId());
+            if (saga.isPresent() && !saga.get().isAwaiting(PaymentSagaStep.AWAITING_POINT)) {
+                handleLatePointUsed(event, saga.get());
+                return;
+            }
+
+            if (event.succeeded()) {
                 handlePointUsedSuccess(event);
-            else
+                saga.ifPresent(sagaTracker::pointUsed);
+            } else {
                 handlePointUsedFailure(event);
+                saga.ifPresent(sagaTracker::fail);
+            }
 
-            acknowledgment.acknowledge();
             log.info("[Payment Service] PointUsedEvent 처리 완료");
         } catch (Exception e) {
             log.error("[Payment Service] PointUsedEvent 처리 중 예외 발생", e);
@@ -103,7 +142,7 @@ public class PaymentSagaConsumer {
 
         // ConfirmSeatsCommand를 Outbox에 저장
         ConfirmSeatsCommand command = ConfirmSeatsCommand.of(event.paymentId(), event.reservationId(), event.userId(), event.requestId());
-        saveOutboxEvent(event.paymentId().toString(), "ConfirmSeatsCommand", confirmSeatsCommandTopic, command);
+        saveOutboxEvent(command.messageKey(), "ConfirmSeatsCommand", confirmSeatsCommandTopic, command);
         log.info("[Payment Service] ConfirmSeatsCommand Outbox 저장 완료");
     }
 
@@ -117,10 +156,25 @@ public class PaymentSagaConsumer {
 
         // CancelSeatsCommand를 Outbox에 저장 (보상 트랜잭션)
         CancelSeatsCommand command = CancelSeatsCommand.of(event.paymentId(), event.reservationId(), event.userId(), event.requestId(), "포인트 사용 실패");
-        saveOutboxEvent(event.paymentId().toString(), "CancelSeatsCommand", cancelSeatsCommandTopic, command);
+        saveOutboxEvent(command.messageKey(), "CancelSeatsCommand", cancelSeatsCommandTopic, command);
         log.info("[Payment Service] CancelSeatsCommand Outbox 저장 완료 (보상 트랜잭션)");
     }
 
+    /**
+     * 이미 다음 단계로 넘어갔거나 종료된 Saga의 PointUsedEvent
+     * - 기한 초과 보상 후 도착한 차감 성공 → 차감된 포인트 환불
+     * - 그 외 (중복 수신, 차감 실패) → 무시
+     */
+    private void handleLatePointUsed(PointUsedEvent event, PaymentSaga saga) {
+        if (saga.isTimedOut() && event.succeeded()) {
+            OutboxMessage refund = sagaTracker.refundMessage(saga, "Saga 기한 초과 후 포인트 차감");
+            saveOutboxEvent(refund.aggregateId(), refund.eventType(), refund.topic(), refund.event());
+            log.warn("[Payment Service] 기한 초과 후 포인트 차감 성공 수신 - 환불 Command Outbox 저장, paymentId={}", event.paymentId());
+            return;
+        }
+        log.info("[Payment Service] PointUsedEvent 무시 - paymentId={}, step={}", event.paymentId(), saga.getStep());
+    }
+
     /**
      * SeatsConfirmedEvent 수신 처리
      *
@@ -135,7 +189,9 @@ public class PaymentSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.seats-confirmed-event}",
             groupId = "${kafka.consumer.payment-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            concurrency = "${kafka.consumer.concurrency.payment:1}",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${kafka.consumer.batch-enabled:false}}"
     )
     public void handleSeatsConfirmedEvent(
             @Payload SeatsConfirmedEvent event,
@@ -145,15 +201,45 @@ public class PaymentSagaConsumer {
     ) {
         log.info("=== [Payment Service] SeatsConfirmedEvent 수신 - paymentId={}, succeeded={}, offset={} ===", event.paymentId(), event.succeeded(), offset);
 
+        handleSeatsConfirmed(event);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * SeatsConfirmedEvent 배치 수신 처리 (kafka.consumer.batch-enabled=true)
+     * - reservationId(메시지 키) 단위로 병렬 처리, 레코드별 독립 트랜잭션
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.seats-confirmed-event}",
+            groupId = "${kafka.consumer.payment-group}",
+            concurrency = "${kafka.consumer.concurrency.payment:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.consumer.batch-enabled:false}"
+    )
+    public void handleSeatsConfirmedEvents(List<ConsumerRecord<String, SeatsConfirmedEvent>> records, Acknowledgment acknowledgment) {
+        log.info("=== [Payment Service] SeatsConfirmedEvent 배치 수신 - 개수={} ===", records.size());
+        parallelProcessor.process(records, record -> transactionTemplate.executeWithoutResult(status -> handleSeatsConfirmed(record.value())));
+        acknowledgment.acknowledge();
+    }
+
+    private void handleSeatsConfirmed(SeatsConfirmedEvent event) {
         try {
-            if (event.succeeded())
+            Optional<PaymentSaga> saga = sagaTracker.lock(event.paymentId());
+            if (saga.isPresent() && !saga.get().isAwaiting(PaymentSagaStep.AWAITING_SEATS)) {
+                // 기한 초과 시 좌석 취소/포인트 환불 Command가 이미 발행됨 (좌석 취소는 같은 reservationId 키로 확정 이후 순서대로 처리)
+                log.info("[Payment Service] SeatsConfirmedEvent 무시 - paymentId={}, step={}", event.paymentId(), saga.get().getStep());
+                return;
+            }
+
+            if (event.succeeded()) {
                 handleSeatsConfirmedSuccess(event);
-            else
+                saga.ifPresent(sagaTracker::complete);
+            } else {
                 handleSeatsConfirmedFailure(event);
+                saga.ifPresent(sagaTracker::fail);
+            }
 
-            acknowledgment.acknowledge();
             log.info("[Payment Service] SeatsConfirmedEvent 처리 완료");
-
         } catch (Exception e) {
             log.error("[Payment Service] SeatsConfirmedEvent 처리 중 예외 발생", e);
             throw e;  // 재시도
@@ -174,29 +260,20 @@ public class PaymentSagaConsumer {
      */
     private void handleSeatsConfirmedFailure(SeatsConfirmedEvent event) {
         // Payment 상태 업데이트: PROCESSING → FAILED
-        paymentSaveUseCase.failPayment(event.paymentId(), "좌석 확정 실패: " + event.failureReason());
+        Payment payment = paymentSaveUseCase.failPayment(event.paymentId(), "좌석 확정 실패: " + event.failureReason());
         log.warn("[Payment Service] Payment 실패 처리 - reason={}", event.failureReason());
 
-        // 2. RefundPointCommand를 Outbox에 저장 (보상 트랜잭션)
-        // Note: Payment에서 amount 정보를 조회해야 함 (실제 구현 시)
-        // 여기서는 간단히 event에서 가져온다고 가정
-        RefundPointCommand command = of(event.paymentId(), event.reservationId(), event.userId(), event.requestId() + "-refund",
-                0L,  // TODO: Payment에서 amount 조회 필요
+        // RefundPointCommand를 Outbox에 저장 (보상 트랜잭션, 환불 금액은 결제 금액)
+        RefundPointCommand command = RefundPointCommand.of(event.paymentId(), event.reservationId(), event.userId(), event.requestId() + "-refund",
+                payment.getAmount(),
                 "좌석 확정 실패"
         );
 
-        saveOutboxEvent(event.paymentId().toString(), "RefundPointCommand", refundPointCommandTopic, command);
+        saveOutboxEvent(command.messageKey(), "RefundPointCommand", refundPointCommandTopic, command);
         log.info("[Payment Service] RefundPointCommand Outbox 저장 완료 (보상 트랜잭션)");
     }
 
     private void saveOutboxEvent(String aggregateId, String eventType, String topic, Object event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent = OutboxEvent.create("PAYMENT", aggregateId, eventType, topic, payload);
-            paymentOutboxRepository.save(outboxEvent);
-        } catch (JsonProcessingException e) {
-            log.error("[Payment Outbox] 이벤트 직렬화 실패", e);
-            throw new RuntimeException("Failed to serialize outbox event", e);
-        }
+        outboxEventPublisher.saveOutboxEvent("PAYMENT", aggregateId, eventType, topic, event);
     }
 }
@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "payment_outbox",
         indexes = {
-                @Index(name = "idx_payment_outbox_status", columnList = "status"),
+                @Index(name = "idx_payment_outbox_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_payment_outbox_status_lease_until", columnList = "status, lease_until"),
+                @Index(name = "idx_payment_outbox_status_retry_count", columnList = "status, retry_count, id"),
+                @Index(name = "idx_payment_outbox_status_id", columnList = "status, id"),
                 @Index(name = "idx_payment_outbox_created_at", columnList = "created_at")
         }
 )
@@ -32,7 +35,7 @@ public class PaymentOutboxEntity {
     private String aggregateType;  // PAYMENT
 
     @Column(nullable = false, length = 100)
-    private String aggregateId;    // paymentId
+    private String aggregateId;    // 메시지 키 (userId: 포인트 Command, reservationId: 좌석 Command)
 
     @Column(nullable = false, length = 100)
     private String eventType;      // UsePointCommand, ConfirmSeatsCommand 등
@@ -59,6 +62,15 @@ public class PaymentOutboxEntity {
     @Column(length = 500)
     private String errorMessage;
 
+    @Column(length = 100)
+    private String claimedBy;
+
+    @Column
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 64)
+    private String sagaId;         // paymentId (Saga 추적용)
+
     // Factory method: Domain → Entity
     public static PaymentOutboxEntity fromDomain(OutboxEvent event) {
         PaymentOutboxEntity entity = new PaymentOutboxEntity();
@@ -73,10 +85,13 @@ public class PaymentOutboxEntity {
         entity.publishedAt = event.getPublishedAt();
         entity.retryCount = event.getRetryCount();
         entity.errorMessage = event.getErrorMessage();
+        entity.claimedBy = event.getClaimedBy();
+        entity.leaseUntil = event.getLeaseUntil();
+        entity.sagaId = event.getSagaId();
         return entity;
     }
 
     public OutboxEvent toDomain() {
-        return OutboxEvent.of(id, aggregateType, aggregateId, eventType, topic, payload, status, createdAt, publishedAt, retryCount, errorMessage);
+        return OutboxEvent.of(id, aggregateType, aggregateId, eventType, topic, payload, status, createdAt, publishedAt, retryCount, errorMessage, claimedBy, leaseUntil, sagaId);
     }
 }
@@ -0,0 +1,62 @@
+package com.gomdol.concert.payment.infra.persistence.saga;
+
+import com.gomdol.concert.common.infra.persistence.entity.BaseEntity;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Entity
+@Table(name = "payment_saga",
+        indexes = {
+                @Index(name = "ix_payment_saga_next_deadline", columnList = "next_deadline")
+        }
+)
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+public class PaymentSagaEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "payment_id")
+    private Long paymentId;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "request_id", nullable = false)
+    private String requestId;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "step", nullable = false, length = 20)
+    private PaymentSagaStep step;
+
+    // 진행 중인 단계의 기한 (종료 시 null → 스캔 대상 제외)
+    @Column(name = "next_deadline")
+    private LocalDateTime nextDeadline;
+
+    public static PaymentSagaEntity fromDomain(PaymentSaga saga) {
+        return PaymentSagaEntity.builder()
+                .paymentId(saga.getPaymentId())
+                .reservationId(saga.getReservationId())
+                .userId(saga.getUserId())
+                .requestId(saga.getRequestId())
+                .amount(saga.getAmount())
+                .step(saga.getStep())
+                .nextDeadline(saga.getNextDeadline())
+                .build();
+    }
+
+    public PaymentSaga toDomain() {
+        return PaymentSaga.of(paymentId, reservationId, userId, requestId, amount, step, nextDeadline);
+    }
+}
@@ -0,0 +1,28 @@
+package com.gomdol.concert.payment.infra.persistence.saga;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentSagaJpaRepository extends JpaRepository<PaymentSagaEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PaymentSagaEntity s WHERE s.paymentId = :paymentId")
+    Optional<PaymentSagaEntity> findByPaymentIdForUpdate(@Param("paymentId") Long paymentId);
+
+    /**
+     * 기한이 지난 Saga 선점 (ix_payment_saga_next_deadline 범위 스캔)
+     */
+    @Query(value = "SELECT * FROM payment_saga " +
+                   "WHERE next_deadline <= :now " +
+                   "ORDER BY next_deadline " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PaymentSagaEntity> findExpiredForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
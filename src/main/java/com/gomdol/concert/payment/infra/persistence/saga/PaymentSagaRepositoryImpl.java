@@ -0,0 +1,33 @@
+package com.gomdol.concert.payment.infra.persistence.saga;
+
+import com.gomdol.concert.payment.application.port.out.PaymentSagaRepository;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentSagaRepositoryImpl implements PaymentSagaRepository {
+    private final PaymentSagaJpaRepository jpaRepository;
+
+    @Override
+    public PaymentSaga save(PaymentSaga saga) {
+        return jpaRepository.save(PaymentSagaEntity.fromDomain(saga)).toDomain();
+    }
+
+    @Override
+    public Optional<PaymentSaga> findByPaymentIdForUpdate(Long paymentId) {
+        return jpaRepository.findByPaymentIdForUpdate(paymentId).map(PaymentSagaEntity::toDomain);
+    }
+
+    @Override
+    public List<PaymentSaga> findExpiredForUpdate(LocalDateTime now, int limit) {
+        return jpaRepository.findExpiredForUpdate(now, limit).stream()
+                .map(PaymentSagaEntity::toDomain)
+                .toList();
+    }
+}
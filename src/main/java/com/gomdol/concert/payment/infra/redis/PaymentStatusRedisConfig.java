@@ -0,0 +1,23 @@
+package com.gomdol.concert.payment.infra.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 결제 상태 Pub/Sub 구독 설정
+ */
+@Configuration
+public class PaymentStatusRedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer paymentStatusListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        RedisPaymentStatusSubscriber subscriber) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(RedisPaymentStatusPublisher.CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,35 @@
+package com.gomdol.concert.payment.infra.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gomdol.concert.payment.application.port.out.PaymentStatusPublisher;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis Pub/Sub 기반 결제 상태 브로드캐스트
+ * - 채널: payment:status (모든 인스턴스가 구독)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPaymentStatusPublisher implements PaymentStatusPublisher {
+
+    public static final String CHANNEL = "payment:status";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(PaymentResponse response) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(response));
+            log.debug("결제 상태 발행 - paymentId={}, status={}", response.paymentId(), response.status());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("결제 상태 직렬화 실패: " + response.paymentId(), e);
+        }
+    }
+}
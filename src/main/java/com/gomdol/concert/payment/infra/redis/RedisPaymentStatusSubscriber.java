@@ -0,0 +1,32 @@
+package com.gomdol.concert.payment.infra.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gomdol.concert.payment.application.service.PaymentStatusWatcher;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 상태 채널 구독 → 이 인스턴스에서 대기 중인 요청 완료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisPaymentStatusSubscriber implements MessageListener {
+
+    private final PaymentStatusWatcher paymentStatusWatcher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            PaymentResponse response = objectMapper.readValue(message.getBody(), PaymentResponse.class);
+            paymentStatusWatcher.notify(response);
+        } catch (Exception e) {
+            log.warn("결제 상태 메시지 처리 실패 - error={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.gomdol.concert.payment.infra.scheduler;
+
+import com.gomdol.concert.common.infra.config.SagaTimeoutProperties;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTimeoutHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 Saga 기한 초과 스캐너
+ * - 기한이 지난 Saga가 남아 있으면 배치(트랜잭션) 단위로 반복 보상
+ * - 로컬 Saga 모드(saga.mode=local)는 동기 처리라 Saga 상태를 추적하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.mode", havingValue = "kafka", matchIfMissing = true)
+public class PaymentSagaTimeoutScheduler {
+
+    private final PaymentSagaTimeoutHandler timeoutHandler;
+    private final SagaTimeoutProperties properties;
+
+    @Scheduled(fixedDelayString = "${saga.timeout.scan-interval-ms:10000}", initialDelay = 30000)
+    public void compensateExpiredSagas() {
+        try {
+            int total = 0;
+            int compensated;
+            do {
+                compensated = timeoutHandler.compensateExpired();
+                total += compensated;
+            } while (compensated >= properties.batchSize());
+
+            if (total > 0)
+                log.warn("[Saga Timeout] 기한 초과 Saga 보상 완료 - 개수: {}", total);
+        } catch (Exception e) {
+            log.error("[Saga Timeout] Scheduler 예외 발생", e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.gomdol.concert.common.presentation.exception.ApiException;
 import com.gomdol.concert.common.infra.security.QueuePrincipal;
 import com.gomdol.concert.payment.application.facade.PaymentFacade;
 import com.gomdol.concert.payment.application.port.in.SavePaymentPort.PaymentCommand;
+import com.gomdol.concert.payment.application.service.PaymentStatusWatcher;
 import com.gomdol.concert.payment.presentation.dto.PaymentRequest;
 import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
 import com.gomdol.concert.payment.presentation.dto.RefundResponse;
@@ -21,6 +22,9 @@ import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Payment")
 @RestController
@@ -28,7 +32,10 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/payments")
 public class PaymentController {
 
+    private static final long MAX_STATUS_WAIT_MS = 30_000;
+
     private final PaymentFacade paymentFacade;
+    private final PaymentStatusWatcher paymentStatusWatcher;
 
     @Operation(summary = "결제",
             description = "예약 ID와 금액으로 즉시 결제를 시도한다. (멱등성 지원: Idempotency-Key)")
@@ -60,6 +67,40 @@ public class PaymentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "결제 상태 대기 (long-poll)",
+            description = "결제가 최종 상태(SUCCEEDED/FAILED)가 되면 즉시 응답한다. waitMs 동안 변화가 없으면 현재 상태(PENDING)를 응답하며 클라이언트는 다시 요청한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "결제 상태",
+                    content = @Content(schema = @Schema(implementation = PaymentResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ApiException.class))),
+            @ApiResponse(responseCode = "404", description = "결제 없음 (다른 사용자의 결제 포함)",
+                    content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
+    })
+    @GetMapping("/{paymentId}/status")
+    public DeferredResult<PaymentResponse> awaitStatus(
+            @PathVariable Long paymentId,
+            @RequestParam(defaultValue = "25000") long waitMs,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user
+    ) {
+        String userId = user != null ? user.getName() : "test-user"; // TODO: 실제 인증 구현 시 수정
+        long timeout = Math.min(Math.max(waitMs, 1), MAX_STATUS_WAIT_MS);
+        CompletableFuture<PaymentResponse> future = paymentStatusWatcher.awaitFinalStatus(paymentId, userId);
+
+        DeferredResult<PaymentResponse> result = new DeferredResult<>(timeout);
+        future.whenComplete((response, ex) -> {
+            if (ex == null)
+                result.setResult(response);
+            else
+                result.setErrorResult(ex);
+        });
+        result.onTimeout(() -> {
+            paymentStatusWatcher.unwatch(paymentId, future);
+            result.setResult(paymentStatusWatcher.currentStatus(paymentId, userId));
+        });
+        return result;
+    }
+
     // TODO: 현재 부분 환불은 하지 않고 전체 환불만 가능하도록 함
     @Operation(summary = "예약 취소(환불 요청)")
     @ApiResponses({
@@ -0,0 +1,50 @@
+package com.gomdol.concert.point.application.eventhandler;
+
+import com.gomdol.concert.point.application.port.out.PointBalanceCache;
+import com.gomdol.concert.point.application.port.out.PointRepository;
+import com.gomdol.concert.point.application.port.out.PointRepository.CommittedBalance;
+import com.gomdol.concert.point.domain.event.PointBalanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 캐시 write-through 핸들러
+ * - 트랜잭션 커밋 후 변경된 잔액을 캐시에 반영 (롤백된 값은 캐시에 들어가지 않음)
+ * - 캐시 반영 실패는 전파하지 않음 (조회 시 DB fallback)
+ * - 원장 저장소: 충전은 변경 후 잔액이 없고 이력 id가 커밋 순서와 다름 → 커밋 후 재조회한 잔액/버전으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointBalanceCacheHandler {
+
+    private final PointBalanceCache pointBalanceCache;
+    private final PointRepository pointRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBalanceChanged(PointBalanceChangedEvent event) {
+        Optional<CommittedBalance> committed;
+        try {
+            committed = pointRepository.findCommittedBalance(event.userId());
+        } catch (Exception e) {
+            log.warn("포인트 잔액 재조회 실패, 캐시 삭제 - userId={}, error={}", event.userId(), e.getMessage());
+            pointBalanceCache.evict(event.userId());
+            return;
+        }
+
+        if (committed.isPresent()) {
+            pointBalanceCache.put(event.userId(), committed.get().balance(), committed.get().version());
+            log.debug("포인트 잔액 캐시 반영 (재조회) - userId={}, balance={}, version={}", event.userId(), committed.get().balance(), committed.get().version());
+        } else if (event.balance() != null) {
+            pointBalanceCache.put(event.userId(), event.balance(), event.version());
+            log.debug("포인트 잔액 캐시 반영 - userId={}, balance={}, version={}", event.userId(), event.balance(), event.version());
+        } else {
+            pointBalanceCache.evict(event.userId());
+        }
+    }
+}
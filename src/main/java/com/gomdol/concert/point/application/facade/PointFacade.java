@@ -12,6 +12,7 @@ import com.gomdol.concert.point.application.usecase.SavePointUseCase;
 import com.gomdol.concert.point.presentation.dto.PointRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -25,7 +26,7 @@ import static com.gomdol.concert.common.infra.util.CacheUtils.*;
  * 포인트 작업 Facade
  * - Redis 캐시로 빠른 멱등성 체크
  * - DB 멱등키로 영속적 멱등성 보장
- * - Redis 분산 락으로 동시성 제어
+ * - 잔액 변경은 조건부 UPDATE로 원자적 처리 (point.atomic-update.enabled=false면 Redis 분산 락으로 동시성 제어)
  * - 단일 트랜잭션으로 비즈니스 로직 실행
  */
 @Slf4j
@@ -40,11 +41,14 @@ public class PointFacade {
     private final SavePointUseCase savePointUseCase;
     private final GetPointHistoryPort getPointHistoryPort;
 
+    @Value("${point.atomic-update.enabled:true}")
+    private boolean atomicUpdateEnabled;
+
     /**
      * 포인트 충전/사용 with 멱등성 보장 및 분산 락
      * 1. Redis 캐시 체크
      * 2. DB 멱등성 체크 (트랜잭션 전)
-     * 3. 분산 락 획득
+     * 3. 분산 락 획득 (조건부 UPDATE 사용 시 생략 - 동시 요청은 DB 행 잠금으로 직렬화)
      * 4. UseCase 호출 (트랜잭션 시작)
      * 5. DB 제약조건 위반 시 멱등성 재확인
      */
@@ -63,6 +67,10 @@ public class PointFacade {
         if (response != null)
             return response;
 
+        // 조건부 UPDATE는 잔액 검사와 차감이 한 문장이라 분산 락 불필요
+        if (atomicUpdateEnabled)
+            return executePointSave(req, cacheKey);
+
         // 분산 락 획득 및 UseCase 호출
         String lockKey = generateLockKey(req.userId());
         LockConfig lockConfig = lockProperties.point();
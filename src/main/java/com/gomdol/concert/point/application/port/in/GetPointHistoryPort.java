@@ -1,6 +1,9 @@
 package com.gomdol.concert.point.application.port.in;
 
+import com.gomdol.concert.common.presentation.dto.CursorResponse;
 import com.gomdol.concert.point.domain.model.PointHistory;
+import com.gomdol.concert.point.domain.model.UseType;
+import com.gomdol.concert.point.presentation.dto.PointHistoryItem;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -9,7 +12,9 @@ public interface GetPointHistoryPort {
     // TODO: 포인트 이력은 추후 개발
     // 포인트 이력 조회
     Optional<PointHistoryResponse> getPointHistory(Long historyId);
-    record PointHistoryResponse(Long id, String userId, String type, long amount, long beforeBalance, long afterBalance, LocalDateTime createdAt) {
+    // 포인트 내역 목록 조회 (커서 기반, 최신순)
+    CursorResponse<PointHistoryItem> getPointHistories(String userId, String cursor, int size, UseType type, LocalDateTime from, LocalDateTime to);
+    record PointHistoryResponse(Long id, String userId, String type, long amount, Long beforeBalance, Long afterBalance, LocalDateTime createdAt) {
         public static PointHistoryResponse fromDomain(PointHistory pointHistory) {
             return new PointHistoryResponse(
                     pointHistory.getId(),
@@ -0,0 +1,16 @@
+package com.gomdol.concert.point.application.port.out;
+
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 캐시 Output Port
+ * - version이 저장된 값보다 클 때만 덮어씀 (늦게 도착한 이전 값이 최신 값을 덮지 않도록)
+ */
+public interface PointBalanceCache {
+    Optional<Long> get(String userId);
+    void put(String userId, long balance, long version);
+    // DB 조회로 채울 때 사용 (캐시에 값이 없을 때만 저장)
+    void putIfAbsent(String userId, long balance);
+    // 반영할 잔액을 알 수 없을 때 삭제 (다음 조회에서 DB 값으로 채움)
+    void evict(String userId);
+}
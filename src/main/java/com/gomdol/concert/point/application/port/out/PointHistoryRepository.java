@@ -1,11 +1,18 @@
 package com.gomdol.concert.point.application.port.out;
 
 import com.gomdol.concert.point.domain.model.PointHistory;
+import com.gomdol.concert.point.domain.model.UseType;
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointHistoryRepository {
     PointHistory save(PointHistory pointHistory);
+    List<PointHistory> saveAll(List<PointHistory> pointHistories);
     Optional<PointHistory> findById(Long id);
     Optional<PointHistory> findByUserIdAndRequestId(String userId, String requestId);
+    // cursorId가 null이면 첫 페이지, 최신순(id DESC)으로 최대 limit건
+    List<PointHistoryProjection> findPageByUserId(String userId, Long cursorId, UseType type, LocalDateTime from, LocalDateTime to, int limit);
 }
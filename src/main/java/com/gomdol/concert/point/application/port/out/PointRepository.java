@@ -2,9 +2,27 @@ package com.gomdol.concert.point.application.port.out;
 
 import com.gomdol.concert.point.domain.model.Point;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointRepository {
     Optional<Point> findByUserIdWithLock(String userId);
     Point save(Point point);
+    // 여러 사용자 포인트를 한 번에 잠금 조회 (데드락 방지를 위해 userId 순)
+    List<Point> findAllByUserIdsWithLock(Collection<String> userIds);
+    List<Point> saveAll(List<Point> points);
+
+    // 잔액 조건부 차감, 차감 후 잔액 반환 (잔액 부족/포인트 없음은 empty)
+    Optional<Long> decreaseBalance(String userId, long amount);
+    // 잔액 증가 (포인트가 없으면 생성), 증가 후 잔액 반환 (원장 저장소는 충전끼리 직렬화하지 않으므로 empty)
+    Optional<Long> increaseBalance(String userId, long amount);
+    // 잠금 없이 잔액 조회 (같은 트랜잭션에서 변경한 값 포함)
+    Optional<Long> findBalance(String userId);
+    // 잔액 캐시용 커밋된 잔액 + 버전 조회 (잠금 없음)
+    // 이력 id가 커밋 순서와 다른 저장소(원장)만 제공, 그 외 empty → 잔액 변경 이벤트의 잔액/이력 id를 그대로 사용
+    Optional<CommittedBalance> findCommittedBalance(String userId);
+
+    // version: 사용자별로 커밋 순서대로 증가하는 값 (같은 버전이면 같은 잔액)
+    record CommittedBalance(long balance, long version) {}
 }
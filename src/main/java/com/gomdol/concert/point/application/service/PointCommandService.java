@@ -4,15 +4,25 @@ import com.gomdol.concert.common.application.idempotency.port.in.CreateIdempoten
 import com.gomdol.concert.common.domain.idempotency.ResourceType;
 import com.gomdol.concert.point.application.port.out.PointHistoryRepository;
 import com.gomdol.concert.point.application.port.out.PointRepository;
+import com.gomdol.concert.point.domain.event.PointBalanceChangedEvent;
 import com.gomdol.concert.point.domain.model.Point;
 import com.gomdol.concert.point.domain.model.PointHistory;
 import com.gomdol.concert.point.domain.model.UseType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.gomdol.concert.point.domain.policy.PointPolicy.*;
 
 /**
  * Point 도메인 Command 서비스
@@ -26,44 +36,138 @@ public class PointCommandService {
     private final CreateIdempotencyKey createIdempotencyKey;
     private final PointRepository pointRepository;
     private final PointHistoryRepository historyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 조건부 UPDATE로 잔액 변경 (false: 비관적 락 조회 후 저장)
+    @Value("${point.atomic-update.enabled:true}")
+    private boolean atomicUpdateEnabled;
 
     /**
      * 포인트 사용
+     * - 조건부 UPDATE 한 문장으로 잔액 검사 + 차감 (SELECT ... FOR UPDATE 없음), 같은 트랜잭션에서 이력 저장
      */
     @Transactional
     public void usePoint(String userId, String requestId, long amount) {
-        Point point = pointRepository.findByUserIdWithLock(userId)
-                .orElseThrow(() -> new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId));
-
-        long before = point.getBalance();
-        point.usePoint(amount);
-        long after = point.getBalance();
-        pointRepository.save(point);
+        long before;
+        long after;
+        if (atomicUpdateEnabled) {
+            after = decreaseBalance(userId, amount);
+            before = after + amount;
+        } else {
+            Point point = pointRepository.findByUserIdWithLock(userId)
+                    .orElseThrow(() -> new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId));
+            before = point.getBalance();
+            point.usePoint(amount);
+            after = point.getBalance();
+            pointRepository.save(point);
+        }
         // 이력 저장
         PointHistory history = historyRepository.save(PointHistory.create(userId, requestId, amount, UseType.USE, before, after, LocalDateTime.now()));
 
         // 멱등성 키 저장
         createIdempotencyKey.createIdempotencyKey(requestId, userId, ResourceType.POINT, history.getId());
+        eventPublisher.publishEvent(PointBalanceChangedEvent.of(userId, after, history.getId()));
         log.info("포인트 사용 완료 - userId={}, before={}, after={}", userId, before, after);
     }
 
+    /**
+     * 포인트 일괄 사용 (배치 Consumer용)
+     * - 대상 사용자 포인트를 한 번에 잠금 조회 → 요청 순서대로 차감 → 일괄 저장
+     * - 잔액 부족 등 검증 실패는 해당 요청만 실패로 반환 (나머지는 정상 처리)
+     * - 포인트 정보가 없는 등 예기치 못한 예외는 전체 롤백
+     */
+    @Transactional
+    public List<PointUseResult> usePoints(List<PointUseRequest> requests) {
+        List<String> userIds = requests.stream().map(PointUseRequest::userId).distinct().sorted().toList();
+        Map<String, Point> points = pointRepository.findAllByUserIdsWithLock(userIds).stream()
+                .collect(Collectors.toMap(Point::getUserId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<PointUseResult> results = new ArrayList<>(requests.size());
+        List<PointHistory> histories = new ArrayList<>();
+        for (PointUseRequest request : requests) {
+            Point point = points.get(request.userId());
+            if (point == null)
+                throw new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + request.userId());
+
+            long before = point.getBalance();
+            try {
+                point.usePoint(request.amount());
+            } catch (IllegalArgumentException e) {
+                results.add(PointUseResult.failure(request, e.getMessage()));
+                continue;
+            }
+            histories.add(PointHistory.create(request.userId(), request.requestId(), request.amount(), UseType.USE, before, point.getBalance(), now));
+            results.add(PointUseResult.success(request));
+        }
+
+        if (histories.isEmpty())
+            return results;
+
+        pointRepository.saveAll(histories.stream().map(h -> points.get(h.getUserId())).distinct().toList());
+        // 이력 저장 + 멱등성 키 저장
+        for (PointHistory history : historyRepository.saveAll(histories)) {
+            createIdempotencyKey.createIdempotencyKey(history.getRequestId(), history.getUserId(), ResourceType.POINT, history.getId());
+            eventPublisher.publishEvent(PointBalanceChangedEvent.of(history.getUserId(), history.getAfterBalance(), history.getId()));
+        }
+        log.info("포인트 일괄 사용 완료 - 요청 {}건, 성공 {}건", requests.size(), histories.size());
+        return results;
+    }
+
     /**
      * 포인트 환불 (보상 트랜잭션)
+     * - 원장 저장소는 변경 전후 잔액 없이 증감만 기록
      */
     @Transactional
     public void refundPoint(String userId, String compensationRequestId, long amount, String reason) {
-        Point point = pointRepository.findByUserIdWithLock(userId)
-                .orElseThrow(() -> new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId));
-
-        long before = point.getBalance();
-        point.changeBalance(amount);  // 환불 (잔액 증가)
-        long after = point.getBalance();
-        pointRepository.save(point);
+        Long before;
+        Long after;
+        if (atomicUpdateEnabled) {
+            validateAmount(amount);
+            after = pointRepository.increaseBalance(userId, amount).orElse(null);
+            before = after != null ? after - amount : null;
+        } else {
+            Point point = pointRepository.findByUserIdWithLock(userId)
+                    .orElseThrow(() -> new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId));
+            before = point.getBalance();
+            point.changeBalance(amount);  // 환불 (잔액 증가)
+            after = point.getBalance();
+            pointRepository.save(point);
+        }
 
         // 환불 이력 저장
-        PointHistory refundHistory = historyRepository.save(PointHistory.create(userId, compensationRequestId, amount, UseType.REFUND, before, after, LocalDateTime.now()));
+        PointHistory refundHistory = historyRepository.save(after != null
+                ? PointHistory.create(userId, compensationRequestId, amount, UseType.REFUND, before, after, LocalDateTime.now())
+                : PointHistory.append(userId, compensationRequestId, amount, UseType.REFUND, LocalDateTime.now()));
         // 멱등성 키 저장
         createIdempotencyKey.createIdempotencyKey(compensationRequestId, userId, ResourceType.POINT, refundHistory.getId());
+        eventPublisher.publishEvent(PointBalanceChangedEvent.of(userId, after, refundHistory.getId()));
         log.info("포인트 환불 완료 (보상) - userId={}, before={}, after={}, reason={}", userId, before, after, reason);
     }
+
+    /**
+     * 조건부 UPDATE 차감 후 잔액 반환
+     * - 차감 실패 시에만 잔액을 다시 조회해 포인트 없음(재시도 대상)과 잔액 부족(비즈니스 실패)을 구분
+     */
+    private long decreaseBalance(String userId, long amount) {
+        validateAmount(amount);
+        validateUse(amount);
+        return pointRepository.decreaseBalance(userId, amount).orElseThrow(() -> {
+            if (pointRepository.findBalance(userId).isEmpty())
+                return new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId);
+            return new IllegalArgumentException("잔액이 부족합니다.");
+        });
+    }
+
+    public record PointUseRequest(String userId, String requestId, long amount) {}
+
+    public record PointUseResult(PointUseRequest request, boolean success, String failureReason) {
+        public static PointUseResult success(PointUseRequest request) {
+            return new PointUseResult(request, true, null);
+        }
+
+        public static PointUseResult failure(PointUseRequest request, String failureReason) {
+            return new PointUseResult(request, false, failureReason);
+        }
+    }
 }
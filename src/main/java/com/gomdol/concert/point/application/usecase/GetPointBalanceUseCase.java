@@ -1,25 +1,39 @@
 package com.gomdol.concert.point.application.usecase;
 
 import com.gomdol.concert.point.application.port.in.GetPointBalancePort;
+import com.gomdol.concert.point.application.port.out.PointBalanceCache;
 import com.gomdol.concert.point.application.port.out.PointRepository;
-import com.gomdol.concert.point.domain.model.Point;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
+/**
+ * 포인트 잔액 조회
+ * - 캐시(near-cache → Redis) 우선, 미스 시 DB 조회 후 캐시 적재
+ * - 캐시는 포인트 변경 트랜잭션 커밋 후 write-through로 갱신됨 (PointBalanceCacheHandler)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class GetPointBalanceUseCase implements GetPointBalancePort {
 
     private final PointRepository pointRepository;
+    private final PointBalanceCache pointBalanceCache;
 
     @Override
     @Transactional(readOnly = true)
     public PointSearchResponse getPoint(String userId) {
         log.info("userId: {}", userId);
-        Point point = pointRepository.findByUserIdWithLock(userId).orElseGet(() -> Point.create(userId, 0L)); // 포인트가 없으면 초기 값을 반환
-        return PointSearchResponse.fromDomain(point);
+        Optional<Long> cached = pointBalanceCache.get(userId);
+        if (cached.isPresent())
+            return new PointSearchResponse(userId, cached.get());
+
+        // 잠금 없이 조회 (읽기 전용), 포인트가 없으면 초기 값을 반환
+        long balance = pointRepository.findBalance(userId).orElse(0L);
+        pointBalanceCache.putIfAbsent(userId, balance);
+        return new PointSearchResponse(userId, balance);
     }
 }
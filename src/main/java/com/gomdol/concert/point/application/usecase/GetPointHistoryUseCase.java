@@ -1,13 +1,20 @@
 package com.gomdol.concert.point.application.usecase;
 
+import com.gomdol.concert.common.application.pagination.KeysetCursor;
+import com.gomdol.concert.common.presentation.dto.CursorResponse;
 import com.gomdol.concert.point.application.port.in.GetPointHistoryPort;
 import com.gomdol.concert.point.application.port.out.PointHistoryRepository;
 import com.gomdol.concert.point.domain.model.PointHistory;
+import com.gomdol.concert.point.domain.model.UseType;
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
+import com.gomdol.concert.point.presentation.dto.PointHistoryItem;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -25,4 +32,21 @@ public class GetPointHistoryUseCase implements GetPointHistoryPort {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 내역입니다."));
         return Optional.of(PointHistoryResponse.fromDomain(pointHistory));
     }
+
+    /**
+     * 포인트 내역 목록 (keyset 페이지네이션)
+     * - size + 1건 조회해 다음 페이지 존재 여부 판단 (count 쿼리 없음)
+     * - 다음 커서는 현재 페이지 마지막 행의 id
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorResponse<PointHistoryItem> getPointHistories(String userId, String cursor, int size, UseType type, LocalDateTime from, LocalDateTime to) {
+        Long cursorId = KeysetCursor.decode(cursor);
+        List<PointHistoryProjection> rows = pointHistoryRepository.findPageByUserId(userId, cursorId, type, from, to, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<PointHistoryProjection> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? KeysetCursor.encode(page.get(page.size() - 1).getId()) : null;
+        return CursorResponse.of(page.stream().map(PointHistoryItem::from).toList(), size, nextCursor);
+    }
 }
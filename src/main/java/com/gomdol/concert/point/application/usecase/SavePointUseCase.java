@@ -3,6 +3,7 @@ package com.gomdol.concert.point.application.usecase;
 import com.gomdol.concert.common.application.idempotency.port.in.CreateIdempotencyKey;
 import com.gomdol.concert.common.domain.idempotency.ResourceType;
 import com.gomdol.concert.point.application.port.in.SavePointPort;
+import com.gomdol.concert.point.domain.event.PointBalanceChangedEvent;
 import com.gomdol.concert.point.domain.model.PointHistory;
 import com.gomdol.concert.point.domain.model.UseType;
 import com.gomdol.concert.point.domain.model.Point;
@@ -11,9 +12,16 @@ import com.gomdol.concert.point.application.port.out.PointRepository;
 import com.gomdol.concert.point.presentation.dto.PointRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.gomdol.concert.point.domain.policy.PointPolicy.*;
+
 /**
  * 포인트 충전/사용 비즈니스 로직
  */
@@ -25,9 +33,17 @@ public class SavePointUseCase implements SavePointPort {
     private final CreateIdempotencyKey createIdempotencyKey;
     private final PointRepository pointRepository;
     private final PointHistoryRepository historyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 조건부 UPDATE로 잔액 변경 (false: 비관적 락 조회 후 저장)
+    @Value("${point.atomic-update.enabled:true}")
+    private boolean atomicUpdateEnabled;
 
     @Transactional
     public PointSaveResponse savePoint(PointRequest req) {
+        if (atomicUpdateEnabled)
+            return savePointAtomically(req);
+
         String userId = req.userId();
         UseType type = req.useType();
         long amount = req.amount();
@@ -46,12 +62,51 @@ public class SavePointUseCase implements SavePointPort {
 
         // 포인트 저장 (비관적 락으로 Lost Update 방지)
         pointRepository.save(point);
-        PointHistory savedHistory = historyRepository.save(PointHistory.create(userId, req.requestId(), amount, type, before, after, java.time.LocalDateTime.now()));
+        PointHistory savedHistory = historyRepository.save(PointHistory.create(userId, req.requestId(), amount, type, before, after, LocalDateTime.now()));
 
         // 멱등성 키 저장 - 성공적으로 처리된 요청 기록
         createIdempotencyKey.createIdempotencyKey(req.requestId(), userId, ResourceType.POINT, savedHistory.getId());
+        eventPublisher.publishEvent(PointBalanceChangedEvent.of(userId, after, savedHistory.getId()));
 
         log.info("포인트 작업 완료 - userId={} type={} amount={} before={} after={}", userId, type, amount, before, after);
         return PointSaveResponse.fromDomain(point,savedHistory.getId());
     }
+
+    /**
+     * 조건부 UPDATE 기반 충전/사용 (잠금 조회 없음)
+     * - 충전: INSERT ... ON DUPLICATE KEY UPDATE balance = balance + ?
+     * - 사용: UPDATE ... SET balance = balance - ? WHERE balance >= ? → 영향 행 0이면 잔액 부족
+     * - 저장소가 돌려준 변경 후 잔액으로 이력 저장 (원장 저장소의 충전은 잔액 없이 증감만 기록, 응답 잔액 null)
+     */
+    private PointSaveResponse savePointAtomically(PointRequest req) {
+        String userId = req.userId();
+        UseType type = req.useType();
+        long amount = req.amount();
+
+        validateAmount(amount);
+        Optional<Long> after = switch (type) {
+            case CHARGE -> {
+                validateCharge(amount);
+                yield pointRepository.increaseBalance(userId, amount);
+            }
+            case USE -> {
+                validateUse(amount);
+                yield Optional.of(pointRepository.decreaseBalance(userId, amount)
+                        .orElseThrow(() -> new IllegalArgumentException("잔액이 부족합니다.")));
+            }
+            default -> throw new IllegalArgumentException("지원하지 않는 유형: " + type);
+        };
+        Long before = after.map(balance -> type == UseType.CHARGE ? balance - amount : balance + amount).orElse(null);
+
+        LocalDateTime now = LocalDateTime.now();
+        PointHistory history = after.isPresent()
+                ? PointHistory.create(userId, req.requestId(), amount, type, before, after.get(), now)
+                : PointHistory.append(userId, req.requestId(), amount, type, now);
+        PointHistory savedHistory = historyRepository.save(history);
+        createIdempotencyKey.createIdempotencyKey(req.requestId(), userId, ResourceType.POINT, savedHistory.getId());
+        eventPublisher.publishEvent(PointBalanceChangedEvent.of(userId, after.orElse(null), savedHistory.getId()));
+
+        log.info("포인트 작업 완료 - userId={} type={} amount={} before={} after={}", userId, type, amount, before, after.orElse(null));
+        return new PointSaveResponse(savedHistory.getId(), userId, after.orElse(null));
+    }
 }
@@ -1,5 +1,6 @@
 package com.gomdol.concert.point.domain.command;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
  * Payment Service가 Point Service로 전송
  */
 @Getter
-public class RefundPointCommand {
+public class RefundPointCommand implements SagaMessage {
     private final Long paymentId;
     private final Long reservationId;
     private final String userId;
@@ -54,4 +55,16 @@ public class RefundPointCommand {
                 LocalDateTime.now()
         );
     }
+
+    /**
+     * Kafka 메시지 키 - 사용자 단위 파티셔닝 (UsePointCommand와 동일 키)
+     */
+    public String messageKey() {
+        return userId;
+    }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
@@ -0,0 +1,13 @@
+package com.gomdol.concert.point.domain.event;
+
+/**
+ * 포인트 잔액 변경 Event (애플리케이션 내부)
+ * - version: 변경을 기록한 이력 id (사용자별로 커밋 순서대로 증가 → 캐시 역전 방지용)
+ * - balance: 변경 후 잔액 (원장 저장소의 충전/환불은 계산하지 않으므로 null)
+ */
+public record PointBalanceChangedEvent(String userId, Long balance, Long version) {
+
+    public static PointBalanceChangedEvent of(String userId, Long balance, Long version) {
+        return new PointBalanceChangedEvent(userId, balance, version);
+    }
+}
@@ -1,12 +1,14 @@
 package com.gomdol.concert.point.domain.event;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
+
 import java.time.LocalDateTime;
 
 /**
  * 포인트 환불 완료 Event
  * Point Service가 Payment Service로 전송
  */
-public record PointRefundedEvent(Long paymentId, Long reservationId, String userId, String requestId, long amount, boolean succeeded, String failureReason, LocalDateTime occurredAt) {
+public record PointRefundedEvent(Long paymentId, Long reservationId, String userId, String requestId, long amount, boolean succeeded, String failureReason, LocalDateTime occurredAt) implements SagaMessage {
 
     public static PointRefundedEvent success(Long paymentId, Long reservationId, String userId, String requestId, long amount) {
         return new PointRefundedEvent(paymentId, reservationId, userId, requestId, amount, true, null, LocalDateTime.now());
@@ -15,4 +17,9 @@ public record PointRefundedEvent(Long paymentId, Long reservationId, String user
     public static PointRefundedEvent failure(Long paymentId, Long reservationId, String userId, String requestId, long amount, String failureReason) {
         return new PointRefundedEvent(paymentId, reservationId, userId, requestId, amount, false, failureReason, LocalDateTime.now());
     }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
@@ -1,5 +1,7 @@
 package com.gomdol.concert.point.domain.event;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
+
 import java.time.LocalDateTime;
 
 /**
@@ -9,7 +11,7 @@ import java.time.LocalDateTime;
  * @param succeeded     성공 여부
  * @param failureReason 실패 사유
  */
-public record PointUsedEvent(Long paymentId, Long reservationId, String userId, String requestId, long amount, boolean succeeded, String failureReason, LocalDateTime occurredAt) {
+public record PointUsedEvent(Long paymentId, Long reservationId, String userId, String requestId, long amount, boolean succeeded, String failureReason, LocalDateTime occurredAt) implements SagaMessage {
 
     public static PointUsedEvent success(Long paymentId, Long reservationId, String userId, String requestId, long amount) {
         return new PointUsedEvent(paymentId, reservationId, userId, requestId, amount, true, null, LocalDateTime.now());
@@ -18,4 +20,9 @@ public record PointUsedEvent(Long paymentId, Long reservationId, String userId,
     public static PointUsedEvent failure(Long paymentId, Long reservationId, String userId, String requestId, long amount, String failureReason) {
         return new PointUsedEvent(paymentId, reservationId, userId, requestId, amount, false, failureReason, LocalDateTime.now());
     }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
@@ -14,12 +14,13 @@ public class PointHistory {
     private final String requestId;
     private final long amount;
     private final UseType useType;
-    private final long beforeBalance;
-    private final long afterBalance;
+    // 원장 저장소의 충전/환불은 변경 전후 잔액을 계산하지 않음 (null)
+    private final Long beforeBalance;
+    private final Long afterBalance;
     private final LocalDateTime createdAt;
 
     // DB에서 로딩 시 사용하는 생성자 (amount는 이미 변환된 값)
-    public PointHistory(Long id, String userId, String  requestId, long amount, UseType useType, long beforeBalance, long afterBalance, LocalDateTime createdAt) {
+    public PointHistory(Long id, String userId, String  requestId, long amount, UseType useType, Long beforeBalance, Long afterBalance, LocalDateTime createdAt) {
         this.createdAt = createdAt;
         validateUser(userId);
         validateRequestId(requestId);
@@ -37,7 +38,7 @@ public class PointHistory {
         this.afterBalance = afterBalance;
     }
 
-    private PointHistory(String userId, String requestId, long amount, UseType useType, long beforeBalance, long afterBalance, LocalDateTime createdAt) {
+    private PointHistory(String userId, String requestId, long amount, UseType useType, Long beforeBalance, Long afterBalance, LocalDateTime createdAt) {
         validateUser(userId);
 //        validateRequestId(requestId);
         validateAmount(amount);
@@ -57,11 +58,24 @@ public class PointHistory {
         return new PointHistory(userId, requestId, amount, useType, beforeBalance, afterBalance, createdAt);
     }
 
+    /**
+     * 변경 전후 잔액 없이 증감만 기록 (원장 저장소의 충전/환불 - 잔액은 스냅샷 + 이력 합계로 계산)
+     */
+    public static PointHistory append(String userId, String requestId, long amount, UseType useType, LocalDateTime createdAt) {
+        if (useType == UseType.USE)
+            throw new IllegalArgumentException("사용 이력은 변경 전후 잔액이 필요합니다.");
+        return new PointHistory(userId, requestId, amount, useType, null, null, createdAt);
+    }
+
     private long changeNegateAmount(long amount) {
         return this.useType.equals(UseType.USE) ? -amount : amount;
     }
 
-    private void validateBalance(long beforeBalance, long afterBalance) {
+    private void validateBalance(Long beforeBalance, Long afterBalance) {
+        if(beforeBalance == null && afterBalance == null)
+            return;
+        if(beforeBalance == null || afterBalance == null)
+            throw new IllegalArgumentException("변경 전후 잔액은 함께 기록되어야 합니다.");
         if(beforeBalance < 0 || afterBalance < 0)
             throw new IllegalArgumentException("잔액은 양수여야 합니다.");
     }
@@ -71,7 +85,9 @@ public class PointHistory {
             throw new IllegalArgumentException("requestId가 올바른 형식이 아닙니다.");
     }
 
-    private void validateAfterBalance(long afterBalance, long beforeBalance, long amount, UseType useType) {
+    private void validateAfterBalance(Long afterBalance, Long beforeBalance, long amount, UseType useType) {
+        if(afterBalance == null)
+            return;
         if(useType.equals(UseType.USE))
         {
             if(afterBalance != (beforeBalance - amount))
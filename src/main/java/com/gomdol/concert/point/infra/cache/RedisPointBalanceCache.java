@@ -0,0 +1,137 @@
+package com.gomdol.concert.point.infra.cache;
+
+import com.gomdol.concert.common.infra.config.PointBalanceCacheProperties;
+import com.gomdol.concert.point.application.port.out.PointBalanceCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 기반 포인트 잔액 캐시 + 로컬 near-cache
+ * - Redis Hash (b: 잔액, v: 버전), 버전 비교 후 갱신은 Lua 스크립트로 원자 처리
+ * - 조회: near-cache → Redis 순, Redis 장애 시 empty 반환 (DB fallback)
+ * - near-cache는 짧은 TTL로만 유지 (다른 인스턴스 변경은 TTL 이내 반영), 같은 인스턴스의 쓰기는 즉시 반영
+ */
+@Slf4j
+@Repository
+public class RedisPointBalanceCache implements PointBalanceCache {
+
+    private static final String KEY_PREFIX = "point:balance:";
+
+    // 저장된 버전보다 클 때만 갱신
+    private static final RedisScript<Long> PUT_IF_NEWER = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('HGET', KEYS[1], 'v'))
+            if current ~= nil and current >= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'b', ARGV[1], 'v', ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 값이 없을 때만 버전 0으로 저장 (DB 조회 결과 채우기)
+    private static final RedisScript<Long> PUT_IF_ABSENT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], 'v', '0') == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'b', ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PointBalanceCacheProperties properties;
+    private final Map<String, NearEntry> nearCache = new ConcurrentHashMap<>();
+
+    public RedisPointBalanceCache(StringRedisTemplate redisTemplate, PointBalanceCacheProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<Long> get(String userId) {
+        NearEntry near = nearCache.get(userId);
+        long now = System.currentTimeMillis();
+        if (near != null && near.expiresAt() > now)
+            return Optional.of(near.balance());
+
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(key(userId), List.of("b", "v"));
+            if (values.get(0) == null)
+                return Optional.empty();
+            long balance = Long.parseLong((String) values.get(0));
+            long version = values.get(1) != null ? Long.parseLong((String) values.get(1)) : 0L;
+            putNear(userId, balance, version);
+            return Optional.of(balance);
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 조회 실패 - userId={}, error={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(String userId, long balance, long version) {
+        putNear(userId, balance, version);
+        try {
+            redisTemplate.execute(PUT_IF_NEWER, List.of(key(userId)),
+                    String.valueOf(balance), String.valueOf(version), String.valueOf(properties.ttl().toSeconds()));
+        } catch (Exception e) {
+            // 반영 실패 시 이전 값이 남지 않도록 삭제 (삭제도 실패하면 TTL 만료까지 stale)
+            log.warn("포인트 잔액 캐시 갱신 실패 - userId={}, error={}", userId, e.getMessage());
+            evictQuietly(userId);
+        }
+    }
+
+    @Override
+    public void putIfAbsent(String userId, long balance) {
+        try {
+            redisTemplate.execute(PUT_IF_ABSENT, List.of(key(userId)),
+                    String.valueOf(balance), String.valueOf(properties.ttl().toSeconds()));
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 적재 실패 - userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String userId) {
+        nearCache.remove(userId);
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("포인트 잔액 캐시 삭제 실패 - userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * near-cache 갱신 - 더 높은 버전이 이미 있으면 유지
+     */
+    private void putNear(String userId, long balance, long version) {
+        if (nearCache.size() >= properties.nearCacheMaxSize())
+            nearCache.clear();
+        long expiresAt = System.currentTimeMillis() + properties.nearCacheTtl().toMillis();
+        nearCache.merge(userId, new NearEntry(balance, version, expiresAt),
+                (old, fresh) -> old.version() > fresh.version() ? old : fresh);
+    }
+
+    private void evictQuietly(String userId) {
+        nearCache.remove(userId);
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception ignored) {
+            // 이미 갱신 실패를 기록했으므로 추가 로그 생략
+        }
+    }
+
+    private static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private record NearEntry(long balance, long version, long expiresAt) {}
+}
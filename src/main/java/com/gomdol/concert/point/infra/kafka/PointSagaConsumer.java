@@ -1,26 +1,31 @@
 package com.gomdol.concert.point.infra.kafka;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.gomdol.concert.common.application.outbox.OutboxRepository;
-import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.application.inbox.ConsumerInbox;
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
 import com.gomdol.concert.payment.domain.command.UsePointCommand;
 import com.gomdol.concert.point.application.service.PointCommandService;
+import com.gomdol.concert.point.application.service.PointCommandService.PointUseRequest;
+import com.gomdol.concert.point.application.service.PointCommandService.PointUseResult;
 import com.gomdol.concert.point.domain.command.RefundPointCommand;
 import com.gomdol.concert.point.domain.event.PointRefundedEvent;
 import com.gomdol.concert.point.domain.event.PointUsedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Point Service용 Saga Consumer
@@ -40,10 +45,12 @@ public class PointSagaConsumer {
 
     private final PointCommandService pointCommandService;
 
-    @Qualifier("pointOutboxRepository")
-    private final OutboxRepository pointOutboxRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ConsumerInbox consumerInbox;
 
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    @Value("${kafka.consumer.point-group}")
+    private String pointGroup;
 
     @Value("${kafka.topics.point-used-event}")
     private String pointUsedEventTopic;
@@ -55,6 +62,7 @@ public class PointSagaConsumer {
      * UsePointCommand 수신 처리
      *
      * 하나의 트랜잭션에서:
+     * 0. Inbox 기록 (이미 처리한 메시지면 포인트 잠금 없이 ack 후 종료)
      * 1. 포인트 사용 처리
      * 2. PointUsedEvent를 Point Outbox에 저장
      */
@@ -62,16 +70,83 @@ public class PointSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.use-point-command}",
             groupId = "${kafka.consumer.point-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            concurrency = "${kafka.consumer.concurrency.point:1}",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${kafka.consumer.batch-enabled:false}}"
     )
     public void consumeUsePointCommand(
             @Payload UsePointCommand command,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(name = OutboxEventPublisher.HEADER_OUTBOX_ID, required = false) byte[] outboxId,
             Acknowledgment acknowledgment
     ) {
         log.info("=== [Point Service] UsePointCommand 수신 - paymentId={}, userId={}, amount={}, offset={} ===", command.getPaymentId(), command.getUserId(), command.getAmount(), offset);
+        if (consumerInbox.tryReceive(pointGroup, ConsumerInbox.messageId(topic, partition, offset, outboxId)))
+            handleUsePointCommand(command);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * UsePointCommand 배치 수신 처리 (kafka.consumer.batch-enabled=true)
+     *
+     * poll 단위로 하나의 트랜잭션에서:
+     * 1. 대상 사용자 포인트 일괄 잠금 조회 + 일괄 차감/이력 저장
+     * 2. PointUsedEvent를 Point Outbox에 일괄 저장
+     * 배치 처리 중 예외 발생 시 건별 트랜잭션으로 재처리 (실패 레코드만 재시도)
+     * - Inbox에 이미 기록된 메시지는 차감 대상에서 제외
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.use-point-command}",
+            groupId = "${kafka.consumer.point-group}",
+            concurrency = "${kafka.consumer.concurrency.point:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.consumer.batch-enabled:false}"
+    )
+    public void consumeUsePointCommands(
+            @Payload List<UsePointCommand> commands,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) List<String> topics,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) List<Integer> partitions,
+            @Header(KafkaHeaders.OFFSET) List<Long> offsets,
+            @Header(KafkaHeaders.BATCH_CONVERTED_HEADERS) List<Map<String, Object>> headers,
+            Acknowledgment acknowledgment
+    ) {
+        log.info("=== [Point Service] UsePointCommand 배치 수신 - 개수={} ===", commands.size());
+        List<String> messageIds = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++)
+            messageIds.add(ConsumerInbox.messageId(topics.get(i), partitions.get(i), offsets.get(i), headers.get(i).get(OutboxEventPublisher.HEADER_OUTBOX_ID)));
 
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<UsePointCommand> received = new ArrayList<>(commands.size());
+                for (int i = 0; i < commands.size(); i++) {
+                    if (consumerInbox.tryReceive(pointGroup, messageIds.get(i)))
+                        received.add(commands.get(i));
+                }
+                if (!received.isEmpty())
+                    handleUsePointCommands(received);
+            });
+        } catch (Exception e) {
+            log.warn("[Point Service] UsePointCommand 배치 처리 실패 - 건별 처리로 전환, 개수={}", commands.size(), e);
+            for (int i = 0; i < commands.size(); i++) {
+                UsePointCommand command = commands.get(i);
+                String messageId = messageIds.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        if (consumerInbox.tryReceive(pointGroup, messageId))
+                            handleUsePointCommand(command);
+                    });
+                } catch (Exception ex) {
+                    // 실패 레코드 이전까지 커밋, 실패 레코드부터 재시도
+                    throw new BatchListenerFailedException("UsePointCommand 처리 실패 - paymentId=" + command.getPaymentId(), ex, i);
+                }
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private void handleUsePointCommand(UsePointCommand command) {
         try {
             // 포인트 사용 처리
             pointCommandService.usePoint(command.getUserId(), command.getRequestId(), command.getAmount());
@@ -80,7 +155,6 @@ public class PointSagaConsumer {
             // 성공 이벤트를 Point Outbox에 저장
             PointUsedEvent successEvent = PointUsedEvent.success(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), command.getAmount());
             saveOutboxEvent(command.getPaymentId().toString(), "PointUsedEvent", pointUsedEventTopic, successEvent);
-            acknowledgment.acknowledge();
             log.info("[Point Service] PointUsedEvent(success) Outbox 저장 완료");
 
         } catch (IllegalArgumentException e) {
@@ -90,7 +164,6 @@ public class PointSagaConsumer {
             // 실패 이벤트를 Point Outbox에 저장
             PointUsedEvent failureEvent = PointUsedEvent.failure(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), command.getAmount(), e.getMessage());
             saveOutboxEvent(command.getPaymentId().toString(), "PointUsedEvent", pointUsedEventTopic, failureEvent);
-            acknowledgment.acknowledge();
             log.info("[Point Service] PointUsedEvent(failure) Outbox 저장 완료");
         } catch (Exception e) {
             log.error("[Point Service] UsePointCommand 처리 중 예외 발생", e);
@@ -98,10 +171,30 @@ public class PointSagaConsumer {
         }
     }
 
+    private void handleUsePointCommands(List<UsePointCommand> commands) {
+        List<PointUseRequest> requests = commands.stream()
+                .map(command -> new PointUseRequest(command.getUserId(), command.getRequestId(), command.getAmount()))
+                .toList();
+        List<PointUseResult> results = pointCommandService.usePoints(requests);
+
+        List<OutboxMessage> messages = new ArrayList<>(commands.size());
+        for (int i = 0; i < commands.size(); i++) {
+            UsePointCommand command = commands.get(i);
+            PointUseResult result = results.get(i);
+            PointUsedEvent event = result.success()
+                    ? PointUsedEvent.success(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), command.getAmount())
+                    : PointUsedEvent.failure(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), command.getAmount(), result.failureReason());
+            messages.add(OutboxMessage.of(command.getPaymentId().toString(), "PointUsedEvent", pointUsedEventTopic, event));
+        }
+        outboxEventPublisher.saveOutboxEvents("POINT", messages);
+        log.info("[Point Service] PointUsedEvent 일괄 Outbox 저장 완료 - 개수={}", messages.size());
+    }
+
     /**
      * RefundPointCommand 수신 처리 (보상 트랜잭션)
      *
      * 하나의 트랜잭션에서:
+     * 0. Inbox 기록 (이미 처리한 메시지면 ack 후 종료)
      * 1. 포인트 환불 처리
      * 2. PointRefundedEvent를 Point Outbox에 저장
      */
@@ -109,15 +202,22 @@ public class PointSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.refund-point-command}",
             groupId = "${kafka.consumer.point-group}",
+            concurrency = "${kafka.consumer.concurrency.point:1}",
             containerFactory = "kafkaListenerContainerFactory"
     )
     public void consumeRefundPointCommand(
             @Payload RefundPointCommand command,
             @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
+            @Header(name = OutboxEventPublisher.HEADER_OUTBOX_ID, required = false) byte[] outboxId,
             Acknowledgment acknowledgment
     ) {
         log.info("=== [Point Service] RefundPointCommand 수신 (보상 트랜잭션) - paymentId={}, userId={}, amount={}, offset={} ===", command.getPaymentId(), command.getUserId(), command.getAmount(), offset);
+        if (!consumerInbox.tryReceive(pointGroup, ConsumerInbox.messageId(topic, partition, offset, outboxId))) {
+            acknowledgment.acknowledge();
+            return;
+        }
 
         try {
             // 포인트 환불 처리
@@ -140,13 +240,6 @@ public class PointSagaConsumer {
     }
 
     private void saveOutboxEvent(String aggregateId, String eventType, String topic, Object event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent = OutboxEvent.create("POINT", aggregateId, eventType, topic, payload);
-            pointOutboxRepository.save(outboxEvent);
-        } catch (JsonProcessingException e) {
-            log.error("[Point Outbox] 이벤트 직렬화 실패", e);
-            throw new RuntimeException("Failed to serialize outbox event", e);
-        }
+        outboxEventPublisher.saveOutboxEvent("POINT", aggregateId, eventType, topic, event);
     }
 }
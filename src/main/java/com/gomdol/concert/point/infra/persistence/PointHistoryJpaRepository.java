@@ -1,10 +1,39 @@
 package com.gomdol.concert.point.infra.persistence;
 
+import com.gomdol.concert.point.domain.model.UseType;
 import com.gomdol.concert.point.infra.persistence.entity.PointHistoryEntity;
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointHistoryJpaRepository extends JpaRepository<PointHistoryEntity, Long> {
     Optional<PointHistoryEntity> findByUserIdAndRequestId(String userId, String requestId);
+
+    /**
+     * keyset 조회 - id < :cursorId 로 바로 탐색 (offset 스캔 없음)
+     * - 프로젝션 조회라 엔티티 생성/영속성 컨텍스트 등록 없음
+     */
+    @Query("""
+        select h.id as id, h.useType as useType, h.amount as amount,
+               h.afterBalance as afterBalance, h.createdAt as createdAt
+        from PointHistoryEntity h
+        where h.userId = :userId
+          and h.id < :cursorId
+          and (:type is null or h.useType = :type)
+          and (:from is null or h.createdAt >= :from)
+          and (:to is null or h.createdAt < :to)
+        order by h.id desc
+    """)
+    List<PointHistoryProjection> findPageByUserId(@Param("userId") String userId,
+                                                  @Param("cursorId") Long cursorId,
+                                                  @Param("type") UseType type,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to,
+                                                  Limit limit);
 }
@@ -2,10 +2,15 @@ package com.gomdol.concert.point.infra.persistence;
 
 import com.gomdol.concert.point.domain.model.PointHistory;
 import com.gomdol.concert.point.application.port.out.PointHistoryRepository;
+import com.gomdol.concert.point.domain.model.UseType;
 import com.gomdol.concert.point.infra.persistence.entity.PointHistoryEntity;
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,6 +24,14 @@ public class PointHistoryRepositoryImpl implements PointHistoryRepository {
         return PointHistoryEntity.toDomain(jpaRepository.save(PointHistoryEntity.fromDomain(pointHistory)));
     }
 
+    @Override
+    public List<PointHistory> saveAll(List<PointHistory> pointHistories) {
+        return jpaRepository.saveAll(pointHistories.stream().map(PointHistoryEntity::fromDomain).toList())
+                .stream()
+                .map(PointHistoryEntity::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<PointHistory> findById(Long id) {
         return jpaRepository.findById(id).map(PointHistoryEntity::toDomain);
@@ -28,4 +41,10 @@ public class PointHistoryRepositoryImpl implements PointHistoryRepository {
     public Optional<PointHistory> findByUserIdAndRequestId(String userId, String requestId) {
         return jpaRepository.findByUserIdAndRequestId(userId, requestId).map(PointHistoryEntity::toDomain);
     }
+
+    @Override
+    public List<PointHistoryProjection> findPageByUserId(String userId, Long cursorId, UseType type, LocalDateTime from, LocalDateTime to, int limit) {
+        long seek = cursorId != null ? cursorId : Long.MAX_VALUE;  // 첫 페이지도 같은 range 조건으로 탐색
+        return jpaRepository.findPageByUserId(userId, seek, type, from, to, Limit.of(limit));
+    }
 }
@@ -5,10 +5,14 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PointJpaRepository extends JpaRepository<PointEntity, String> {
@@ -19,4 +23,32 @@ public interface PointJpaRepository extends JpaRepository<PointEntity, String> {
     })
     @Query("SELECT p FROM PointEntity p WHERE p.userId = :userId")
     Optional<PointEntity> findByUserIdWithLock(@Param("userId") String userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+        @QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")
+    })
+    @Query("SELECT p FROM PointEntity p WHERE p.userId IN :userIds ORDER BY p.userId")
+    List<PointEntity> findAllByUserIdInWithLock(@Param("userIds") Collection<String> userIds);
+
+    /**
+     * 잔액 조건부 차감 - 잔액 검사와 차감이 하나의 문장 (사전 SELECT ... FOR UPDATE 없음)
+     * - UPDATE가 잡은 행 잠금은 감싼 트랜잭션이 커밋될 때까지 유지됨 → 같은 사용자 요청은 그동안 대기하므로 트랜잭션을 짧게 유지
+     * @return 1: 차감 성공, 0: 잔액 부족 또는 포인트 없음
+     */
+    @Modifying
+    @Query("UPDATE PointEntity p SET p.balance = p.balance - :amount, p.updatedAt = :now " +
+           "WHERE p.userId = :userId AND p.balance >= :amount")
+    int decreaseBalance(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    /**
+     * 잔액 증가 (포인트가 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO points (user_id, balance, created_at, updated_at) VALUES (:userId, :amount, :now, :now) " +
+                   "ON DUPLICATE KEY UPDATE balance = balance + :amount, updated_at = :now", nativeQuery = true)
+    int increaseBalance(@Param("userId") String userId, @Param("amount") long amount, @Param("now") LocalDateTime now);
+
+    @Query("SELECT p.balance FROM PointEntity p WHERE p.userId = :userId")
+    Optional<Long> findBalanceByUserId(@Param("userId") String userId);
 }
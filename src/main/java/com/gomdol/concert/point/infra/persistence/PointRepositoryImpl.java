@@ -4,12 +4,25 @@ import com.gomdol.concert.point.domain.model.Point;
 import com.gomdol.concert.point.application.port.out.PointRepository;
 import com.gomdol.concert.point.infra.persistence.entity.PointEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 잔액 행(points) 기반 포인트 저장소 (point.store=row, 기본값)
+ */
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.store", havingValue = "row", matchIfMissing = true)
 public class PointRepositoryImpl implements PointRepository {
 
     private final PointJpaRepository pointJpaRepository;
@@ -22,7 +35,8 @@ public class PointRepositoryImpl implements PointRepository {
     @Override
     public Point save(Point point) {
         // 기존 엔티티가 있으면 업데이트, 없으면 새로 생성
-        PointEntity entity = pointJpaRepository.findByUserIdWithLock(point.getUserId())
+        // 같은 트랜잭션에서 잠금 조회한 엔티티는 영속성 컨텍스트에서 바로 반환됨 (SELECT ... FOR UPDATE 재실행 없음)
+        PointEntity entity = pointJpaRepository.findById(point.getUserId())
                 .map(existing -> {
                     // 기존 엔티티 업데이트
                     existing.updateBalance(point.getBalance());
@@ -33,4 +47,56 @@ public class PointRepositoryImpl implements PointRepository {
         PointEntity saved = pointJpaRepository.save(entity);
         return PointEntity.toDomain(saved);
     }
+
+    @Override
+    public List<Point> findAllByUserIdsWithLock(Collection<String> userIds) {
+        return pointJpaRepository.findAllByUserIdInWithLock(userIds).stream()
+                .map(PointEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Point> saveAll(List<Point> points) {
+        // 같은 트랜잭션에서 잠금 조회한 엔티티는 영속성 컨텍스트에서 바로 반환됨 (추가 SELECT 없음)
+        Map<String, Point> byUserId = points.stream().collect(Collectors.toMap(Point::getUserId, Function.identity(), (a, b) -> b));
+        List<PointEntity> entities = new ArrayList<>(pointJpaRepository.findAllById(byUserId.keySet()));
+        entities.forEach(entity -> entity.updateBalance(byUserId.get(entity.getUserId()).getBalance()));
+
+        // 기존 엔티티가 없는 사용자는 새로 생성
+        Set<String> existing = entities.stream().map(PointEntity::getUserId).collect(Collectors.toSet());
+        byUserId.values().stream()
+                .filter(point -> !existing.contains(point.getUserId()))
+                .map(PointEntity::fromDomain)
+                .forEach(entities::add);
+
+        return pointJpaRepository.saveAll(entities).stream()
+                .map(PointEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<Long> decreaseBalance(String userId, long amount) {
+        if (pointJpaRepository.decreaseBalance(userId, amount, LocalDateTime.now()) == 0)
+            return Optional.empty();
+        // UPDATE로 잡은 행 잠금이 커밋까지 유지되므로 다시 읽은 값이 곧 차감 후 잔액
+        return pointJpaRepository.findBalanceByUserId(userId);
+    }
+
+    @Override
+    public Optional<Long> increaseBalance(String userId, long amount) {
+        pointJpaRepository.increaseBalance(userId, amount, LocalDateTime.now());
+        return Optional.of(pointJpaRepository.findBalanceByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("포인트 정보를 찾을 수 없습니다: " + userId)));
+    }
+
+    @Override
+    public Optional<Long> findBalance(String userId) {
+        return pointJpaRepository.findBalanceByUserId(userId);
+    }
+
+    @Override
+    public Optional<CommittedBalance> findCommittedBalance(String userId) {
+        // 잔액 행 잠금으로 사용자별 변경이 직렬화됨 → 이력 id 순서 = 커밋 순서, 이벤트 값을 그대로 사용
+        return Optional.empty();
+    }
 }
@@ -32,6 +32,10 @@ public class PointEntity extends BaseEntity {
         return new PointEntity(point.getUserId(),point.getBalance());
     }
 
+    public String getUserId() {
+        return userId;
+    }
+
     public void updateBalance(long newBalance) {
         this.balance = newBalance;
     }
@@ -14,7 +14,11 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "point_history",
         indexes = {
-                @Index(name = "ix_history_user_created", columnList = "user_id, created_at DESC")
+                @Index(name = "ix_history_user_created", columnList = "user_id, created_at DESC"),
+                // 내역 목록 keyset 조회용 커버링 인덱스 (user_id, id DESC 순으로 탐색, 조회 컬럼 포함 → 테이블 접근 없음)
+                @Index(name = "ix_history_user_id_cover", columnList = "user_id, id DESC, use_type, created_at, amount, after_balance"),
+                // 원장 저장소 잔액 계산용 (스냅샷에 접히지 않은 이력 합계/건수를 인덱스만으로 처리)
+                @Index(name = "ix_history_user_folded_amount", columnList = "user_id, folded, amount")
         },
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_point_history_user_req", columnNames = {"user_id", "request_id"})
@@ -40,13 +44,18 @@ public class PointHistoryEntity extends CreateEntity {
     @Column(name = "use_type", nullable = false, length = 20)
     private UseType useType;
 
-    @Column(name = "before_balance", nullable = false)
-    private long beforeBalance;
+    // 원장 저장소의 충전/환불은 null (변경 전후 잔액을 계산하지 않음)
+    @Column(name = "before_balance")
+    private Long beforeBalance;
 
-    @Column(name = "after_balance", nullable = false)
-    private long afterBalance;
+    @Column(name = "after_balance")
+    private Long afterBalance;
 
-    private PointHistoryEntity(String userId, String requestId, long amount, UseType useType, long beforeBalance, long afterBalance) {
+    // 원장 저장소: 스냅샷에 합산된 이력 (잔액 = 스냅샷 + folded=false 이력 합계)
+    @Column(name = "folded", nullable = false)
+    private boolean folded;
+
+    private PointHistoryEntity(String userId, String requestId, long amount, UseType useType, Long beforeBalance, Long afterBalance) {
         this.userId = userId;
         this.requestId = requestId;
         this.amount = amount;
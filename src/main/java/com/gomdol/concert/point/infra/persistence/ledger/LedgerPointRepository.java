@@ -0,0 +1,101 @@
+package com.gomdol.concert.point.infra.persistence.ledger;
+
+import com.gomdol.concert.point.application.port.out.PointRepository;
+import com.gomdol.concert.point.domain.model.Point;
+import com.gomdol.concert.point.infra.persistence.ledger.PointSnapshotJpaRepository.BalanceSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장(append-only) 기반 포인트 저장소 (point.store=ledger)
+ * - 잔액 행을 갱신하지 않음, 잔액 = 스냅샷 + 스냅샷에 합산되지 않은(folded=false) point_history amount 합
+ * - 실제 증감은 호출 측이 이어서 저장하는 PointHistory(원장 행)로 반영됨 → 여기서는 검증과 변경 후 잔액 계산만 수행
+ * - 충전: 잠금 없이 이력만 append → 동시 충전끼리 대기 없음, 변경 후 잔액은 계산하지 않음 (이력 before/after null)
+ * - 사용: 스냅샷 행 배타 잠금 + 잠금 읽기로 최신 잔액 확인 → 사용자 단위 직렬화
+ * - 충전 이력 id는 커밋 순서와 다를 수 있음 → 잔액 캐시는 커밋 후 재조회한 값과 커밋된 이력 수를 버전으로 사용
+ *   (row 저장소의 이력 id 버전과 체계가 다르므로 저장소 전환 시 잔액 캐시를 비워야 함)
+ * - 스냅샷이 없는 사용자는 0원 스냅샷을 만들어 이력 합계로 잔액 계산 (row 저장소에서 전환한 경우 포함)
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.store", havingValue = "ledger")
+public class LedgerPointRepository implements PointRepository {
+
+    private final PointSnapshotJpaRepository snapshotRepository;
+
+    @Override
+    public Optional<Point> findByUserIdWithLock(String userId) {
+        PointSnapshotEntity snapshot = lockForUpdate(userId);
+        return Optional.of(Point.create(userId, lockedBalance(snapshot)));
+    }
+
+    @Override
+    public Point save(Point point) {
+        // 잔액은 이어서 저장되는 이력으로 반영, 신규 사용자만 스냅샷 생성
+        snapshotRepository.insertIgnore(point.getUserId(), LocalDateTime.now());
+        return point;
+    }
+
+    @Override
+    public List<Point> findAllByUserIdsWithLock(Collection<String> userIds) {
+        List<String> missing = new ArrayList<>(userIds);
+        missing.removeAll(snapshotRepository.findAllById(userIds).stream().map(PointSnapshotEntity::getUserId).toList());
+        LocalDateTime now = LocalDateTime.now();
+        missing.forEach(userId -> snapshotRepository.insertIgnore(userId, now));
+        return snapshotRepository.findAllByUserIdInForUpdate(userIds).stream()
+                .map(snapshot -> Point.create(snapshot.getUserId(), lockedBalance(snapshot)))
+                .toList();
+    }
+
+    @Override
+    public List<Point> saveAll(List<Point> points) {
+        LocalDateTime now = LocalDateTime.now();
+        points.forEach(point -> snapshotRepository.insertIgnore(point.getUserId(), now));
+        return points;
+    }
+
+    @Override
+    public Optional<Long> decreaseBalance(String userId, long amount) {
+        long balance = lockedBalance(lockForUpdate(userId));
+        if (balance < amount)
+            return Optional.empty();
+        return Optional.of(balance - amount);
+    }
+
+    @Override
+    public Optional<Long> increaseBalance(String userId, long amount) {
+        // 스냅샷 행은 최초 충전 때만 생성 (이후 충전은 스냅샷 행을 건드리지 않음)
+        if (!snapshotRepository.existsById(userId))
+            snapshotRepository.insertIgnore(userId, LocalDateTime.now());
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Long> findBalance(String userId) {
+        return snapshotRepository.summarize(userId).map(BalanceSummary::getBalance);
+    }
+
+    @Override
+    public Optional<CommittedBalance> findCommittedBalance(String userId) {
+        return snapshotRepository.summarize(userId)
+                .map(summary -> new CommittedBalance(summary.getBalance(), summary.getVersion()));
+    }
+
+    private PointSnapshotEntity lockForUpdate(String userId) {
+        return snapshotRepository.findByUserIdForUpdate(userId).orElseGet(() -> {
+            snapshotRepository.insertIgnore(userId, LocalDateTime.now());
+            return snapshotRepository.findByUserIdForUpdate(userId).orElseThrow();
+        });
+    }
+
+    private long lockedBalance(PointSnapshotEntity snapshot) {
+        return snapshot.getBalance() + snapshotRepository.sumTailForShare(snapshot.getUserId());
+    }
+}
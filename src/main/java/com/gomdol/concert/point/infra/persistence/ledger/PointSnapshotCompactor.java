@@ -0,0 +1,59 @@
+package com.gomdol.concert.point.infra.persistence.ledger;
+
+import com.gomdol.concert.common.infra.config.PointLedgerProperties;
+import com.gomdol.concert.point.infra.persistence.ledger.PointSnapshotJpaRepository.TailSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 원장 스냅샷 압축
+ * - 스냅샷 행 배타 잠금 → 사용/다른 압축과 직렬화, 남은 이력을 배타 잠금 읽기로 합산 후 folded 표시 + 스냅샷에 반영
+ * - 충전은 잠금 없이 append되어 커밋 순서가 id 순서와 다름 → id 기준으로 접으면 늦게 커밋된 낮은 id 이력이 누락되므로 행 단위 folded 표시로 구분
+ * - 사용자 단위 트랜잭션 (잠금 유지 시간 최소화)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.store", havingValue = "ledger")
+public class PointSnapshotCompactor {
+
+    private final PointSnapshotJpaRepository snapshotRepository;
+    private final PointLedgerProperties properties;
+
+    @Transactional(readOnly = true)
+    public long findLastHistoryId() {
+        return snapshotRepository.findMaxHistoryId();
+    }
+
+    /**
+     * (sinceId, untilId] 구간에 이력이 추가된 사용자 중 압축 대상
+     */
+    @Transactional(readOnly = true)
+    public List<String> findCandidates(long sinceId, long untilId) {
+        return snapshotRepository.findCompactionCandidates(sinceId, untilId, properties.minTailSize(), properties.batchSize());
+    }
+
+    /**
+     * @return 스냅샷이 갱신되면 true
+     */
+    @Transactional
+    public boolean compact(String userId) {
+        PointSnapshotEntity snapshot = snapshotRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (snapshot == null)
+            return false;
+
+        TailSummary tail = snapshotRepository.summarizeTailForUpdate(userId);
+        if (tail.getCount() == 0)
+            return false;
+
+        snapshotRepository.markFolded(userId);
+        snapshot.fold(tail.getTotal(), tail.getCount());
+        log.debug("포인트 스냅샷 압축 - userId={}, balance={}, foldedCount={}", userId, snapshot.getBalance(), snapshot.getFoldedCount());
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.gomdol.concert.point.infra.persistence.ledger;
+
+import com.gomdol.concert.common.infra.persistence.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 잔액 스냅샷 (원장 저장소)
+ * - 잔액 = balance + point_history에서 folded=false 인 amount 합
+ * - 행 자체는 사용/압축의 사용자 단위 잠금 기준점으로도 사용 (충전은 잠그지 않음)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "point_snapshot")
+public class PointSnapshotEntity extends BaseEntity {
+
+    @Id
+    @Column(name = "user_id", length = 36)
+    private String userId;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    // 스냅샷에 합산된 이력 건수 (+ 남은 이력 건수 = 잔액 캐시 버전)
+    @Column(name = "folded_count", nullable = false)
+    private long foldedCount;
+
+    /**
+     * 이력 tail을 스냅샷에 합산
+     */
+    public void fold(long tailAmount, long tailCount) {
+        this.balance += tailAmount;
+        this.foldedCount += tailCount;
+    }
+}
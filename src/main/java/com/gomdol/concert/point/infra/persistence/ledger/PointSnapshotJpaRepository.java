@@ -0,0 +1,88 @@
+package com.gomdol.concert.point.infra.persistence.ledger;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PointSnapshotJpaRepository extends JpaRepository<PointSnapshotEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+        @QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")
+    })
+    @Query("SELECT s FROM PointSnapshotEntity s WHERE s.userId = :userId")
+    Optional<PointSnapshotEntity> findByUserIdForUpdate(@Param("userId") String userId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints({
+        @QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000")
+    })
+    @Query("SELECT s FROM PointSnapshotEntity s WHERE s.userId IN :userIds ORDER BY s.userId")
+    List<PointSnapshotEntity> findAllByUserIdInForUpdate(@Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_snapshot (user_id, balance, folded_count, created_at, updated_at) " +
+                   "VALUES (:userId, 0, 0, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * 스냅샷 + 남은 이력 합계/건수 (잠금 없음, 한 문장 → 압축 전후가 섞이지 않는 일관된 값)
+     * - version: 스냅샷에 합산된 건수 + 남은 건수 = 커밋된 이력 수 (커밋 순서대로 증가)
+     */
+    @Query(value = "SELECT CAST(s.balance + COALESCE(SUM(h.amount), 0) AS SIGNED) AS balance, " +
+                   "s.folded_count + COUNT(h.id) AS version " +
+                   "FROM point_snapshot s LEFT JOIN point_history h ON h.user_id = s.user_id AND h.folded = false " +
+                   "WHERE s.user_id = :userId GROUP BY s.user_id, s.balance, s.folded_count", nativeQuery = true)
+    Optional<BalanceSummary> summarize(@Param("userId") String userId);
+
+    /**
+     * 남은 이력 합계 (잠금 읽기) - 트랜잭션 시작 시점과 무관하게 커밋된 최신 이력 기준
+     */
+    @Query(value = "SELECT CAST(COALESCE(SUM(amount), 0) AS SIGNED) FROM point_history " +
+                   "WHERE user_id = :userId AND folded = false FOR SHARE", nativeQuery = true)
+    long sumTailForShare(@Param("userId") String userId);
+
+    /**
+     * 남은 이력 합계/건수 (배타 잠금 읽기) - 이어서 folded 표시할 행 잠금
+     */
+    @Query(value = "SELECT CAST(COALESCE(SUM(amount), 0) AS SIGNED) AS total, COUNT(*) AS count FROM point_history " +
+                   "WHERE user_id = :userId AND folded = false FOR UPDATE", nativeQuery = true)
+    TailSummary summarizeTailForUpdate(@Param("userId") String userId);
+
+    @Modifying
+    @Query(value = "UPDATE point_history SET folded = true WHERE user_id = :userId AND folded = false", nativeQuery = true)
+    int markFolded(@Param("userId") String userId);
+
+    @Query(value = "SELECT COALESCE(MAX(id), 0) FROM point_history", nativeQuery = true)
+    long findMaxHistoryId();
+
+    /**
+     * (sinceId, untilId] 구간에 이력이 추가된 사용자 중 스냅샷에 합산되지 않은 이력이 minTailSize건 이상인 사용자
+     * - PK 범위 스캔 + 사용자별 ix_history_user_folded_amount 건수 → 비용이 전체 사용자 수가 아니라 그 사이 추가된 이력 수에 비례
+     */
+    @Query(value = "SELECT h.user_id FROM point_history h WHERE h.id > :sinceId AND h.id <= :untilId GROUP BY h.user_id " +
+                   "HAVING (SELECT COUNT(*) FROM point_history t WHERE t.user_id = h.user_id AND t.folded = false) >= :minTailSize " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<String> findCompactionCandidates(@Param("sinceId") long sinceId, @Param("untilId") long untilId,
+                                          @Param("minTailSize") int minTailSize, @Param("limit") int limit);
+
+    interface BalanceSummary {
+        Long getBalance();
+        Long getVersion();
+    }
+
+    interface TailSummary {
+        Long getTotal();
+        Long getCount();
+    }
+}
@@ -2,24 +2,100 @@ package com.gomdol.concert.point.infra.persistence.outbox;
 
 import com.gomdol.concert.common.domain.outbox.OutboxStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PointOutboxJpaRepository extends JpaRepository<PointOutboxEntity, Long> {
 
-    List<PointOutboxEntity> findByStatusOrderByCreatedAtAsc(OutboxStatus status);
+    /**
+     * 발행 대상 PENDING 이벤트 ID 선점 (다른 인스턴스가 잠근 행은 건너뜀)
+     * - threshold 이전에 생성된 이벤트
+     * - idx_point_outbox_status_created_at 범위 스캔 순서 그대로 정렬 (filesort 없이 LIMIT에서 멈춤)
+     */
+    @Query(value = "SELECT id FROM point_outbox " +
+                   "WHERE status = 'PENDING' AND created_at < :threshold " +
+                   "ORDER BY created_at, id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findPendingIdsForUpdate(@Param("threshold") LocalDateTime threshold, @Param("limit") int limit);
 
-    @Query("SELECT e FROM PointOutboxEntity e " +
-           "WHERE e.status = 'FAILED' " +
-           "AND e.retryCount < :maxRetries " +
-           "ORDER BY e.createdAt ASC")
-    List<PointOutboxEntity> findFailedEventsForRetry(@Param("maxRetries") int maxRetries);
+    /**
+     * lease가 만료된 IN_FLIGHT 이벤트 ID 선점 (발행 도중 인스턴스가 종료된 경우)
+     * - idx_point_outbox_status_lease_until 범위 스캔
+     */
+    @Query(value = "SELECT id FROM point_outbox " +
+                   "WHERE status = 'IN_FLIGHT' AND lease_until < :now " +
+                   "ORDER BY lease_until, id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findExpiredLeaseIdsForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
 
-    @Query("SELECT e FROM PointOutboxEntity e " +
-           "WHERE e.status = 'PUBLISHED' " +
-           "AND e.publishedAt < :threshold")
-    List<PointOutboxEntity> findOldPublishedEvents(@Param("threshold") LocalDateTime threshold);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointOutboxEntity e " +
+           "SET e.status = :status, e.claimedBy = :owner, e.leaseUntil = :leaseUntil " +
+           "WHERE e.id IN :ids")
+    int markInFlight(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 단건 선점 (PENDING인 경우에만 IN_FLIGHT로 변경)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointOutboxEntity e " +
+           "SET e.status = :status, e.claimedBy = :owner, e.leaseUntil = :leaseUntil " +
+           "WHERE e.id = :id AND e.status = :expected")
+    int claimById(@Param("id") Long id, @Param("expected") OutboxStatus expected, @Param("status") OutboxStatus status, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 재시도 가능한 FAILED 이벤트 ID 선점 (PENDING과 같은 방식 → 여러 인스턴스가 같은 이벤트를 중복 재발행하지 않음)
+     * - idx_point_outbox_status_retry_count 범위 스캔 (재시도 한도를 넘긴 행은 읽지 않음)
+     */
+    @Query(value = "SELECT id FROM point_outbox " +
+                   "WHERE status = 'FAILED' AND retry_count < :maxRetries " +
+                   "ORDER BY retry_count, id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findRetryableIdsForUpdate(@Param("maxRetries") int maxRetries, @Param("limit") int limit);
+
+    /**
+     * 가장 작은 PUBLISHED 이벤트 ID (idx_point_outbox_status_id 한 번의 인덱스 탐색)
+     */
+    @Query("SELECT MIN(e.id) FROM PointOutboxEntity e WHERE e.status = :status")
+    Optional<Long> findMinIdByStatus(@Param("status") OutboxStatus status);
+
+    @Query("SELECT MAX(e.id) FROM PointOutboxEntity e WHERE e.createdAt < :threshold")
+    Optional<Long> findMaxIdCreatedBefore(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * id 범위 단위 삭제 (PK 범위 스캔, 한 번에 잠그는 행 수 제한)
+     */
+    @Modifying
+    @Query("DELETE FROM PointOutboxEntity e " +
+           "WHERE e.id >= :fromId AND e.id < :toId " +
+           "AND e.status = :status")
+    int deleteByIdRangeAndStatus(@Param("fromId") long fromId, @Param("toId") long toId, @Param("status") OutboxStatus status);
+
+    /**
+     * 발행 성공 일괄 반영 (owner가 선점 중인 행만)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointOutboxEntity e " +
+           "SET e.status = :status, e.publishedAt = :publishedAt, e.errorMessage = null, e.claimedBy = null, e.leaseUntil = null " +
+           "WHERE e.id IN :ids AND e.status = :expected AND e.claimedBy = :owner")
+    int markPublished(@Param("ids") List<Long> ids, @Param("expected") OutboxStatus expected, @Param("owner") String owner,
+                      @Param("status") OutboxStatus status, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 발행 실패 일괄 반영 (owner가 선점 중인 행만, 재시도 횟수 증가)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PointOutboxEntity e " +
+           "SET e.status = :status, e.retryCount = e.retryCount + 1, e.errorMessage = :errorMessage, e.claimedBy = null, e.leaseUntil = null " +
+           "WHERE e.id IN :ids AND e.status = :expected AND e.claimedBy = :owner")
+    int markFailed(@Param("ids") List<Long> ids, @Param("expected") OutboxStatus expected, @Param("owner") String owner,
+                   @Param("status") OutboxStatus status, @Param("errorMessage") String errorMessage);
 }
@@ -5,9 +5,13 @@ import com.gomdol.concert.common.domain.outbox.OutboxEvent;
 import com.gomdol.concert.common.domain.outbox.OutboxStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -25,31 +29,80 @@ public class PointOutboxRepositoryImpl implements OutboxRepository {
     }
 
     @Override
-    public List<OutboxEvent> findPendingEvents() {
-        return jpaRepository.findByStatusOrderByCreatedAtAsc(OutboxStatus.PENDING)
+    public List<OutboxEvent> saveAll(List<OutboxEvent> events) {
+        return jpaRepository.saveAll(events.stream().map(PointOutboxEntity::fromDomain).toList())
                 .stream()
                 .map(PointOutboxEntity::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<OutboxEvent> findFailedEventsForRetry(int maxRetries) {
-        return jpaRepository.findFailedEventsForRetry(maxRetries)
+    @Transactional
+    public List<OutboxEvent> claimPendingEvents(String owner, LocalDateTime threshold, LocalDateTime leaseUntil, int limit) {
+        // 상태별로 나눠 각각 인덱스 순서로 선점 (OR 조건 하나로 묶으면 인덱스 정렬을 못 써서 잠금 읽기가 스캔이 됨)
+        List<Long> ids = new ArrayList<>(jpaRepository.findExpiredLeaseIdsForUpdate(LocalDateTime.now(), limit));
+        if (ids.size() < limit)
+            ids.addAll(jpaRepository.findPendingIdsForUpdate(threshold, limit - ids.size()));
+        return markInFlight(ids, owner, leaseUntil);
+    }
+
+    /**
+     * 선점한 이벤트를 IN_FLIGHT로 변경 후 id 순으로 반환 (워커에 같은 aggregate 이벤트가 생성 순서대로 들어가도록)
+     */
+    private List<OutboxEvent> markInFlight(List<Long> ids, String owner, LocalDateTime leaseUntil) {
+        if (ids.isEmpty())
+            return List.of();
+
+        jpaRepository.markInFlight(ids, OutboxStatus.IN_FLIGHT, owner, leaseUntil);
+        return jpaRepository.findAllById(ids)
                 .stream()
                 .map(PointOutboxEntity::toDomain)
+                .sorted(Comparator.comparing(OutboxEvent::getId))
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<OutboxEvent> findOldPublishedEvents(LocalDateTime threshold) {
-        return jpaRepository.findOldPublishedEvents(threshold)
-                .stream()
-                .map(PointOutboxEntity::toDomain)
-                .collect(Collectors.toList());
+    @Transactional
+    public boolean claim(Long id, String owner, LocalDateTime leaseUntil) {
+        return jpaRepository.claimById(id, OutboxStatus.PENDING, OutboxStatus.IN_FLIGHT, owner, leaseUntil) == 1;
+    }
+
+    @Override
+    @Transactional
+    public int markPublished(List<Long> ids, String owner, LocalDateTime publishedAt) {
+        return jpaRepository.markPublished(ids, OutboxStatus.IN_FLIGHT, owner, OutboxStatus.PUBLISHED, publishedAt);
+    }
+
+    @Override
+    @Transactional
+    public int markFailed(List<Long> ids, String owner, String errorMessage) {
+        return jpaRepository.markFailed(ids, OutboxStatus.IN_FLIGHT, owner, OutboxStatus.FAILED, errorMessage);
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxEvent> claimFailedEvents(String owner, int maxRetries, LocalDateTime leaseUntil, int limit) {
+        return markInFlight(jpaRepository.findRetryableIdsForUpdate(maxRetries, limit), owner, leaseUntil);
+    }
+
+    @Override
+    public Optional<Long> findMinPublishedId() {
+        return jpaRepository.findMinIdByStatus(OutboxStatus.PUBLISHED);
+    }
+
+    @Override
+    public Optional<Long> findMaxIdCreatedBefore(LocalDateTime threshold) {
+        return jpaRepository.findMaxIdCreatedBefore(threshold);
+    }
+
+    @Override
+    @Transactional
+    public int deletePublishedInIdRange(long fromId, long toId) {
+        return jpaRepository.deleteByIdRangeAndStatus(fromId, toId, OutboxStatus.PUBLISHED);
     }
 
     @Override
-    public void delete(OutboxEvent event) {
-        jpaRepository.deleteById(event.getId());
+    public String aggregateType() {
+        return "POINT";
     }
 }
@@ -0,0 +1,13 @@
+package com.gomdol.concert.point.infra.persistence.query;
+
+import com.gomdol.concert.point.domain.model.UseType;
+
+import java.time.LocalDateTime;
+
+public interface PointHistoryProjection {
+    Long getId();
+    UseType getUseType();
+    long getAmount();
+    Long getAfterBalance();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,70 @@
+package com.gomdol.concert.point.infra.scheduler;
+
+import com.gomdol.concert.common.infra.config.PointLedgerProperties;
+import com.gomdol.concert.point.infra.persistence.ledger.PointSnapshotCompactor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 원장 스냅샷 압축 스케줄러 (point.store=ledger)
+ * - 이력 tail이 길어진 사용자부터 배치 단위로 압축 → 잔액 계산 시 합산할 이력 수 제한
+ * - 지난 주기 이후 이력이 추가된 사용자만 확인 (확인한 마지막 이력 id 기준, 인스턴스 메모리에 유지)
+ *   → 이후 커밋된 낮은 id 이력이나 재시작 이전에 쌓인 tail은 해당 사용자의 다음 이력 추가 시 대상이 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.store", havingValue = "ledger")
+public class PointSnapshotScheduler {
+
+    private final PointSnapshotCompactor compactor;
+    private final PointLedgerProperties properties;
+
+    // 압축 대상을 확인한 마지막 이력 id (-1: 아직 확인 전)
+    private volatile long scannedHistoryId = -1;
+
+    @Scheduled(fixedDelayString = "${point.ledger.snapshot-interval-ms:60000}", initialDelay = 30000)
+    public void compactSnapshots() {
+        try {
+            long untilId = compactor.findLastHistoryId();
+            if (scannedHistoryId < 0) {
+                scannedHistoryId = untilId;
+                return;
+            }
+
+            int total = 0;
+            boolean failed = false;
+            List<String> candidates;
+            do {
+                candidates = compactor.findCandidates(scannedHistoryId, untilId);
+                int compacted = 0;
+                for (String userId : candidates) {
+                    try {
+                        if (compactor.compact(userId))
+                            compacted++;
+                    } catch (Exception e) {
+                        failed = true;
+                        log.warn("포인트 스냅샷 압축 실패 - userId={}, error={}", userId, e.getMessage());
+                    }
+                }
+                total += compacted;
+                if (compacted == 0)
+                    break;  // 전부 실패하면 같은 대상이 반복 조회되므로 다음 주기로
+            } while (candidates.size() >= properties.batchSize());
+
+            // 실패한 사용자가 있으면 같은 구간을 다음 주기에 다시 확인
+            if (!failed)
+                scannedHistoryId = untilId;
+
+            if (total > 0)
+                log.info("포인트 스냅샷 압축 완료 - 사용자 수: {}", total);
+        } catch (Exception e) {
+            log.error("포인트 스냅샷 Scheduler 예외 발생", e);
+        }
+    }
+}
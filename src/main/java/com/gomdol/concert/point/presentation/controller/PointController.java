@@ -1,11 +1,12 @@
 package com.gomdol.concert.point.presentation.controller;
 
-import com.gomdol.concert.common.presentation.dto.PageResponse;
+import com.gomdol.concert.common.presentation.dto.CursorResponse;
 import com.gomdol.concert.common.presentation.exception.ApiException;
 import com.gomdol.concert.point.application.port.in.GetPointBalancePort;
+import com.gomdol.concert.point.application.port.in.GetPointHistoryPort;
 import com.gomdol.concert.point.application.usecase.SavePointUseCase;
 import com.gomdol.concert.point.domain.model.UseType;
-import com.gomdol.concert.point.presentation.dto.PointHistoryResponse;
+import com.gomdol.concert.point.presentation.dto.PointHistoryItem;
 import com.gomdol.concert.point.presentation.dto.PointRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -37,6 +38,7 @@ public class PointController {
 
     private final GetPointBalancePort getPointBalancePort;
     private final SavePointUseCase savePointUseCase;
+    private final GetPointHistoryPort getPointHistoryPort;
 
     @Operation(summary = "내 포인트 조회", description = "현재 로그인한 사용자의 포인트 잔액을 조회한다.")
     @ApiResponses({
@@ -72,24 +74,26 @@ public class PointController {
         return ResponseEntity.ok(savePointUseCase.savePoint(request));
     }
 
-    @Operation(summary = "내 포인트 내역 조회", description = "현재 로그인한 사용자의 포인트 내역을 조회한다.")
+    @Operation(summary = "내 포인트 내역 조회", description = "현재 로그인한 사용자의 포인트 내역을 최신순으로 조회한다. 다음 페이지는 응답의 nextCursor를 cursor로 전달한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공",
-                    content = @Content(schema = @Schema(implementation = PageResponse.class))),
+                    content = @Content(schema = @Schema(implementation = CursorResponse.class))),
             @ApiResponse(responseCode = "401", description = "인증 실패",
                     content = @Content(schema = @Schema(implementation = ApiException.class))),
             @ApiResponse(responseCode = "500", description = "서버 오류",
                     content = @Content(schema = @Schema(implementation = ProblemDetail.class)))
     })
     @GetMapping("/histories")
-    public ResponseEntity<PageResponse<PointHistoryResponse>> getMyPointHistories(
+    public ResponseEntity<CursorResponse<PointHistoryItem>> getMyPointHistories(
             @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal me,
-            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @RequestParam(required = false) UseType type,
             @RequestParam(required = false) OffsetDateTime from,
             @RequestParam(required = false) OffsetDateTime to
             ) {
-        return ResponseEntity.ok(null);
+        return ResponseEntity.ok(getPointHistoryPort.getPointHistories(me.getName(), cursor, size, type,
+                from != null ? from.toLocalDateTime() : null,
+                to != null ? to.toLocalDateTime() : null));
     }
 }
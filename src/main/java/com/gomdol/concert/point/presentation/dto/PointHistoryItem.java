@@ -1,5 +1,6 @@
 package com.gomdol.concert.point.presentation.dto;
 
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -11,10 +12,13 @@ public record PointHistoryItem(
         @Schema(example = "1800", description = "사용/충전 금액")
         long amount,
 
-        @Schema(example = "10000", description = "사용/충전 후 잔액")
-        long balanceAfter,
+        @Schema(example = "10000", description = "사용/충전 후 잔액 (원장 저장소의 충전/환불은 null)", nullable = true)
+        Long balanceAfter,
 
         @Schema(example = "2025-08-29T15:03:00", description = "생성 시각")
         LocalDateTime createdAt
 ) {
+    public static PointHistoryItem from(PointHistoryProjection projection) {
+        return new PointHistoryItem(projection.getUseType().name(), projection.getAmount(), projection.getAfterBalance(), projection.getCreatedAt());
+    }
 }
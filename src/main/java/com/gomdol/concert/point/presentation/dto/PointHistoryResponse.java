@@ -17,10 +17,10 @@ public record PointHistoryResponse(
         long amount,
 
         @Schema(example = "1800", description = "사용/충전 금액")
-        long beforeBalance,
+        Long beforeBalance,
 
-        @Schema(example = "10000", description = "사용/충전 후 잔액")
-        long afterBalance,
+        @Schema(example = "10000", description = "사용/충전 후 잔액 (원장 저장소의 충전/환불은 null)", nullable = true)
+        Long afterBalance,
 
         @Schema(example = "2025-08-29T15:03:00", description = "생성 시각")
         LocalDateTime createdAt
@@ -0,0 +1,165 @@
+package com.gomdol.concert.reservation.application.facade;
+
+import com.gomdol.concert.common.application.cache.port.out.CacheRepository;
+import com.gomdol.concert.common.infra.config.ReservationAsyncProperties;
+import com.gomdol.concert.reservation.application.port.in.ReservationAcceptPort;
+import com.gomdol.concert.reservation.application.port.in.ReservationResponse;
+import com.gomdol.concert.reservation.application.port.out.ReservationPolicyProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.gomdol.concert.common.infra.util.CacheUtils.*;
+import static com.gomdol.concert.reservation.application.port.in.ReservationSeatPort.*;
+
+/**
+ * 비동기 예약 Facade (접수 후 폴링)
+ * - 요청은 가볍게 검증 후 내부 큐에 적재하고 즉시 반환
+ * - DB 커넥션 수에 맞춘 워커 풀이 ReservationFacade(분산 락 + 트랜잭션)를 실행
+ * - 처리 상태는 Redis에 멱등키 기준으로 저장
+ * - 큐가 가득 차면 RejectedExecutionException (503)
+ */
+@Slf4j
+@Service
+public class ReservationAsyncFacade implements ReservationAcceptPort {
+
+    private final ReservationFacade reservationFacade;
+    private final CacheRepository cacheRepository;
+    private final ReservationPolicyProvider policyProvider;
+    private final ReservationAsyncProperties properties;
+    private final Executor workers;
+
+    @Autowired
+    public ReservationAsyncFacade(ReservationFacade reservationFacade, CacheRepository cacheRepository,
+                                  ReservationPolicyProvider policyProvider, ReservationAsyncProperties properties) {
+        this(reservationFacade, cacheRepository, policyProvider, properties, newWorkerPool(properties));
+    }
+
+    ReservationAsyncFacade(ReservationFacade reservationFacade, CacheRepository cacheRepository,
+                           ReservationPolicyProvider policyProvider, ReservationAsyncProperties properties, Executor workers) {
+        this.reservationFacade = reservationFacade;
+        this.cacheRepository = cacheRepository;
+        this.policyProvider = policyProvider;
+        this.properties = properties;
+        this.workers = workers;
+    }
+
+    /**
+     * 좌석 예약 접수
+     * 1. 비동기 모드 활성화 여부 확인
+     * 2. 좌석 수 등 가벼운 검증 (DB 조회 없음)
+     * 3. 이미 처리됐거나 접수된 요청이면 기존 상태 반환
+     * 4. PENDING 상태를 SET NX로 저장 → 성공한 요청만 워커 큐에 적재 (같은 requestId 동시 접수 시 한 번만 처리)
+     */
+    @Override
+    public ReservationStatusResponse acceptReservation(ReservationSeatCommand command) {
+        if (!properties.enabled())
+            throw new IllegalStateException("비동기 예약 모드가 비활성화되어 있습니다.");
+
+        if (command.seatIds() == null || command.seatIds().isEmpty())
+            throw new IllegalArgumentException("예약할 좌석을 선택해주세요.");
+        if (command.seatIds().size() > policyProvider.maxSeatsPerReservation())
+            throw new IllegalArgumentException(String.format("최대 %d개 좌석까지 예약 가능합니다.", policyProvider.maxSeatsPerReservation()));
+
+        Optional<ReservationStatusResponse> existing = findStatus(command.requestId());
+        if (existing.isPresent()) {
+            log.info("이미 접수된 예약 요청 - requestId={}, status={}", command.requestId(), existing.get().status());
+            return existing.get();
+        }
+
+        String statusKey = reservationStatus(command.requestId());
+        ReservationStatusResponse pending = ReservationStatusResponse.pending(command.requestId(), command.userId());
+        if (!cacheRepository.setIfAbsent(statusKey, pending, RESERVATION_CACHE_TTL)) {
+            log.info("동시에 접수된 예약 요청 - requestId={}", command.requestId());
+            return findStatus(command.requestId()).orElse(pending);
+        }
+
+        try {
+            workers.execute(() -> process(command));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 접수 상태를 지우고 클라이언트가 재시도하도록 함
+            cacheRepository.delete(statusKey);
+            log.warn("예약 워커 큐 포화 - requestId={}", command.requestId());
+            throw e;
+        }
+
+        log.info("예약 요청 접수 - userId={}, requestId={}, showId={}", command.userId(), command.requestId(), command.showId());
+        return pending;
+    }
+
+    /**
+     * 예약 처리 상태 조회
+     * - 다른 사용자의 요청은 존재하지 않는 것으로 처리
+     */
+    @Override
+    public ReservationStatusResponse getReservationStatus(String userId, String requestId) {
+        return findStatus(requestId)
+                .filter(status -> status.userId() == null || status.userId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("예약 요청을 찾을 수 없습니다. requestId=" + requestId));
+    }
+
+    /**
+     * 워커 스레드에서 실행
+     * - 기존 동기 예약 경로(분산 락 + 멱등성)를 그대로 사용
+     */
+    private void process(ReservationSeatCommand command) {
+        String statusKey = reservationStatus(command.requestId());
+        try {
+            ReservationResponse response = reservationFacade.reservationSeat(command);
+            cacheRepository.set(statusKey, ReservationStatusResponse.succeeded(command.requestId(), command.userId(), response), RESERVATION_CACHE_TTL);
+            log.info("비동기 예약 완료 - requestId={}, reservationId={}", command.requestId(), response.reservationId());
+        } catch (Exception e) {
+            cacheRepository.set(statusKey, ReservationStatusResponse.failed(command.requestId(), command.userId(), e.getMessage()), RESERVATION_CACHE_TTL);
+            log.warn("비동기 예약 실패 - requestId={}, reason={}", command.requestId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상태 조회 순서
+     * 1. 비동기 처리 상태 캐시
+     * 2. 동기 경로에서 저장한 예약 결과 캐시
+     */
+    private Optional<ReservationStatusResponse> findStatus(String requestId) {
+        Optional<ReservationStatusResponse> status = cacheRepository.get(reservationStatus(requestId), ReservationStatusResponse.class);
+        if (status.isPresent())
+            return status;
+
+        return cacheRepository.get(reservationResult(requestId), ReservationResponse.class)
+                .map(response -> ReservationStatusResponse.succeeded(requestId, null, response));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(10, TimeUnit.SECONDS))
+                    executorService.shutdownNow();
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ExecutorService newWorkerPool(ReservationAsyncProperties properties) {
+        return new ThreadPoolExecutor(
+                properties.workerCount(),
+                properties.workerCount(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("reservation-worker-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+}
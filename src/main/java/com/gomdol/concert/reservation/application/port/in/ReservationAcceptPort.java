@@ -0,0 +1,44 @@
+package com.gomdol.concert.reservation.application.port.in;
+
+import com.gomdol.concert.reservation.application.port.in.ReservationSeatPort.ReservationSeatCommand;
+
+/**
+ * 비동기 좌석 예약 Port
+ * - 요청을 접수만 하고 즉시 반환 (202 Accepted)
+ * - 처리 결과는 멱등키(requestId)로 조회
+ */
+public interface ReservationAcceptPort {
+
+    /**
+     * 좌석 예약 요청 접수
+     *
+     * @param command 예약 요청 정보
+     * @return 접수 상태 (PENDING 또는 이미 처리된 결과)
+     */
+    ReservationStatusResponse acceptReservation(ReservationSeatCommand command);
+
+    /**
+     * 좌석 예약 처리 상태 조회
+     *
+     * @param userId 사용자 ID
+     * @param requestId 멱등키
+     * @return 처리 상태
+     */
+    ReservationStatusResponse getReservationStatus(String userId, String requestId);
+
+    enum AcceptStatus { PENDING, SUCCEEDED, FAILED }
+
+    record ReservationStatusResponse(String requestId, String userId, AcceptStatus status, ReservationResponse reservation, String failureReason) {
+        public static ReservationStatusResponse pending(String requestId, String userId) {
+            return new ReservationStatusResponse(requestId, userId, AcceptStatus.PENDING, null, null);
+        }
+
+        public static ReservationStatusResponse succeeded(String requestId, String userId, ReservationResponse reservation) {
+            return new ReservationStatusResponse(requestId, userId, AcceptStatus.SUCCEEDED, reservation, null);
+        }
+
+        public static ReservationStatusResponse failed(String requestId, String userId, String failureReason) {
+            return new ReservationStatusResponse(requestId, userId, AcceptStatus.FAILED, null, failureReason);
+        }
+    }
+}
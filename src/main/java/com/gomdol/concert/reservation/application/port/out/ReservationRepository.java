@@ -2,9 +2,13 @@ package com.gomdol.concert.reservation.application.port.out;
 
 import com.gomdol.concert.reservation.domain.model.Reservation;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository {
     Reservation save(Reservation reservation);
     Optional<Reservation> findById(Long id);
+    List<Reservation> findAllByIds(Collection<Long> ids);
+    List<Reservation> saveAll(List<Reservation> reservations);
 }
@@ -7,6 +7,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Reservation 도메인 Command 서비스
  * 개별 작업 단위
@@ -32,6 +38,38 @@ public class ReservationCommandService {
         log.info("좌석 확정 완료 - reservationId={}", reservationId);
     }
 
+    /**
+     * 좌석 일괄 확정 (배치 컨슈머용)
+     * - 예약 + 좌석을 한 번에 조회하고 한 번에 저장
+     * - 비즈니스 실패(만료, 이미 확정 등)는 건별 실패 결과로 반환
+     * - 예약이 존재하지 않으면 예외 (배치 전체 재처리)
+     */
+    @Transactional
+    public List<SeatConfirmResult> confirmSeatsBatch(List<Long> reservationIds) {
+        Map<Long, Reservation> reservations = reservationRepository.findAllByIds(reservationIds).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+
+        List<SeatConfirmResult> results = new ArrayList<>(reservationIds.size());
+        List<Reservation> confirmed = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            Reservation reservation = reservations.get(reservationId);
+            if (reservation == null)
+                throw new IllegalArgumentException("예약을 찾을 수 없습니다. ID: " + reservationId);
+
+            try {
+                reservation.confirmSeats();
+                confirmed.add(reservation);
+                results.add(SeatConfirmResult.success(reservation));
+            } catch (IllegalStateException e) {
+                results.add(SeatConfirmResult.failure(reservationId, e.getMessage()));
+            }
+        }
+        reservationRepository.saveAll(confirmed);
+
+        log.info("좌석 일괄 확정 완료 - 요청={}, 성공={}", reservationIds.size(), confirmed.size());
+        return results;
+    }
+
     /**
      * 좌석 취소 (보상 트랜잭션)
      */
@@ -45,4 +83,18 @@ public class ReservationCommandService {
 
         log.info("좌석 취소 완료 (보상) - reservationId={}", reservationId);
     }
+
+    public record SeatConfirmResult(Long reservationId, Reservation reservation, String failureReason) {
+        public static SeatConfirmResult success(Reservation reservation) {
+            return new SeatConfirmResult(reservation.getId(), reservation, null);
+        }
+
+        public static SeatConfirmResult failure(Long reservationId, String failureReason) {
+            return new SeatConfirmResult(reservationId, null, failureReason);
+        }
+
+        public boolean success() {
+            return reservation != null;
+        }
+    }
 }
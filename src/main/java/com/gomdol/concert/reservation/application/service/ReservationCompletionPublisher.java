@@ -0,0 +1,91 @@
+package com.gomdol.concert.reservation.application.service;
+
+import com.gomdol.concert.concert.domain.event.RankingUpdateRequestedEvent;
+import com.gomdol.concert.reservation.domain.event.ReservationCompletedEvent;
+import com.gomdol.concert.reservation.domain.model.Reservation;
+import com.gomdol.concert.reservation.domain.model.ReservationSeat;
+import com.gomdol.concert.show.application.port.out.ShowRepository;
+import com.gomdol.concert.show.domain.model.Show;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 예약 확정 후속 이벤트 발행 (Saga Consumer, 로컬 Saga 공용)
+ * 1. ReservationCompletedEvent (Mock API 전송용, 커밋 후 reservation-completed 토픽 발행) - 상세 정보 포함
+ * 2. RankingUpdateRequestedEvent (랭킹 업데이트용) - 경량 이벤트
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCompletionPublisher {
+
+    private final ShowRepository showRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 예약 확정 로컬 이벤트 발행
+     * - showCache: 배치 내 동일 공연 반복 조회 방지
+     */
+    public void publish(Reservation reservation) {
+        publish(reservation, new HashMap<>());
+    }
+
+    public void publish(Reservation reservation, Map<Long, Show> showCache) {
+        Long reservationId = reservation.getId();
+        // 1. ReservationCompletedEvent 발행 (Mock API용)
+        // ReservationSeat에 price가 포함되어 있으므로 도메인 모델에서 직접 변환 가능
+        var seatInfoList = reservation.getReservationSeats().stream()
+                .map(rs -> ReservationCompletedEvent.SeatInfo.of(
+                        rs.getSeatId(),
+                        rs.getShowId(),
+                        rs.getPrice()
+                ))
+                .toList();
+
+        ReservationCompletedEvent reservationEvent = ReservationCompletedEvent.of(
+                reservation.getId(),
+                reservation.getUserId(),
+                reservation.getReservationCode(),
+                seatInfoList,
+                reservation.getAmount(),
+                reservation.getConfirmedAt()
+        );
+        eventPublisher.publishEvent(reservationEvent);
+        log.info("ReservationCompletedEvent 발행 완료 (로컬) - reservationId={}", reservationId);
+
+        // 2. RankingUpdateRequestedEvent 발행 (랭킹 업데이트용)
+        if (!reservation.getReservationSeats().isEmpty()) {
+            try {
+                Long showId = reservation.getReservationSeats().stream()
+                        .findFirst()
+                        .map(ReservationSeat::getShowId)
+                        .orElseThrow(() -> new IllegalStateException("예약 좌석이 없습니다."));
+                int seatCount = reservation.getReservationSeats().size();
+                Show show = showCache.computeIfAbsent(showId, id -> showRepository.findById(id)
+                        .orElseThrow(() -> new IllegalArgumentException("공연을 찾을 수 없습니다. showId=" + id)));
+
+                RankingUpdateRequestedEvent rankingEvent = RankingUpdateRequestedEvent.of(
+                        reservationId,
+                        show.getConcertId(),
+                        show.getId(),
+                        show.getVenueId(),
+                        show.getConcertTitle(),
+                        show.getTotalSeats(),        // totalSeats (전체 좌석 수)
+                        show.getReservedSeats(),     // reservedSeats (예약된 좌석 수)
+                        seatCount                     // seatCount (이번 예약 좌석 수)
+                );
+                eventPublisher.publishEvent(rankingEvent);
+                log.info("RankingUpdateRequestedEvent 발행 완료  - reservationId={}, concertId={}, title={}, seatCount={}",
+                        reservationId, show.getConcertId(), show.getConcertTitle(), seatCount);
+            } catch (Exception e) {
+                log.error("RankingUpdateRequestedEvent 발행 실패 - reservationId={}, error={}", reservationId, e.getMessage(), e);
+                // 랭킹 업데이트 실패해도 예약은 유지
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.gomdol.concert.reservation.domain.command;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
+
 import java.time.LocalDateTime;
 
 /**
@@ -8,9 +10,21 @@ import java.time.LocalDateTime;
  *
  * @param reason 취소 사유
  */
-public record CancelSeatsCommand(Long paymentId, Long reservationId, String userId, String requestId, String reason, LocalDateTime createdAt) {
+public record CancelSeatsCommand(Long paymentId, Long reservationId, String userId, String requestId, String reason, LocalDateTime createdAt) implements SagaMessage {
 
     public static CancelSeatsCommand of(Long paymentId, Long reservationId, String userId, String requestId, String reason) {
         return new CancelSeatsCommand(paymentId, reservationId, userId, requestId, reason, LocalDateTime.now());
     }
+
+    /**
+     * Kafka 메시지 키 - 예약 단위 파티셔닝 (ConfirmSeatsCommand와 동일 키)
+     */
+    public String messageKey() {
+        return reservationId.toString();
+    }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
@@ -1,5 +1,6 @@
 package com.gomdol.concert.reservation.domain.command;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -9,7 +10,7 @@ import java.time.LocalDateTime;
  * PaymentOrchestrator가 Reservation Service로 전송
  */
 @Getter
-public class ConfirmSeatsCommand {
+public class ConfirmSeatsCommand implements SagaMessage {
     private final Long paymentId;
     private final Long reservationId;
     private final String userId;
@@ -44,4 +45,17 @@ public class ConfirmSeatsCommand {
                 LocalDateTime.now()
         );
     }
+
+    /**
+     * Kafka 메시지 키 - 예약 단위 파티셔닝
+     * 같은 예약의 확정/취소는 같은 파티션에서 순서대로 처리
+     */
+    public String messageKey() {
+        return reservationId.toString();
+    }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
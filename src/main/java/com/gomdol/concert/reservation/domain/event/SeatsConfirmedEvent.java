@@ -1,12 +1,14 @@
 package com.gomdol.concert.reservation.domain.event;
 
+import com.gomdol.concert.common.domain.saga.SagaMessage;
+
 import java.time.LocalDateTime;
 
 /**
  * 좌석 확정 완료 Event
  * Reservation Service가 Payment로 전송
  */
-public record SeatsConfirmedEvent(Long paymentId, Long reservationId, String userId, String requestId, boolean succeeded, String failureReason, LocalDateTime occurredAt) {
+public record SeatsConfirmedEvent(Long paymentId, Long reservationId, String userId, String requestId, boolean succeeded, String failureReason, LocalDateTime occurredAt) implements SagaMessage {
 
     public static SeatsConfirmedEvent success(Long paymentId, Long reservationId, String userId, String requestId) {
         return new SeatsConfirmedEvent(paymentId, reservationId, userId, requestId, true, null, LocalDateTime.now());
@@ -15,4 +17,9 @@ public record SeatsConfirmedEvent(Long paymentId, Long reservationId, String use
     public static SeatsConfirmedEvent failure(Long paymentId, Long reservationId, String userId, String requestId, String failureReason) {
         return new SeatsConfirmedEvent(paymentId, reservationId, userId, requestId, false, failureReason, LocalDateTime.now());
     }
+
+    @Override
+    public String sagaId() {
+        return paymentId.toString();
+    }
 }
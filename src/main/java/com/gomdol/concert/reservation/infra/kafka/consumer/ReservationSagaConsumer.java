@@ -1,35 +1,35 @@
 package com.gomdol.concert.reservation.infra.kafka.consumer;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.gomdol.concert.common.application.outbox.OutboxRepository;
-import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
 import com.gomdol.concert.concert.application.port.out.ConcertRepository;
-import com.gomdol.concert.concert.domain.event.RankingUpdateRequestedEvent;
 import com.gomdol.concert.reservation.application.port.out.ReservationRepository;
 import com.gomdol.concert.reservation.application.service.ReservationCommandService;
+import com.gomdol.concert.reservation.application.service.ReservationCommandService.SeatConfirmResult;
+import com.gomdol.concert.reservation.application.service.ReservationCompletionPublisher;
 import com.gomdol.concert.reservation.domain.command.CancelSeatsCommand;
 import com.gomdol.concert.reservation.domain.command.ConfirmSeatsCommand;
-import com.gomdol.concert.reservation.domain.event.ReservationCompletedEvent;
 import com.gomdol.concert.reservation.domain.event.SeatsCancelledEvent;
 import com.gomdol.concert.reservation.domain.event.SeatsConfirmedEvent;
 import com.gomdol.concert.reservation.domain.model.Reservation;
-import com.gomdol.concert.reservation.domain.model.ReservationSeat;
-import com.gomdol.concert.show.application.port.out.ShowRepository;
 import com.gomdol.concert.show.domain.model.Show;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static com.gomdol.concert.reservation.domain.event.SeatsCancelledEvent.*;
 
@@ -51,14 +51,11 @@ public class ReservationSagaConsumer {
 
     private final ReservationCommandService reservationCommandService;
     private final ReservationRepository reservationRepository;
-    private final ShowRepository showRepository;
     private final ConcertRepository concertRepository;
-    private final ApplicationEventPublisher eventPublisher;
-
-    @Qualifier("reservationOutboxRepository")
-    private final OutboxRepository reservationOutboxRepository;
+    private final ReservationCompletionPublisher completionPublisher;
 
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${kafka.topics.seats-confirmed-event}")
     private String seatsConfirmedEventTopic;
@@ -77,7 +74,9 @@ public class ReservationSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.confirm-seats-command}",
             groupId = "${kafka.consumer.reservation-group}",
-            containerFactory = "kafkaListenerContainerFactory"
+            concurrency = "${kafka.consumer.concurrency.reservation:1}",
+            containerFactory = "kafkaListenerContainerFactory",
+            autoStartup = "#{!${kafka.consumer.batch-enabled:false}}"
     )
     public void consumeConfirmSeatsCommand(
             @Payload ConfirmSeatsCommand command,
@@ -86,7 +85,45 @@ public class ReservationSagaConsumer {
             Acknowledgment acknowledgment
     ) {
         log.info("=== [Reservation Service] ConfirmSeatsCommand 수신 - paymentId={}, reservationId={}, offset={} ===", command.getPaymentId(), command.getReservationId(), offset);
+        handleConfirmSeatsCommand(command);
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * ConfirmSeatsCommand 배치 수신 처리 (kafka.consumer.batch-enabled=true)
+     *
+     * poll 단위로 하나의 트랜잭션에서:
+     * 1. 예약 + 좌석 일괄 조회, 일괄 확정/저장
+     * 2. SeatsConfirmedEvent를 Reservation Outbox에 일괄 저장
+     * 배치 처리 중 예외 발생 시 건별 트랜잭션으로 재처리 (실패 레코드만 재시도)
+     */
+    @KafkaListener(
+            topics = "${kafka.topics.confirm-seats-command}",
+            groupId = "${kafka.consumer.reservation-group}",
+            concurrency = "${kafka.consumer.concurrency.reservation:1}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${kafka.consumer.batch-enabled:false}"
+    )
+    public void consumeConfirmSeatsCommands(@Payload List<ConfirmSeatsCommand> commands, Acknowledgment acknowledgment) {
+        log.info("=== [Reservation Service] ConfirmSeatsCommand 배치 수신 - 개수={} ===", commands.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> handleConfirmSeatsCommands(commands));
+        } catch (Exception e) {
+            log.warn("[Reservation Service] ConfirmSeatsCommand 배치 처리 실패 - 건별 처리로 전환, 개수={}", commands.size(), e);
+            for (int i = 0; i < commands.size(); i++) {
+                ConfirmSeatsCommand command = commands.get(i);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> handleConfirmSeatsCommand(command));
+                } catch (Exception ex) {
+                    // 실패 레코드 이전까지 커밋, 실패 레코드부터 재시도
+                    throw new BatchListenerFailedException("ConfirmSeatsCommand 처리 실패 - reservationId=" + command.getReservationId(), ex, i);
+                }
+            }
+        }
+        acknowledgment.acknowledge();
+    }
 
+    private void handleConfirmSeatsCommand(ConfirmSeatsCommand command) {
         try {
             // 좌석 확정 처리
             reservationCommandService.confirmSeats(command.getReservationId());
@@ -101,9 +138,7 @@ public class ReservationSagaConsumer {
             saveOutboxEvent(command.getReservationId().toString(), "SeatsConfirmedEvent", seatsConfirmedEventTopic, successEvent);
 
             // 로컬 이벤트 발행
-            publishLocalEvents(command.getReservationId(), reservation);
-
-            acknowledgment.acknowledge();
+            completionPublisher.publish(reservation);
             log.info("[Reservation Service] SeatsConfirmedEvent(success) Outbox 저장 및 로컬 이벤트 발행 완료");
         } catch (IllegalStateException e) {
             // 좌석 확정 실패 (이미 확정됨, 만료됨 등)
@@ -111,7 +146,6 @@ public class ReservationSagaConsumer {
             // 실패 이벤트를 Reservation Outbox에 저장
             SeatsConfirmedEvent failureEvent = SeatsConfirmedEvent.failure(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), e.getMessage());
             saveOutboxEvent(command.getReservationId().toString(), "SeatsConfirmedEvent", seatsConfirmedEventTopic, failureEvent);
-            acknowledgment.acknowledge();
             log.info("[Reservation Service] SeatsConfirmedEvent(failure) Outbox 저장 완료");
         } catch (Exception e) {
             log.error("[Reservation Service] ConfirmSeatsCommand 처리 중 예외 발생", e);
@@ -119,6 +153,29 @@ public class ReservationSagaConsumer {
         }
     }
 
+    private void handleConfirmSeatsCommands(List<ConfirmSeatsCommand> commands) {
+        List<Long> reservationIds = commands.stream()
+                .map(ConfirmSeatsCommand::getReservationId)
+                .toList();
+        List<SeatConfirmResult> results = reservationCommandService.confirmSeatsBatch(reservationIds);
+
+        List<OutboxMessage> messages = new ArrayList<>(commands.size());
+        Map<Long, Show> showCache = new HashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            ConfirmSeatsCommand command = commands.get(i);
+            SeatConfirmResult result = results.get(i);
+            SeatsConfirmedEvent event = result.success()
+                    ? SeatsConfirmedEvent.success(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId())
+                    : SeatsConfirmedEvent.failure(command.getPaymentId(), command.getReservationId(), command.getUserId(), command.getRequestId(), result.failureReason());
+            messages.add(OutboxMessage.of(command.getReservationId().toString(), "SeatsConfirmedEvent", seatsConfirmedEventTopic, event));
+
+            if (result.success())
+                completionPublisher.publish(result.reservation(), showCache);
+        }
+        outboxEventPublisher.saveOutboxEvents("RESERVATION", messages);
+        log.info("[Reservation Service] SeatsConfirmedEvent 일괄 Outbox 저장 완료 - 개수={}", messages.size());
+    }
+
     /**
      * CancelSeatsCommand 수신 처리 (보상 트랜잭션)
      *
@@ -130,6 +187,7 @@ public class ReservationSagaConsumer {
     @KafkaListener(
             topics = "${kafka.topics.cancel-seats-command}",
             groupId = "${kafka.consumer.reservation-group}",
+            concurrency = "${kafka.consumer.concurrency.reservation:1}",
             containerFactory = "kafkaListenerContainerFactory"
     )
     public void consumeCancelSeatsCommand(
@@ -162,69 +220,6 @@ public class ReservationSagaConsumer {
     }
 
     private void saveOutboxEvent(String aggregateId, String eventType, String topic, Object event) {
-        try {
-            String payload = objectMapper.writeValueAsString(event);
-            OutboxEvent outboxEvent = OutboxEvent.create("RESERVATION", aggregateId, eventType, topic, payload);
-            reservationOutboxRepository.save(outboxEvent);
-        } catch (JsonProcessingException e) {
-            log.error("[Reservation Outbox] 이벤트 직렬화 실패", e);
-            throw new RuntimeException("Failed to serialize outbox event", e);
-        }
-    }
-
-    /**
-     * 로컬 이벤트 발행
-     * 1. ReservationCompletedEvent (Mock API 전송용) - 상세 정보 포함
-     * 2. RankingUpdateRequestedEvent (랭킹 업데이트용) - 경량 이벤트
-     */
-    private void publishLocalEvents(Long reservationId, Reservation reservation) {
-        // 1. ReservationCompletedEvent 발행 (Mock API용)
-        // ReservationSeat에 price가 포함되어 있으므로 도메인 모델에서 직접 변환 가능
-        var seatInfoList = reservation.getReservationSeats().stream()
-                .map(rs -> ReservationCompletedEvent.SeatInfo.of(
-                        rs.getSeatId(),
-                        rs.getShowId(),
-                        rs.getPrice()
-                ))
-                .toList();
-
-        ReservationCompletedEvent reservationEvent = ReservationCompletedEvent.of(
-                reservation.getId(),
-                reservation.getUserId(),
-                reservation.getReservationCode(),
-                seatInfoList,
-                reservation.getAmount(),
-                reservation.getConfirmedAt()
-        );
-        eventPublisher.publishEvent(reservationEvent);
-        log.info("[Reservation Service] ReservationCompletedEvent 발행 완료 (로컬) - reservationId={}", reservationId);
-
-        // 2. RankingUpdateRequestedEvent 발행 (랭킹 업데이트용)
-        if (!reservation.getReservationSeats().isEmpty()) {
-            try {
-                Long showId = reservation.getReservationSeats().stream()
-                        .findFirst()
-                        .map(ReservationSeat::getShowId)
-                        .orElseThrow(() -> new IllegalStateException("예약 좌석이 없습니다."));
-                int seatCount = reservation.getReservationSeats().size();
-                Show show = showRepository.findById(showId)
-                        .orElseThrow(() -> new IllegalArgumentException("공연을 찾을 수 없습니다. showId=" + showId));
-
-                RankingUpdateRequestedEvent rankingEvent = RankingUpdateRequestedEvent.of(
-                        reservationId,
-                        show.getConcertId(),
-                        show.getConcertTitle(),
-                        show.getTotalSeats(),        // totalSeats (전체 좌석 수)
-                        show.getReservedSeats(),     // reservedSeats (예약된 좌석 수)
-                        seatCount                     // seatCount (이번 예약 좌석 수)
-                );
-                eventPublisher.publishEvent(rankingEvent);
-                log.info("RankingUpdateRequestedEvent 발행 완료  - reservationId={}, concertId={}, title={}, seatCount={}",
-                        reservationId, show.getConcertId(), show.getConcertTitle(), seatCount);
-            } catch (Exception e) {
-                log.error("RankingUpdateRequestedEvent 발행 실패 - reservationId={}, error={}", reservationId, e.getMessage(), e);
-                // 랭킹 업데이트 실패해도 예약은 유지
-            }
-        }
+        outboxEventPublisher.saveOutboxEvent("RESERVATION", aggregateId, eventType, topic, event);
     }
 }
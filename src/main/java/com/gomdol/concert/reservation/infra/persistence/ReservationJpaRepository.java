@@ -5,9 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
     @Query("SELECT r FROM ReservationEntity r WHERE r.requestId = :requestId")
     Optional<ReservationEntity> findByRequestId(@Param("requestId") String requestId);
+
+    @Query("SELECT DISTINCT r FROM ReservationEntity r LEFT JOIN FETCH r.reservationSeats WHERE r.id IN :ids")
+    List<ReservationEntity> findAllWithSeatsByIdIn(@Param("ids") Collection<Long> ids);
 }
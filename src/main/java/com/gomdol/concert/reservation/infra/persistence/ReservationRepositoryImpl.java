@@ -6,6 +6,8 @@ import com.gomdol.concert.reservation.infra.persistence.entity.ReservationEntity
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +26,23 @@ public class ReservationRepositoryImpl implements ReservationRepository {
     public Optional<Reservation> findById(Long id) {
         return reservationJpaRepository.findById(id).map(ReservationEntity::toDomain);
     }
+
+    @Override
+    public List<Reservation> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty())
+            return List.of();
+        return reservationJpaRepository.findAllWithSeatsByIdIn(ids).stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<ReservationEntity> entities = reservations.stream()
+                .map(ReservationEntity::fromDomain)
+                .toList();
+        return reservationJpaRepository.saveAll(entities).stream()
+                .map(ReservationEntity::toDomain)
+                .toList();
+    }
 }
@@ -15,7 +15,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "reservation_outbox",
         indexes = {
-                @Index(name = "idx_reservation_outbox_status", columnList = "status"),
+                @Index(name = "idx_reservation_outbox_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_reservation_outbox_status_lease_until", columnList = "status, lease_until"),
+                @Index(name = "idx_reservation_outbox_status_retry_count", columnList = "status, retry_count, id"),
+                @Index(name = "idx_reservation_outbox_status_id", columnList = "status, id"),
                 @Index(name = "idx_reservation_outbox_created_at", columnList = "created_at")
         }
 )
@@ -58,6 +61,15 @@ public class ReservationOutboxEntity {
     @Column(length = 500)
     private String errorMessage;
 
+    @Column(length = 100)
+    private String claimedBy;
+
+    @Column
+    private LocalDateTime leaseUntil;
+
+    @Column(length = 64)
+    private String sagaId;         // paymentId (Saga 추적용)
+
     public static ReservationOutboxEntity fromDomain(OutboxEvent event) {
         ReservationOutboxEntity entity = new ReservationOutboxEntity();
         entity.id = event.getId();
@@ -71,6 +83,9 @@ public class ReservationOutboxEntity {
         entity.publishedAt = event.getPublishedAt();
         entity.retryCount = event.getRetryCount();
         entity.errorMessage = event.getErrorMessage();
+        entity.claimedBy = event.getClaimedBy();
+        entity.leaseUntil = event.getLeaseUntil();
+        entity.sagaId = event.getSagaId();
         return entity;
     }
 
@@ -86,7 +101,10 @@ public class ReservationOutboxEntity {
                 createdAt,
                 publishedAt,
                 retryCount,
-                errorMessage
+                errorMessage,
+                claimedBy,
+                leaseUntil,
+                sagaId
         );
     }
 }
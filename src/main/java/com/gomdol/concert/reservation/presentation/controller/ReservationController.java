@@ -6,6 +6,8 @@ import com.gomdol.concert.concert.presentation.dto.ShowResponseList;
 import com.gomdol.concert.queue.application.port.in.EnterQueuePort;
 import com.gomdol.concert.queue.application.port.in.EnterQueuePort.QueueTokenRequest;
 import com.gomdol.concert.queue.presentation.dto.QueueTokenResponse;
+import com.gomdol.concert.reservation.application.port.in.ReservationAcceptPort;
+import com.gomdol.concert.reservation.application.port.in.ReservationAcceptPort.ReservationStatusResponse;
 import com.gomdol.concert.reservation.application.port.in.ReservationResponse;
 import com.gomdol.concert.reservation.application.port.in.ReservationSeatPort;
 import com.gomdol.concert.reservation.application.port.in.ReservationSeatPort.ReservationSeatCommand;
@@ -28,6 +30,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @Tag(name = "Reservation", description = "예약 가능 날짜/좌석 조회, 예약/취소")
@@ -37,6 +40,7 @@ import java.util.List;
 public class ReservationController {
 
     private final ReservationSeatPort  reservationSeatPort;
+    private final ReservationAcceptPort reservationAcceptPort;
     private final EnterQueuePort enterQueuePort;
 
     @Operation(summary = "예약 가능 날짜 조회")
@@ -107,6 +111,55 @@ public class ReservationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(reservationSeatPort.reservationSeat(cmd));
     }
 
+    @Operation(summary = "좌석 예약 (비동기 접수)",
+            description = "예약 요청을 접수만 하고 즉시 반환한다. 처리 결과는 Location 헤더의 상태 조회 URL로 확인한다.",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "접수됨",
+                    content = @Content(schema = @Schema(implementation = ReservationStatusResponse.class))),
+            @ApiResponse(responseCode = "400", description = "검증 실패",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ApiException.class))),
+            @ApiResponse(responseCode = "503", description = "처리 대기열 포화",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/{showId}/async")
+    public ResponseEntity<ReservationStatusResponse> acceptReservation(
+            @PathVariable Long showId,
+            @Valid @RequestBody ReservationRequest request,
+            @RequestHeader("Idempotency-Key") String requestId,
+            @RequestHeader("Queue-Token") String queueToken,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user // TODO: 시큐리티 구현 필요
+    ) {
+        QueueTokenResponse qResponse =  enterQueuePort.enterQueue(new QueueTokenRequest(showId, user.getName(),queueToken));
+        if(qResponse.isWaiting())
+            throw new IllegalStateException(String.format("아직 대기 중입니다. 현재 순번: %d", qResponse.position()));
+
+        ReservationSeatCommand cmd = new ReservationSeatCommand(user.getName(), requestId, showId, request.seatIds());
+        ReservationStatusResponse response = reservationAcceptPort.acceptReservation(cmd);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/reservations/requests/" + requestId))
+                .body(response);
+    }
+
+    @Operation(summary = "좌석 예약 처리 상태 조회", description = "비동기로 접수한 예약의 처리 상태(PENDING/SUCCEEDED/FAILED)를 조회한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공",
+                    content = @Content(schema = @Schema(implementation = ReservationStatusResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패",
+                    content = @Content(schema = @Schema(implementation = ApiException.class))),
+            @ApiResponse(responseCode = "404", description = "접수 내역 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/requests/{requestId}")
+    public ResponseEntity<ReservationStatusResponse> getReservationStatus(
+            @PathVariable String requestId,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserPrincipal user
+    ) {
+        return ResponseEntity.ok(reservationAcceptPort.getReservationStatus(user.getName(), requestId));
+    }
+
     @Operation(summary = "내 예약 목록 조회")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공",
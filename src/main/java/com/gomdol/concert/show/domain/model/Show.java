@@ -12,22 +12,28 @@ public class Show {
     private final LocalDateTime showAt;
     private final String concertTitle;
     private final String venue;
+    private final Long venueId;
     private final int capacity;
     private final int reservationCnt;
 
-    private Show(Long id, Long concertId, ShowStatus status, LocalDateTime showAt, String concertTitle, String venue, int capacity, int reservationCnt) {
+    private Show(Long id, Long concertId, ShowStatus status, LocalDateTime showAt, String concertTitle, String venue, Long venueId, int capacity, int reservationCnt) {
         this.id = id;
         this.concertId = concertId;
         this.status = status;
         this.showAt = showAt;
         this.concertTitle = concertTitle;
         this.venue = venue;
+        this.venueId = venueId;
         this.capacity = capacity;
         this.reservationCnt = reservationCnt;
     }
 
     public static Show create(Long id, Long concertId, ShowStatus status, LocalDateTime showAt, String concertTitle, String venue, int capacity, int reservationCnt) {
-        return new Show(id, concertId, status, showAt, concertTitle, venue, capacity, reservationCnt);
+        return new Show(id, concertId, status, showAt, concertTitle, venue, null, capacity, reservationCnt);
+    }
+
+    public static Show create(Long id, Long concertId, ShowStatus status, LocalDateTime showAt, String concertTitle, String venue, Long venueId, int capacity, int reservationCnt) {
+        return new Show(id, concertId, status, showAt, concertTitle, venue, venueId, capacity, reservationCnt);
     }
 
     /**
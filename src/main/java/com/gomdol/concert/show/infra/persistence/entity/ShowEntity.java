@@ -68,6 +68,7 @@ public class ShowEntity extends SoftDeleteEntity {
         Long concertId = entity.getConcert().getId();
         String concertTitle = entity.getConcert().getTitle();
         String venueName = entity.getConcert().getVenue().getName();
+        Long venueId = entity.getConcert().getVenue().getId();
 
         return Show.create(
                 entity.getId(),
@@ -76,6 +77,7 @@ public class ShowEntity extends SoftDeleteEntity {
                 entity.getShowAt(),
                 concertTitle,
                 venueName,
+                venueId,
                 entity.getCapacity(),
                 entity.getReservationCnt()
         );
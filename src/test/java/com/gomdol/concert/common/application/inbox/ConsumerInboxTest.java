@@ -0,0 +1,66 @@
+package com.gomdol.concert.common.application.inbox;
+
+import com.gomdol.concert.common.infra.config.InboxProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsumerInboxTest {
+
+    @Mock
+    private InboxRepository inboxRepository;
+
+    @Test
+    @DisplayName("이미 기록된 메시지는 중복으로 판별된다")
+    void tryReceive_duplicate_returnsFalse() {
+        // given
+        ConsumerInbox inbox = new ConsumerInbox(inboxRepository, new InboxProperties("jdbc", 24, 100));
+        when(inboxRepository.record("point-group", "use-point-command:10")).thenReturn(true, false);
+
+        // when
+        boolean first = inbox.tryReceive("point-group", "use-point-command:10");
+        boolean redelivered = inbox.tryReceive("point-group", "use-point-command:10");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(redelivered).isFalse();
+    }
+
+    @Test
+    @DisplayName("Outbox ID 헤더가 있으면 topic:outboxId, 없으면 topic-partition@offset으로 메시지 ID를 만든다")
+    void messageId_prefersOutboxId() {
+        // when & then
+        assertThat(ConsumerInbox.messageId("use-point-command", 2, 15L, "10".getBytes(StandardCharsets.UTF_8)))
+                .isEqualTo("use-point-command:10");
+        assertThat(ConsumerInbox.messageId("use-point-command", 2, 15L, (byte[]) null))
+                .isEqualTo("use-point-command-2@15");
+        assertThat(ConsumerInbox.messageId("use-point-command", 2, 15L, (Object) "10"))
+                .isEqualTo("use-point-command:10");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록은 청크 크기보다 적게 삭제될 때까지 반복 삭제된다")
+    void purgeExpired_deletesInChunks() {
+        // given
+        ConsumerInbox inbox = new ConsumerInbox(inboxRepository, new InboxProperties("jdbc", 24, 100));
+        when(inboxRepository.deleteReceivedBefore(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 30);
+
+        // when
+        int deleted = inbox.purgeExpired();
+
+        // then
+        assertThat(deleted).isEqualTo(230);
+        verify(inboxRepository, times(3)).deleteReceivedBefore(any(LocalDateTime.class), eq(100));
+    }
+}
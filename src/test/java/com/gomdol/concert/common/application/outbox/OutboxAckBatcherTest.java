@@ -0,0 +1,131 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.domain.outbox.OutboxStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxAckBatcher 테스트")
+class OutboxAckBatcherTest {
+
+    private static final String OWNER = "relay-1";
+
+    @Mock
+    private OutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private OutboxRepository pointOutboxRepository;
+
+    private OutboxAckBatcher ackBatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentOutboxRepository.aggregateType()).thenReturn("PAYMENT");
+        when(pointOutboxRepository.aggregateType()).thenReturn("POINT");
+        // 주기 반영이 테스트 중 끼어들지 않도록 주기를 길게 설정하고 flush()를 직접 호출
+        ackBatcher = new OutboxAckBatcher(List.of(paymentOutboxRepository, pointOutboxRepository), 60_000, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ackBatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("발행 성공 ack는 테이블별로 묶여 한 번의 UPDATE로 반영된다")
+    void 성공_ack는_테이블별_일괄_반영() {
+        // given
+        for (long id = 1; id <= 100; id++) {
+            ackBatcher.published(event(id, "PAYMENT"));
+        }
+        ackBatcher.published(event(101L, "POINT"));
+
+        // when
+        ackBatcher.flush();
+
+        // then
+        verify(paymentOutboxRepository, times(1)).markPublished(argThat(ids -> ids.size() == 100), eq(OWNER), any(LocalDateTime.class));
+        verify(pointOutboxRepository, times(1)).markPublished(eq(List.of(101L)), eq(OWNER), any(LocalDateTime.class));
+        verify(paymentOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("발행 실패 ack는 에러 메시지별로 묶여 반영된다")
+    void 실패_ack는_에러_메시지별_일괄_반영() {
+        // given
+        ackBatcher.failed(event(1L, "PAYMENT"), "timeout");
+        ackBatcher.failed(event(2L, "PAYMENT"), "timeout");
+        ackBatcher.failed(event(3L, "PAYMENT"), "broker down");
+
+        // when
+        ackBatcher.flush();
+
+        // then
+        verify(paymentOutboxRepository).markFailed(List.of(1L, 2L), OWNER, "timeout");
+        verify(paymentOutboxRepository).markFailed(List.of(3L), OWNER, "broker down");
+        verify(paymentOutboxRepository, never()).markPublished(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("반영 대상이 없으면 UPDATE를 실행하지 않는다")
+    void 반영_대상이_없으면_실행하지_않는다() {
+        // when
+        ackBatcher.flush();
+
+        // then
+        verify(paymentOutboxRepository, never()).markPublished(anyList(), any(), any());
+        verify(paymentOutboxRepository, never()).markFailed(anyList(), any(), any());
+    }
+
+    @Test
+    @DisplayName("종료 후 배치 크기를 넘는 ack가 들어와도 Kafka 콜백 스레드로 예외를 던지지 않는다")
+    void 종료_후_ack는_예외_없이_무시() {
+        // given
+        OutboxAckBatcher batcher = new OutboxAckBatcher(List.of(paymentOutboxRepository, pointOutboxRepository), 60_000, 1);
+        batcher.shutdown();
+
+        // when & then
+        assertThatCode(() -> {
+            batcher.published(event(1L, "PAYMENT"));
+            batcher.failed(event(2L, "PAYMENT"), "timeout");
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("선점한 Relay별로 묶여 반영되고, 다른 Relay가 다시 선점한 행이 있어도 예외 없이 반영된 만큼만 처리한다")
+    void owner별_일괄_반영() {
+        // given
+        ackBatcher.failed(event(1L, "PAYMENT"), "timeout");
+        ackBatcher.failed(event(2L, "PAYMENT", "relay-2"), "timeout");
+        when(paymentOutboxRepository.markFailed(List.of(1L), OWNER, "timeout")).thenReturn(0);
+
+        // when & then
+        assertThatCode(() -> ackBatcher.flush()).doesNotThrowAnyException();
+        verify(paymentOutboxRepository).markFailed(List.of(1L), OWNER, "timeout");
+        verify(paymentOutboxRepository).markFailed(List.of(2L), "relay-2", "timeout");
+    }
+
+    private OutboxEvent event(Long id, String aggregateType) {
+        return event(id, aggregateType, OWNER);
+    }
+
+    private OutboxEvent event(Long id, String aggregateType, String owner) {
+        return OutboxEvent.of(id, aggregateType, "1", "Event", "topic", "{}",
+                OutboxStatus.IN_FLIGHT, LocalDateTime.now(), null, 0, null, owner, LocalDateTime.now().plusSeconds(30), null);
+    }
+}
@@ -0,0 +1,137 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxCreatedEvent;
+import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.domain.outbox.OutboxStatus;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxEventPublisher 테스트")
+class OutboxEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxAckBatcher ackBatcher;
+
+    @Mock
+    private OutboxRepository paymentOutboxRepository;
+
+    @Mock
+    private OutboxRepository pointOutboxRepository;
+
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        when(paymentOutboxRepository.aggregateType()).thenReturn("PAYMENT");
+        when(pointOutboxRepository.aggregateType()).thenReturn("POINT");
+        outboxEventPublisher = new OutboxEventPublisher(kafkaTemplate, List.of(paymentOutboxRepository, pointOutboxRepository), eventPublisher, ackBatcher);
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트는 aggregateType에 해당하는 테이블에 저장되고 커밋 후 발행용 이벤트가 발행된다")
+    void Outbox_저장_시_aggregateType으로_라우팅하고_로컬_이벤트를_발행한다() {
+        // given
+        when(pointOutboxRepository.save(any(OutboxEvent.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        OutboxEvent saved = outboxEventPublisher.saveOutboxEvent("POINT", "1", "PointUsedEvent", "point-used-event", Map.of("paymentId", 1));
+
+        // then
+        assertThat(saved.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        verify(pointOutboxRepository).save(any(OutboxEvent.class));
+        verify(paymentOutboxRepository, never()).save(any());
+
+        ArgumentCaptor<OutboxCreatedEvent> captor = ArgumentCaptor.forClass(OutboxCreatedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().outboxEvent()).isSameAs(saved);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 aggregateType이면 예외가 발생한다")
+    void 지원하지_않는_aggregateType이면_예외() {
+        // when & then
+        assertThatThrownBy(() -> outboxEventPublisher.saveOutboxEvent("UNKNOWN", "1", "Event", "topic", Map.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Kafka 전송 실패 시 실패 결과가 일괄 반영 대상으로 적재된다")
+    void Kafka_전송_실패_시_실패_ack_적재() {
+        // given
+        OutboxEvent event = OutboxEvent.of(10L, "PAYMENT", "1", "UsePointCommand", "use-point-command", "{\"paymentId\":1}",
+                OutboxStatus.PENDING, LocalDateTime.now(), null, 0, null);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        // when
+        outboxEventPublisher.publishEvent(event);
+
+        // then
+        verify(ackBatcher).failed(event, "broker down");
+        verify(ackBatcher, never()).published(any());
+        verify(paymentOutboxRepository, never()).save(any());
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, String> record = captor.getValue();
+        assertThat(record.topic()).isEqualTo("use-point-command");
+        assertThat(record.key()).isEqualTo("1");
+        // 저장된 payload를 그대로 전송하고 이벤트 타입은 헤더로 전달
+        assertThat(record.value()).isEqualTo("{\"paymentId\":1}");
+        assertThat(new String(record.headers().lastHeader(OutboxEventPublisher.HEADER_EVENT_TYPE).value(), StandardCharsets.UTF_8))
+                .isEqualTo("UsePointCommand");
+        assertThat(new String(record.headers().lastHeader(OutboxEventPublisher.HEADER_OUTBOX_ID).value(), StandardCharsets.UTF_8))
+                .isEqualTo("10");
+    }
+
+    @Test
+    @DisplayName("Saga 메시지는 sagaId와 Outbox 저장/전송 시각이 헤더로 전달된다")
+    void Saga_헤더_전달() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.now().minusSeconds(1);
+        OutboxEvent event = OutboxEvent.of(11L, "POINT", "user-1", "PointUsedEvent", "point-used", "{\"paymentId\":7}",
+                OutboxStatus.PENDING, createdAt, null, 0, null, null, null, "7");
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+        // when
+        outboxEventPublisher.publishEvent(event);
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, String> record = captor.getValue();
+        assertThat(new String(record.headers().lastHeader(OutboxEventPublisher.HEADER_SAGA_ID).value(), StandardCharsets.UTF_8))
+                .isEqualTo("7");
+        long outboxCreatedAt = Long.parseLong(new String(record.headers().lastHeader(OutboxEventPublisher.HEADER_OUTBOX_CREATED_AT).value(), StandardCharsets.UTF_8));
+        long publishedAt = Long.parseLong(new String(record.headers().lastHeader(OutboxEventPublisher.HEADER_PUBLISHED_AT).value(), StandardCharsets.UTF_8));
+        assertThat(outboxCreatedAt).isEqualTo(createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(publishedAt).isGreaterThanOrEqualTo(outboxCreatedAt);
+    }
+}
@@ -0,0 +1,77 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox payload 직렬화 비용 비교 (단일 스레드 = 코어당 처리량)
+ * - before: 저장된 JSON → Object 역직렬화 → JsonSerializer 재직렬화
+ * - after : 저장된 JSON 문자열을 StringSerializer로 그대로 전송
+ * 실행: BENCHMARK=true ./gradlew test --tests "*OutboxPayloadSerializationBenchmarkTest"
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("Outbox payload 직렬화 벤치마크")
+class OutboxPayloadSerializationBenchmarkTest {
+
+    private static final String TOPIC = "use-point-command";
+    private static final String PAYLOAD = "{\"paymentId\":1024,\"reservationId\":2048,\"userId\":\"8f14e45f-ceea-467f-a0e6-2b5c3e1d9a77\","
+            + "\"amount\":150000,\"requestId\":\"c9f0f895-fb98-4b91-9e6c-1a2b3c4d5e6f\",\"createdAt\":\"2025-01-01T12:00:00\"}";
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 1_000_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("원본 payload 그대로 전송하는 방식이 역직렬화/재직렬화 방식보다 처리량이 높다")
+    void raw_payload_전송_처리량_비교() {
+        // given
+        Serializer<Object> jsonSerializer = new JsonSerializer<>(objectMapper);
+        Serializer<String> stringSerializer = new StringSerializer();
+
+        Function<String, byte[]> before = payload -> {
+            try {
+                return jsonSerializer.serialize(TOPIC, objectMapper.readValue(payload, Object.class));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        };
+        Function<String, byte[]> after = payload -> stringSerializer.serialize(TOPIC, payload);
+
+        // when
+        double beforeOps = measure(before);
+        double afterOps = measure(after);
+
+        // then
+        log.info("[Outbox Benchmark] before(json re-serialize)={} msg/s, after(raw)={} msg/s, x{}",
+                String.format("%,.0f", beforeOps), String.format("%,.0f", afterOps), String.format("%.1f", afterOps / beforeOps));
+        assertThat(afterOps).isGreaterThan(beforeOps);
+    }
+
+    private double measure(Function<String, byte[]> serializer) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += serializer.apply(PAYLOAD).length;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.apply(PAYLOAD).length;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(sink).isPositive(); // JIT가 루프를 제거하지 않도록 결과 사용
+        return ITERATIONS / (elapsed / 1_000_000_000.0);
+    }
+}
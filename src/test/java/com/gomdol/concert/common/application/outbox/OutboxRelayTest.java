@@ -0,0 +1,184 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.domain.outbox.OutboxEvent;
+import com.gomdol.concert.common.domain.outbox.OutboxStatus;
+import com.gomdol.concert.common.infra.config.OutboxRelayProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository pointOutboxRepository;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        when(pointOutboxRepository.aggregateType()).thenReturn("POINT");
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxRelay.shutdown();
+    }
+
+    private OutboxRelay relay(int workerCount, int maxInFlight) {
+        OutboxRelayProperties properties = new OutboxRelayProperties(5000, 60000, 3, 100, 7, 10000, 30000, workerCount, maxInFlight);
+        return new OutboxRelay(List.of(pointOutboxRepository), outboxEventPublisher, properties);
+    }
+
+    @Test
+    @DisplayName("이미 다른 인스턴스가 선점한 이벤트는 즉시 발행하지 않는다")
+    void 선점_실패_시_발행하지_않는다() {
+        // given
+        outboxRelay = relay(2, 10);
+        when(pointOutboxRepository.claim(eq(11L), anyString(), any(LocalDateTime.class))).thenReturn(false);
+
+        // when
+        outboxRelay.dispatch(event(11L, "1"));
+
+        // then
+        verifyNoInteractions(outboxEventPublisher);
+        assertThat(outboxRelay.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 aggregateId의 이벤트는 같은 워커에서 선점 순서대로 발행된다")
+    void 같은_aggregate는_같은_워커에서_순서대로_발행() {
+        // given
+        outboxRelay = relay(4, 100);
+        List<OutboxEvent> claimed = List.of(event(1L, "A"), event(2L, "B"), event(3L, "A"), event(4L, "B"), event(5L, "A"));
+        when(pointOutboxRepository.claimPendingEvents(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), eq(100)))
+                .thenReturn(claimed);
+
+        Map<String, String> threadByAggregate = new ConcurrentHashMap<>();
+        Map<String, List<Long>> orderByAggregate = new ConcurrentHashMap<>();
+        when(outboxEventPublisher.publishEvent(any(OutboxEvent.class))).thenAnswer(inv -> {
+            OutboxEvent e = inv.getArgument(0);
+            String previous = threadByAggregate.putIfAbsent(e.getAggregateId(), Thread.currentThread().getName());
+            if (previous != null)
+                assertThat(previous).isEqualTo(Thread.currentThread().getName());
+            orderByAggregate.computeIfAbsent(e.getAggregateId(), k -> new CopyOnWriteArrayList<>()).add(e.getId());
+            return CompletableFuture.completedFuture(null);
+        });
+
+        // when
+        int relayed = outboxRelay.relayPendingEvents(LocalDateTime.now());
+
+        // then
+        assertThat(relayed).isEqualTo(5);
+        await().untilAsserted(() -> verify(outboxEventPublisher, times(5)).publishEvent(any()));
+        assertThat(orderByAggregate.get("A")).containsExactly(1L, 3L, 5L);
+        assertThat(orderByAggregate.get("B")).containsExactly(2L, 4L);
+        await().untilAsserted(() -> assertThat(outboxRelay.inFlightCount()).isZero());
+    }
+
+    @Test
+    @DisplayName("Kafka ack 대기 건수가 한도에 도달하면 더 이상 선점하지 않는다")
+    void 발행_대기_한도_도달_시_선점_중단() {
+        // given
+        outboxRelay = relay(1, 2);
+        CompletableFuture<Void> pendingAck = new CompletableFuture<>();
+        when(pointOutboxRepository.claimPendingEvents(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(event(1L, "A"), event(2L, "B")));
+        when(outboxEventPublisher.publishEvent(any(OutboxEvent.class))).thenReturn(pendingAck);
+
+        // when
+        outboxRelay.relayPendingEvents(LocalDateTime.now());
+        outboxRelay.relayPendingEvents(LocalDateTime.now());
+
+        // then - ack를 받기 전까지는 추가 선점 없음
+        verify(pointOutboxRepository, times(1)).claimPendingEvents(anyString(), any(), any(), anyInt());
+        assertThat(outboxRelay.inFlightCount()).isEqualTo(2);
+
+        pendingAck.complete(null);
+        await().untilAsserted(() -> assertThat(outboxRelay.inFlightCount()).isZero());
+    }
+
+    @Test
+    @DisplayName("선점 전에 확보한 발행 여유 중 선점하지 못한 만큼은 즉시 반환한다")
+    void 선점하지_못한_만큼_발행_여유_반환() {
+        // given
+        outboxRelay = relay(1, 5);
+        CompletableFuture<Void> pendingAck = new CompletableFuture<>();
+        when(pointOutboxRepository.claimPendingEvents(anyString(), any(LocalDateTime.class), any(LocalDateTime.class), eq(5)))
+                .thenReturn(List.of(event(1L, "A"), event(2L, "B")));
+        when(outboxEventPublisher.publishEvent(any(OutboxEvent.class))).thenReturn(pendingAck);
+
+        // when
+        int relayed = outboxRelay.relayPendingEvents(LocalDateTime.now());
+
+        // then - ack 대기 중인 2건만 발행 여유를 점유
+        assertThat(relayed).isEqualTo(2);
+        await().untilAsserted(() -> verify(outboxEventPublisher, times(2)).publishEvent(any()));
+        assertThat(outboxRelay.inFlightCount()).isEqualTo(2);
+
+        pendingAck.complete(null);
+        await().untilAsserted(() -> assertThat(outboxRelay.inFlightCount()).isZero());
+    }
+
+    @Test
+    @DisplayName("선점 쿼리가 실패하면 확보한 발행 여유를 모두 반환한다")
+    void 선점_실패_시_발행_여유_반환() {
+        // given
+        outboxRelay = relay(1, 5);
+        when(pointOutboxRepository.claimFailedEvents(anyString(), anyInt(), any(LocalDateTime.class), anyInt()))
+                .thenThrow(new IllegalStateException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> outboxRelay.retryFailedEvents())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(outboxRelay.inFlightCount()).isZero();
+        verifyNoInteractions(outboxEventPublisher);
+    }
+
+    @Test
+    @DisplayName("FAILED 이벤트는 선점에 성공한 것만 재발행하고 발행 여유만큼만 선점한다")
+    void 실패_이벤트는_선점한_것만_재발행() {
+        // given
+        outboxRelay = relay(1, 2);
+        when(pointOutboxRepository.claimFailedEvents(anyString(), eq(3), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(event(7L, "A")));
+        when(outboxEventPublisher.publishEvent(any(OutboxEvent.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int retried = outboxRelay.retryFailedEvents();
+
+        // then
+        assertThat(retried).isEqualTo(1);
+        await().untilAsserted(() -> verify(outboxEventPublisher).publishEvent(argThat(e -> e.getId() == 7L)));
+        await().untilAsserted(() -> assertThat(outboxRelay.inFlightCount()).isZero());
+    }
+
+    private OutboxEvent event(Long id, String aggregateId) {
+        return OutboxEvent.of(id, "POINT", aggregateId, "PointUsedEvent", "point-used-event", "{}",
+                OutboxStatus.IN_FLIGHT, LocalDateTime.now(), null, 0, null);
+    }
+}
@@ -0,0 +1,119 @@
+package com.gomdol.concert.common.application.outbox;
+
+import com.gomdol.concert.common.infra.config.OutboxRelayProperties;
+import com.gomdol.concert.common.infra.config.OutboxRetentionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRetention 테스트")
+class OutboxRetentionTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxPartitionRepository partitionRepository;
+
+    @Mock
+    private ObjectProvider<OutboxPartitionRepository> partitionRepositoryProvider;
+
+    private final OutboxRelayProperties relayProperties = new OutboxRelayProperties(5000, 60000, 3, 100, 7, 10000, 30000, 4, 1000);
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(outboxRepository.aggregateType()).thenReturn("POINT");
+    }
+
+    private OutboxRetention retention(boolean partitionDropEnabled, OutboxPartitionRepository partitions) {
+        when(partitionRepositoryProvider.getIfAvailable()).thenReturn(partitions);
+        return new OutboxRetention(List.of(outboxRepository), partitionRepositoryProvider, relayProperties,
+                new OutboxRetentionProperties(1000, 0, partitionDropEnabled, 3));
+    }
+
+    @Test
+    @DisplayName("threshold 이전 id 구간을 chunkSize 단위 범위로 나눠 삭제한다")
+    void id_범위_청크_단위로_삭제() {
+        // given
+        OutboxRetention retention = retention(false, null);
+        when(outboxRepository.findMaxIdCreatedBefore(any(LocalDateTime.class))).thenReturn(Optional.of(2500L));
+        when(outboxRepository.findMinPublishedId()).thenReturn(Optional.of(1L));
+        when(outboxRepository.deletePublishedInIdRange(anyLong(), anyLong())).thenReturn(1000, 1000, 500);
+
+        // when
+        int deleted = retention.purgeAll();
+
+        // then
+        assertThat(deleted).isEqualTo(2500);
+        InOrder inOrder = inOrder(outboxRepository);
+        inOrder.verify(outboxRepository).deletePublishedInIdRange(1L, 1001L);
+        inOrder.verify(outboxRepository).deletePublishedInIdRange(1001L, 2001L);
+        inOrder.verify(outboxRepository).deletePublishedInIdRange(2001L, 2501L);
+        verify(outboxRepository, times(3)).deletePublishedInIdRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("삭제 구간은 가장 작은 PUBLISHED id부터 시작한다 (남아 있는 FAILED/PENDING 행 구간은 다시 훑지 않음)")
+    void PUBLISHED_최소_id부터_삭제() {
+        // given
+        OutboxRetention retention = retention(false, null);
+        when(outboxRepository.findMaxIdCreatedBefore(any(LocalDateTime.class))).thenReturn(Optional.of(100_500L));
+        when(outboxRepository.findMinPublishedId()).thenReturn(Optional.of(100_000L));
+        when(outboxRepository.deletePublishedInIdRange(anyLong(), anyLong())).thenReturn(501);
+
+        // when
+        int deleted = retention.purgeAll();
+
+        // then
+        assertThat(deleted).isEqualTo(501);
+        verify(outboxRepository).deletePublishedInIdRange(100_000L, 100_501L);
+        verify(outboxRepository, times(1)).deletePublishedInIdRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 이벤트가 없으면 삭제하지 않는다")
+    void 대상이_없으면_삭제하지_않는다() {
+        // given
+        OutboxRetention retention = retention(false, null);
+        when(outboxRepository.findMaxIdCreatedBefore(any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // when
+        int deleted = retention.purgeAll();
+
+        // then
+        assertThat(deleted).isZero();
+        verify(outboxRepository, never()).deletePublishedInIdRange(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("파티션 삭제가 활성화되면 오래된 파티션을 먼저 삭제하고 미래 파티션을 생성한다")
+    void 파티션_삭제_활성화_시_파티션_회전() {
+        // given
+        OutboxRetention retention = retention(true, partitionRepository);
+        when(partitionRepository.dropPartitionsBefore("POINT", LocalDate.now().minusDays(7))).thenReturn(2);
+        when(outboxRepository.findMaxIdCreatedBefore(any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // when
+        retention.purgeAll();
+
+        // then
+        verify(partitionRepository).dropPartitionsBefore("POINT", LocalDate.now().minusDays(7));
+        verify(partitionRepository).createPartitionsUntil("POINT", LocalDate.now().plusDays(3));
+    }
+}
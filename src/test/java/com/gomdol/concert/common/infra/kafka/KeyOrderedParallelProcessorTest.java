@@ -0,0 +1,137 @@
+package com.gomdol.concert.common.infra.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyOrderedParallelProcessorTest {
+
+    private final KeyOrderedParallelProcessor processor = new KeyOrderedParallelProcessor(4);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        processor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키는 offset 순서대로, 다른 키는 동시에 처리된다")
+    void process_keepsOrderPerKeyAndRunsKeysConcurrently() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "a", "a1"), record(1, "b", "b1"), record(2, "a", "a2"),
+                record(3, "b", "b2"), record(4, "a", "a3"));
+        Map<String, List<String>> processed = new ConcurrentHashMap<>();
+        CountDownLatch bothKeysStarted = new CountDownLatch(2);
+
+        // when
+        processor.process(records, r -> {
+            if (processed.computeIfAbsent(r.key(), k -> new CopyOnWriteArrayList<>()).isEmpty())
+                bothKeysStarted.countDown();
+            processed.get(r.key()).add(r.value());
+            await(bothKeysStarted);  // 다른 키가 동시에 실행되지 않으면 타임아웃
+        });
+
+        // then
+        assertThat(bothKeysStarted.getCount()).isZero();
+        assertThat(processed.get("a")).containsExactly("a1", "a2", "a3");
+        assertThat(processed.get("b")).containsExactly("b1", "b2");
+    }
+
+    @Test
+    @DisplayName("실패한 키의 이후 레코드는 처리하지 않고 가장 앞선 실패 index로 예외가 발생한다")
+    void process_failure_stopsKeyAndReportsFirstIndex() {
+        // given
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "a", "a1"), record(1, "b", "fail"), record(2, "a", "a2"), record(3, "b", "b2"));
+        List<String> processed = new CopyOnWriteArrayList<>();
+
+        // when & then
+        assertThatThrownBy(() -> processor.process(records, r -> {
+            if (r.value().equals("fail"))
+                throw new IllegalStateException("boom");
+            processed.add(r.value());
+        }))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        assertThat(processed).containsExactlyInAnyOrder("a1", "a2");
+    }
+
+    @Test
+    @DisplayName("실패 index 이후에 이미 처리된 레코드는 재전달 시 건너뛴다")
+    void process_redelivery_skipsRecordsCompletedAhead() {
+        // given
+        List<ConsumerRecord<String, String>> first = List.of(
+                record(0, "a", "fail"), record(1, "b", "b1"), record(2, "a", "a2"));
+        List<String> processed = new CopyOnWriteArrayList<>();
+        assertThatThrownBy(() -> processor.process(first, r -> {
+            if (r.value().equals("fail"))
+                throw new IllegalStateException("boom");
+            processed.add(r.value());
+        })).isInstanceOf(BatchListenerFailedException.class);
+
+        // when - 실패 레코드부터 재전달
+        List<ConsumerRecord<String, String>> redelivered = List.of(
+                record(0, "a", "a1"), record(1, "b", "b1"), record(2, "a", "a2"));
+        processor.process(redelivered, r -> processed.add(r.value()));
+
+        // then
+        assertThat(processed).containsExactly("b1", "a1", "a2");
+    }
+
+    @Test
+    @DisplayName("파티션이 회수되거나 이후 배치가 커밋된 offset을 지나면 건너뜀 기록을 삭제한다")
+    void completedAhead_clearedOnRevokeAndCommittedOffset() {
+        // given - offset 1, 2 처리 후 offset 0 실패
+        List<ConsumerRecord<String, String>> first = List.of(
+                record(0, "a", "fail"), record(1, "b", "b1"), record(2, "c", "c1"));
+        assertThatThrownBy(() -> processor.process(first, r -> {
+            if (r.value().equals("fail"))
+                throw new IllegalStateException("boom");
+        })).isInstanceOf(BatchListenerFailedException.class);
+        assertThat(processor.completedAheadSize()).isEqualTo(2);
+
+        // when - 파티션 회수
+        processor.onPartitionsRevoked(List.of(new TopicPartition("topic", 0)));
+
+        // then
+        assertThat(processor.completedAheadSize()).isZero();
+
+        // given - 다시 기록이 남은 상태에서
+        assertThatThrownBy(() -> processor.process(first, r -> {
+            if (r.value().equals("fail"))
+                throw new IllegalStateException("boom");
+        })).isInstanceOf(BatchListenerFailedException.class);
+
+        // when - 다른 인스턴스가 커밋해 이후 offset부터 전달받음
+        List<String> processed = new CopyOnWriteArrayList<>();
+        processor.process(List.of(record(5, "a", "a5")), r -> processed.add(r.value()));
+
+        // then
+        assertThat(processed).containsExactly("a5");
+        assertThat(processor.completedAheadSize()).isZero();
+    }
+
+    private static ConsumerRecord<String, String> record(long offset, String key, String value) {
+        return new ConsumerRecord<>("topic", 0, offset, key, value);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
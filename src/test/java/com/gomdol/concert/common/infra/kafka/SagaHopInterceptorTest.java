@@ -0,0 +1,73 @@
+package com.gomdol.concert.common.infra.kafka;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.gomdol.concert.common.application.outbox.OutboxEventPublisher.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaHopInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SagaHopInterceptor interceptor = new SagaHopInterceptor(new SagaHopMetrics(registry));
+
+    @Test
+    @DisplayName("Outbox 헤더가 있는 메시지는 outbox/broker/handler/total 구간이 모두 기록된다")
+    void intercept_recordsAllHops() {
+        // given
+        long now = System.currentTimeMillis();
+        ConsumerRecord<String, Object> record = record("point-used");
+        header(record, HEADER_SAGA_ID, "1");
+        header(record, HEADER_OUTBOX_CREATED_AT, Long.toString(now - 300));
+        header(record, HEADER_PUBLISHED_AT, Long.toString(now - 100));
+
+        // when
+        interceptor.intercept(record, null);
+        interceptor.success(record, null);
+        interceptor.afterRecord(record, null);
+
+        // then
+        assertThat(timer("outbox", "none").totalTime(TimeUnit.MILLISECONDS)).isEqualTo(200);
+        assertThat(timer("broker", "none").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(100);
+        assertThat(timer("handler", "success").count()).isEqualTo(1);
+        assertThat(timer("total", "success").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("Outbox 헤더가 없는 메시지는 broker/handler 구간만 기록되고 실패는 failure로 집계된다")
+    void intercept_withoutHeaders_recordsBrokerAndHandlerOnly() {
+        // given
+        ConsumerRecord<String, Object> record = record("point-used");
+
+        // when
+        interceptor.intercept(record, null);
+        interceptor.failure(record, new IllegalStateException("boom"), null);
+        interceptor.afterRecord(record, null);
+
+        // then
+        assertThat(registry.find(SagaHopMetrics.METRIC_NAME).tag("hop", "outbox").timer()).isNull();
+        assertThat(registry.find(SagaHopMetrics.METRIC_NAME).tag("hop", "total").timer()).isNull();
+        assertThat(timer("broker", "none").count()).isEqualTo(1);
+        assertThat(timer("handler", "failure").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String hop, String outcome) {
+        return registry.get(SagaHopMetrics.METRIC_NAME)
+                .tag("hop", hop).tag("topic", "point-used").tag("outcome", outcome)
+                .timer();
+    }
+
+    private static ConsumerRecord<String, Object> record(String topic) {
+        return new ConsumerRecord<>(topic, 0, 0L, "key", "value");
+    }
+
+    private static void header(ConsumerRecord<String, Object> record, String name, String value) {
+        record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+}
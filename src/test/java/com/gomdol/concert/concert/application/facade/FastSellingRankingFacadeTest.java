@@ -0,0 +1,108 @@
+package com.gomdol.concert.concert.application.facade;
+
+import com.gomdol.concert.concert.application.port.in.GetFastSellingRankingPort;
+import com.gomdol.concert.concert.domain.model.FastSellingConcert;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.IntStream;
+
+import static com.gomdol.concert.concert.application.facade.FastSellingRankingFacade.MAX_TOP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FastSellingRankingFacadeTest {
+
+    private static final long TTL = 1000L;
+
+    @Mock
+    private GetFastSellingRankingPort getFastSellingRankingPort;
+
+    @Mock
+    private Clock clock;
+
+    private FastSellingRankingFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        facade = new FastSellingRankingFacade(getFastSellingRankingPort, clock, TTL);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 상위 50개를 한 번만 조회하고 요청 개수만큼 잘라서 반환한다")
+    void getTopRanking_cachedWithinTtl() {
+        // given
+        when(clock.millis()).thenReturn(0L, 500L, 999L);
+        when(getFastSellingRankingPort.getTopRanking(MAX_TOP)).thenReturn(rankings(5));
+
+        // when
+        List<FastSellingConcert> top3 = facade.getTopRanking(3);
+        List<FastSellingConcert> top10 = facade.getTopRanking(10);
+
+        // then
+        assertThat(top3).extracting(FastSellingConcert::getConcertId).containsExactly(1L, 2L, 3L);
+        assertThat(top10).hasSize(5);
+        verify(getFastSellingRankingPort, times(1)).getTopRanking(MAX_TOP);
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 목록을 반환하고 TTL 동안 재조회하지 않는다")
+    void getTopRanking_serveStaleOnError() {
+        // given
+        when(clock.millis()).thenReturn(0L, 1000L, 1000L, 1500L);
+        when(getFastSellingRankingPort.getTopRanking(MAX_TOP))
+                .thenReturn(rankings(3))
+                .thenThrow(new IllegalStateException("Redis connection failed"));
+        facade.getTopRanking(10);
+
+        // when
+        List<FastSellingConcert> afterFailure = facade.getTopRanking(10);
+        List<FastSellingConcert> withinBackoff = facade.getTopRanking(10);
+
+        // then
+        assertThat(afterFailure).hasSize(3);
+        assertThat(withinBackoff).hasSize(3);
+        verify(getFastSellingRankingPort, times(2)).getTopRanking(MAX_TOP);
+    }
+
+    @Test
+    @DisplayName("동시에 최초 조회가 몰려도 저장소 조회는 한 번만 실행된다")
+    void getTopRanking_singleFlight() throws Exception {
+        // given
+        when(clock.millis()).thenReturn(0L);
+        CountDownLatch loading = new CountDownLatch(1);
+        when(getFastSellingRankingPort.getTopRanking(MAX_TOP)).thenAnswer(inv -> {
+            loading.await(5, TimeUnit.SECONDS);
+            return rankings(3);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<List<FastSellingConcert>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+            futures.add(executor.submit(() -> facade.getTopRanking(10)));
+        Thread.sleep(100);
+        loading.countDown();
+
+        // then
+        for (Future<List<FastSellingConcert>> future : futures)
+            assertThat(future.get(5, TimeUnit.SECONDS)).hasSize(3);
+        verify(getFastSellingRankingPort, times(1)).getTopRanking(MAX_TOP);
+        executor.shutdown();
+    }
+
+    private static List<FastSellingConcert> rankings(int size) {
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(i -> FastSellingConcert.of((long) i, "콘서트" + i, 1000, 500, 10).withRank(i))
+                .toList();
+    }
+}
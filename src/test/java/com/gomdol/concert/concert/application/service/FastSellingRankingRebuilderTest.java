@@ -0,0 +1,121 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.RankingRebuildProperties;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository.RestoredConcert;
+import com.gomdol.concert.concert.application.port.out.RankingSourceRepository;
+import com.gomdol.concert.concert.application.port.out.RankingSourceRepository.ConfirmedSeat;
+import com.gomdol.concert.concert.application.port.out.RankingSourceRepository.ShowCapacity;
+import com.gomdol.concert.concert.application.service.FastSellingRankingRebuilder.RebuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FastSellingRankingRebuilderTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 30);
+    private static final long NOW_MINUTE = NOW.toEpochSecond(ZoneOffset.UTC) / 60;
+
+    @Mock
+    private RankingSourceRepository sourceRepository;
+
+    @Mock
+    private FastSellingRankingRepository rankingRepository;
+
+    @Mock
+    private FastSellingRankingRescorer rescorer;
+
+    private FastSellingRankingRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        rebuilder = new FastSellingRankingRebuilder(sourceRepository, rankingRepository, rescorer, new RankingRebuildProperties(true, 500), clock);
+    }
+
+    @Test
+    @DisplayName("공연 정원과 확정 좌석을 콘서트 단위로 집계해 최근 1시간 판매가 있는 콘서트만 적재한다")
+    void rebuild_aggregatesPerConcert() {
+        // given
+        streamShows(
+                new ShowCapacity(10L, 1L, "콘서트A", 100),
+                new ShowCapacity(11L, 1L, "콘서트A", 100),
+                new ShowCapacity(20L, 2L, "콘서트B", 50));
+        streamSeats(
+                new ConfirmedSeat(1L, 10L, NOW.minusMinutes(5)),   // 예약 1 (좌석 2개) → 1건
+                new ConfirmedSeat(1L, 10L, NOW.minusMinutes(5)),
+                new ConfirmedSeat(2L, 11L, NOW.minusMinutes(5)),   // 같은 분, 다른 공연 → 2건
+                new ConfirmedSeat(3L, 11L, NOW.minusMinutes(59)),
+                new ConfirmedSeat(4L, 10L, NOW.minusMinutes(60)),  // 윈도우 밖 → 예약 좌석 수에만 반영
+                new ConfirmedSeat(5L, 20L, NOW.minusHours(3)),     // 최근 판매 없는 콘서트 → 적재 제외
+                new ConfirmedSeat(6L, 99L, NOW));                  // 삭제된 공연 → 무시
+
+        // when
+        RebuildResult result = rebuilder.rebuild();
+
+        // then
+        assertThat(result.concerts()).isEqualTo(1);
+        assertThat(result.confirmedSeats()).isEqualTo(6);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<RestoredConcert>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rankingRepository).restoreConcerts(captor.capture());
+        RestoredConcert restored = captor.getValue().get(0);
+        assertThat(restored.concertId()).isEqualTo(1L);
+        assertThat(restored.totalSeats()).isEqualTo(200);
+        assertThat(restored.reservedSeats()).isEqualTo(5);
+        assertThat(restored.minuteSales()).containsExactlyInAnyOrderEntriesOf(Map.of(NOW_MINUTE - 5, 2, NOW_MINUTE - 59, 1));
+        assertThat(restored.score()).isCloseTo(2.5 + 3 * 10, within(0.0001));  // 판매율 2.5% + 판매속도(3) * 10
+        verify(rescorer).rescoreAll();
+    }
+
+    @Test
+    @DisplayName("랭킹 데이터가 남아 있으면 기동 warm-up 재구성을 생략한다")
+    void rebuildIfEmpty_skipsWhenRankingExists() {
+        // given
+        when(rankingRepository.getAllConcertScores()).thenReturn(Map.of(1L, 100.0));
+
+        // when
+        RebuildResult result = rebuilder.rebuildIfEmpty();
+
+        // then
+        assertThat(result.concerts()).isZero();
+        verifyNoInteractions(sourceRepository, rescorer);
+        verify(rankingRepository, never()).restoreConcerts(any());
+    }
+
+    private void streamShows(ShowCapacity... shows) {
+        doAnswer(inv -> {
+            Consumer<ShowCapacity> consumer = inv.getArgument(0);
+            for (ShowCapacity show : shows)
+                consumer.accept(show);
+            return null;
+        }).when(sourceRepository).streamShowCapacities(any());
+    }
+
+    private void streamSeats(ConfirmedSeat... seats) {
+        doAnswer(inv -> {
+            Consumer<ConfirmedSeat> consumer = inv.getArgument(0);
+            for (ConfirmedSeat seat : seats)
+                consumer.accept(seat);
+            return null;
+        }).when(sourceRepository).streamConfirmedSeats(any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.RankingRescoreProperties;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository.ConcertStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FastSellingRankingRescorerTest {
+
+    @Mock
+    private FastSellingRankingRepository rankingRepository;
+
+    private FastSellingRankingRescorer rescorer;
+
+    @BeforeEach
+    void setUp() {
+        rescorer = new FastSellingRankingRescorer(rankingRepository, new RankingRescoreProperties(10000, 2, 15));
+    }
+
+    @Test
+    @DisplayName("감쇠 판매량으로 점수를 다시 계산하고 바뀐 점수와 통계가 만료된 콘서트만 반영한다")
+    void rescoreAll_updatesChangedScoresAndRemovesStale() {
+        // given
+        Map<Long, Double> current = new LinkedHashMap<>();
+        current.put(1L, 250.0);   // 판매율 50% + 판매속도 20 * 10 → 감쇠 후 5 → 100
+        current.put(2L, 80.0);    // 판매율 80% + 0 → 변경 없음
+        current.put(3L, 300.0);   // 통계 만료
+        when(rankingRepository.getAllConcertScores()).thenReturn(current);
+        when(rankingRepository.getConcertStats(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ConcertStats("콘서트A", 1000, 500, 20),
+                2L, new ConcertStats("콘서트B", 1000, 800, 0)));
+        when(rankingRepository.getDecayedSales(List.of(1L, 2L), 15)).thenReturn(Map.of(1L, 5.0, 2L, 0.0));
+        when(rankingRepository.getConcertStats(List.of(3L))).thenReturn(Map.of(3L, new ConcertStats("", 0, 0, 0)));
+        when(rankingRepository.getDecayedSales(List.of(3L), 15)).thenReturn(Map.of(3L, 0.0));
+
+        // when
+        int changed = rescorer.rescoreAll();
+
+        // then
+        assertThat(changed).isEqualTo(2);
+        verify(rankingRepository).rescoreConcerts(Map.of(1L, 100.0), List.of());
+        verify(rankingRepository).rescoreConcerts(Map.of(), List.of(3L));
+    }
+
+    @Test
+    @DisplayName("한 배치의 조회가 실패해도 나머지 배치는 재계산한다")
+    void rescoreAll_batchFailure_continuesWithNextBatch() {
+        // given
+        Map<Long, Double> current = new LinkedHashMap<>();
+        current.put(1L, 100.0);
+        current.put(2L, 100.0);
+        current.put(3L, 100.0);
+        when(rankingRepository.getAllConcertScores()).thenReturn(current);
+        when(rankingRepository.getConcertStats(List.of(1L, 2L))).thenReturn(Map.of(
+                1L, new ConcertStats("콘서트A", 1000, 500, 0),
+                2L, new ConcertStats("콘서트B", 1000, 500, 0)));
+        when(rankingRepository.getDecayedSales(List.of(1L, 2L), 15)).thenThrow(new IllegalStateException("redis down"));
+        when(rankingRepository.getConcertStats(List.of(3L))).thenReturn(Map.of(3L, new ConcertStats("콘서트C", 1000, 500, 0)));
+        when(rankingRepository.getDecayedSales(List.of(3L), 15)).thenReturn(Map.of(3L, 1.0));
+
+        // when
+        int changed = rescorer.rescoreAll();
+
+        // then
+        assertThat(changed).isEqualTo(1);
+        verify(rankingRepository, times(1)).rescoreConcerts(anyMap(), anyList());
+        verify(rankingRepository).rescoreConcerts(Map.of(3L, 60.0), List.of());
+    }
+
+    @Test
+    @DisplayName("통계 조회 실패(빈 결과)면 제거하지 않고 다음 주기로 넘긴다")
+    void rescoreAll_statsUnavailable_skipsBatch() {
+        // given
+        when(rankingRepository.getAllConcertScores()).thenReturn(Map.of(1L, 100.0));
+        when(rankingRepository.getConcertStats(List.of(1L))).thenReturn(Map.of());
+
+        // when
+        int changed = rescorer.rescoreAll();
+
+        // then
+        assertThat(changed).isZero();
+        verify(rankingRepository, never()).rescoreConcerts(anyMap(), anyList());
+    }
+}
@@ -8,6 +8,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -88,6 +92,23 @@ class FastSellingRankingServiceTest {
         verify(rankingRepository, times(1)).updateConcertScore(5L, 1030.0);
     }
 
+    @Test
+    @DisplayName("감쇠 반감기가 설정되면 감쇠 판매량으로 점수를 계산한다")
+    void decayedSalesSpeed() {
+        // given
+        ReflectionTestUtils.setField(rankingService, "halfLifeMinutes", 15.0);
+        RankingUpdateRequestedEvent event = RankingUpdateRequestedEvent.of(1L, 5L, "감쇠 콘서트", 1000, 500, 2);
+        when(rankingRepository.getDecayedSales(List.of(5L), 15.0)).thenReturn(Map.of(5L, 12.5));
+
+        // when
+        rankingService.rankingUpdate(event);
+
+        // then
+        // 판매율 50% + 감쇠 판매속도(12.5) * 10 = 175
+        verify(rankingRepository, times(1)).updateConcertScore(5L, 175.0);
+        verify(rankingRepository, never()).getLastHourSales(anyLong());
+    }
+
     @Test
     @DisplayName("Repository 예외가 발생해도 서비스는 예외를 전파하지 않는다")
     void handleRepositoryException() {
@@ -0,0 +1,78 @@
+package com.gomdol.concert.concert.application.service;
+
+import com.gomdol.concert.common.infra.config.LeaderboardProperties;
+import com.gomdol.concert.common.infra.config.LeaderboardProperties.Window;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository;
+import com.gomdol.concert.concert.domain.event.RankingUpdateRequestedEvent;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    private static final Window FIVE_MINUTES = new Window("5m", Duration.ofMinutes(5), Duration.ofMinutes(1));
+    private static final Window ONE_HOUR = new Window("1h", Duration.ofHours(1), Duration.ofMinutes(1));
+
+    @Mock
+    private LeaderboardRepository leaderboardRepository;
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        LeaderboardProperties properties = new LeaderboardProperties(
+                List.of(LeaderboardDimension.CONCERT, LeaderboardDimension.SHOW, LeaderboardDimension.VENUE),
+                List.of(FIVE_MINUTES, ONE_HOUR));
+        leaderboardService = new LeaderboardService(leaderboardRepository, properties);
+    }
+
+    @Test
+    @DisplayName("판매 1건을 설정된 모든 기준과 기간에 한 번의 호출로 반영한다")
+    void recordSale_fansOutInSingleCall() {
+        // given
+        RankingUpdateRequestedEvent event = RankingUpdateRequestedEvent.of(1L, 5L, 50L, 7L, "콘서트", 1000, 500, 3);
+
+        // when
+        leaderboardService.recordSale(event);
+
+        // then
+        verify(leaderboardRepository, times(1)).recordSale(
+                Map.of(LeaderboardDimension.CONCERT, 5L, LeaderboardDimension.SHOW, 50L, LeaderboardDimension.VENUE, 7L),
+                List.of(FIVE_MINUTES, ONE_HOUR), 3);
+    }
+
+    @Test
+    @DisplayName("공연/공연장 정보가 없는 이벤트는 콘서트 보드에만 반영한다")
+    void recordSale_skipsMissingDimensions() {
+        // given
+        RankingUpdateRequestedEvent event = RankingUpdateRequestedEvent.of(1L, 5L, "콘서트", 1000, 500, 2);
+
+        // when
+        leaderboardService.recordSale(event);
+
+        // then
+        verify(leaderboardRepository).recordSale(Map.of(LeaderboardDimension.CONCERT, 5L), List.of(FIVE_MINUTES, ONE_HOUR), 2);
+    }
+
+    @Test
+    @DisplayName("설정되지 않은 기간은 조회할 수 없다")
+    void getTop_unknownWindow_throws() {
+        // when & then
+        assertThatThrownBy(() -> leaderboardService.getTop(LeaderboardDimension.SHOW, "7d", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(leaderboardRepository, never()).getTop(any(), any(), anyInt());
+    }
+}
@@ -0,0 +1,107 @@
+package com.gomdol.concert.concert.infra.cache;
+
+import com.gomdol.concert.common.TestContainerConfig;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository;
+import com.gomdol.concert.concert.application.port.out.FastSellingRankingRepository.ConcertStats;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상위 N개 콘서트 통계 조회 지연 비교 (N에 따른 변화)
+ * - before: 콘서트마다 HGETALL + 판매량 스크립트 → 2N RTT
+ * - after : 배치 Lua 스크립트 한 번 → 1 RTT
+ * 실행: BENCHMARK=true ./gradlew test --tests "*ConcertStatsBatchBenchmarkTest"
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestContainerConfig.class)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+@DisplayName("콘서트 통계 배치 조회 벤치마크")
+class ConcertStatsBatchBenchmarkTest {
+
+    private static final int[] SIZES = {1, 10, 50, 100};
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Autowired
+    private FastSellingRankingRepository rankingRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Test
+    @DisplayName("배치 조회는 N이 커져도 지연이 거의 늘지 않고 N>1에서 건별 조회보다 빠르다")
+    void 통계_조회_지연_비교() {
+        // given
+        redisTemplate.keys("*").forEach(key -> redisTemplate.delete(key));
+        List<Long> allIds = LongStream.rangeClosed(1, SIZES[SIZES.length - 1]).boxed().toList();
+        allIds.forEach(id -> {
+            rankingRepository.saveConcertStats(id, "콘서트" + id, 1000, 500);
+            rankingRepository.incrementHourlySales(id);
+        });
+
+        for (int n : SIZES) {
+            List<Long> ids = allIds.subList(0, n);
+
+            // when
+            double beforeMicros = measure(ids, this::sequentialStats);
+            double afterMicros = measure(ids, rankingRepository::getConcertStats);
+
+            // then
+            log.info("[Stats Benchmark] N={} before(per-id)={} us, after(batch)={} us, x{}",
+                    n, String.format("%.1f", beforeMicros), String.format("%.1f", afterMicros), String.format("%.1f", beforeMicros / afterMicros));
+            assertThat(rankingRepository.getConcertStats(ids)).isEqualTo(sequentialStats(ids));
+            if (n > 1)
+                assertThat(afterMicros).isLessThan(beforeMicros);
+        }
+    }
+
+    /**
+     * 변경 전 방식: 콘서트마다 통계 Hash 조회 + 최근 판매량 스크립트 호출
+     */
+    private Map<Long, ConcertStats> sequentialStats(List<Long> ids) {
+        return ids.stream().collect(Collectors.toMap(id -> id, id -> {
+            Map<Object, Object> stats = redisTemplate.opsForHash().entries("concert:{concerts}:stats:" + id);
+            return new ConcertStats(
+                    stats.getOrDefault("concertTitle", "").toString(),
+                    Integer.parseInt(stats.getOrDefault("totalSeats", "0").toString()),
+                    Integer.parseInt(stats.getOrDefault("reservedSeats", "0").toString()),
+                    rankingRepository.getLastHourSales(id));
+        }));
+    }
+
+    /**
+     * 호출당 평균 지연 (마이크로초)
+     */
+    private double measure(List<Long> ids, Function<List<Long>, Map<Long, ConcertStats>> fetcher) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += fetcher.apply(ids).size();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += fetcher.apply(ids).size();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(sink).isPositive(); // JIT가 루프를 제거하지 않도록 결과 사용
+        return elapsed / 1_000.0 / ITERATIONS;
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -17,6 +18,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @Slf4j
 @SpringBootTest
@@ -215,6 +217,26 @@ class RedisFastSellingRankingRepositoryTest {
         assertThat(concertStats.reservedSeats()).isZero();
     }
 
+    @Test
+    @DisplayName("통계가 있는 콘서트와 없는 콘서트를 한 번에 조회하면 요청 순서대로 판매량과 함께 반환한다")
+    void getConcertStats_MixedWithSales() {
+        // given
+        rankingRepository.saveConcertStats(1L, "콘서트A", 1000, 500);
+        rankingRepository.saveConcertStats(3L, "콘서트C", 500, 450);
+        rankingRepository.incrementHourlySales(1L);
+        rankingRepository.incrementHourlySales(1L);
+        rankingRepository.incrementHourlySales(2L);  // 통계 없는 콘서트의 판매량은 반영하지 않음
+
+        // when
+        Map<Long,FastSellingRankingRepository.ConcertStats> stats = rankingRepository.getConcertStats(List.of(3L, 2L, 1L));
+
+        // then
+        assertThat(stats.keySet()).containsExactly(3L, 2L, 1L);
+        assertThat(stats.get(1L)).isEqualTo(new FastSellingRankingRepository.ConcertStats("콘서트A", 1000, 500, 2));
+        assertThat(stats.get(2L)).isEqualTo(new FastSellingRankingRepository.ConcertStats("", 0, 0, 0));
+        assertThat(stats.get(3L)).isEqualTo(new FastSellingRankingRepository.ConcertStats("콘서트C", 500, 450, 0));
+    }
+
     @Test
     @DisplayName("시간당 판매량을 증가시킨다")
     void incrementHourlySales() {
@@ -285,6 +307,86 @@ class RedisFastSellingRankingRepositoryTest {
         assertThat(rankingRepository.getLastHourSales(concert3)).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("60분이 지난 분 버킷은 최근 1시간 판매량에 합산하지 않는다")
+    void getLastHourSales_ExcludesExpiredMinuteBuckets() {
+        // given
+        Long concertId = 1L;
+        String key = "concert:{concerts}:sales:minutes:" + concertId;
+        long currentMinute = currentRedisMinute();
+        long expiredMinute = currentMinute - 60;  // 같은 슬롯의 이전 바퀴
+        long recentMinute = currentMinute - 59;   // 윈도우의 가장 오래된 분
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "t" + (expiredMinute % 60), String.valueOf(expiredMinute), "c" + (expiredMinute % 60), "7",
+                "t" + (recentMinute % 60), String.valueOf(recentMinute), "c" + (recentMinute % 60), "2"));
+
+        // when
+        rankingRepository.incrementHourlySales(concertId);  // 현재 분 슬롯 = 만료 슬롯 → 덮어씀
+        int sales = rankingRepository.getLastHourSales(concertId);
+
+        // then
+        assertThat(sales).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("감쇠 판매량은 오래된 분 버킷일수록 반감기에 따라 작게 합산한다")
+    void getDecayedSales() {
+        // given
+        Long concertId = 1L;
+        String key = "concert:{concerts}:sales:minutes:" + concertId;
+        long currentMinute = currentRedisMinute();
+        long oldMinute = currentMinute - 30;  // 반감기 15분 × 2 → 가중치 0.25
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                "t" + (currentMinute % 60), String.valueOf(currentMinute), "c" + (currentMinute % 60), "4",
+                "t" + (oldMinute % 60), String.valueOf(oldMinute), "c" + (oldMinute % 60), "8"));
+
+        // when
+        Map<Long, Double> decayed = rankingRepository.getDecayedSales(List.of(concertId, 2L), 15);
+        Map<Long, Double> plain = rankingRepository.getDecayedSales(List.of(concertId), 0);
+
+        // then
+        assertThat(decayed.get(concertId)).isCloseTo(6.0, within(0.001));  // 4 + 8 * 0.25
+        assertThat(decayed.get(2L)).isZero();
+        assertThat(plain.get(concertId)).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("재계산 반영은 랭킹에 남은 콘서트만 갱신하고 통계가 여전히 없는 콘서트만 제거한다")
+    void rescoreConcerts() {
+        // given
+        rankingRepository.updateConcertScore(1L, 100.0);
+        rankingRepository.updateConcertScore(2L, 200.0);
+        rankingRepository.updateConcertScore(3L, 300.0);
+        rankingRepository.saveConcertStats(3L, "다시 판매된 콘서트", 1000, 10);  // 재계산 중 통계 재저장
+
+        // when
+        rankingRepository.rescoreConcerts(Map.of(1L, 50.0, 9L, 900.0), List.of(2L, 3L));
+
+        // then
+        assertThat(rankingRepository.getAllConcertScores()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 50.0, 3L, 300.0));
+    }
+
+    @Test
+    @DisplayName("재구성 데이터를 적재하면 랭킹/통계/최근 1시간 판매량이 라이브 경로와 같은 키로 조회된다")
+    void restoreConcerts() {
+        // given
+        long currentMinute = currentRedisMinute();
+        FastSellingRankingRepository.RestoredConcert restored = new FastSellingRankingRepository.RestoredConcert(
+                1L, "복구 콘서트", 200, 120, Map.of(currentMinute, 3, currentMinute - 10, 2), 110.0);
+
+        // when
+        rankingRepository.restoreConcerts(List.of(restored));
+
+        // then
+        assertThat(rankingRepository.getTopConcertIds(10)).containsExactly(1L);
+        assertThat(rankingRepository.getConcertScore(1L)).contains(110.0);
+        assertThat(rankingRepository.getConcertStats(List.of(1L)).get(1L))
+                .isEqualTo(new FastSellingRankingRepository.ConcertStats("복구 콘서트", 200, 120, 5));
+
+        rankingRepository.incrementHourlySales(1L);  // 복구 후 라이브 판매 누적
+        assertThat(rankingRepository.getLastHourSales(1L)).isEqualTo(6);
+    }
+
     @Test
     @DisplayName("통합 시나리오: 랭킹 점수 업데이트와 통계 조회")
     void integrationTest_RankingWithStats() {
@@ -335,4 +437,20 @@ class RedisFastSellingRankingRepositoryTest {
             log.info("콘서트 ID={}, 제목={}, 점수={}, 순위={}, 시간당판매={}", id, stat.concertTitle(), score.get(), rank.get() + 1, stat.lastHourSales());
         });
     }
+
+    /**
+     * Redis 서버 기준 현재 분 (분 경계 직전이면 다음 분까지 대기 → 테스트 도중 분이 바뀌지 않도록)
+     */
+    private long currentRedisMinute() {
+        long nowMillis = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        if (nowMillis % 60_000 > 55_000) {
+            try {
+                Thread.sleep(60_000 - nowMillis % 60_000 + 100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            nowMillis = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        }
+        return nowMillis / 60_000;
+    }
 }
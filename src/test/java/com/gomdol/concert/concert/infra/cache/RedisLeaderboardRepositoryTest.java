@@ -0,0 +1,81 @@
+package com.gomdol.concert.concert.infra.cache;
+
+import com.gomdol.concert.common.TestContainerConfig;
+import com.gomdol.concert.common.infra.config.LeaderboardProperties.Window;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository;
+import com.gomdol.concert.concert.application.port.out.LeaderboardRepository.LeaderboardEntry;
+import com.gomdol.concert.concert.domain.model.LeaderboardDimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Redis 기반 리더보드 Repository 테스트")
+@Import(TestContainerConfig.class)
+class RedisLeaderboardRepositoryTest {
+
+    private static final Window ONE_HOUR = new Window("1h", Duration.ofHours(1), Duration.ofMinutes(1));
+    private static final Window ONE_DAY = new Window("24h", Duration.ofHours(24), Duration.ofHours(1));
+
+    @Autowired
+    private LeaderboardRepository leaderboardRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.keys("*").forEach(key -> redisTemplate.delete(key));
+    }
+
+    @Test
+    @DisplayName("판매 1건이 모든 기준 × 기간 보드에 반영되고 보드별로 판매량 순으로 조회된다")
+    void recordSale_fansOutToAllBoards() {
+        // given
+        Map<LeaderboardDimension, Long> first = Map.of(LeaderboardDimension.CONCERT, 1L, LeaderboardDimension.SHOW, 10L, LeaderboardDimension.VENUE, 100L);
+        Map<LeaderboardDimension, Long> second = Map.of(LeaderboardDimension.CONCERT, 2L, LeaderboardDimension.SHOW, 20L, LeaderboardDimension.VENUE, 100L);
+
+        // when
+        leaderboardRepository.recordSale(first, List.of(ONE_HOUR, ONE_DAY), 2);
+        leaderboardRepository.recordSale(second, List.of(ONE_HOUR, ONE_DAY), 3);
+        leaderboardRepository.recordSale(first, List.of(ONE_HOUR, ONE_DAY), 4);
+
+        // then
+        assertThat(leaderboardRepository.getTop(LeaderboardDimension.CONCERT, ONE_HOUR, 10))
+                .containsExactly(new LeaderboardEntry(1L, 6), new LeaderboardEntry(2L, 3));
+        assertThat(leaderboardRepository.getTop(LeaderboardDimension.SHOW, ONE_DAY, 1))
+                .containsExactly(new LeaderboardEntry(10L, 6));
+        assertThat(leaderboardRepository.getTop(LeaderboardDimension.VENUE, ONE_HOUR, 10))
+                .containsExactly(new LeaderboardEntry(100L, 9));
+    }
+
+    @Test
+    @DisplayName("기간을 벗어난 버킷의 판매량은 보드에서 차감된다")
+    void getTop_excludesExpiredBuckets() throws InterruptedException {
+        // given
+        Window twoSeconds = new Window("2s", Duration.ofSeconds(2), Duration.ofSeconds(1));
+        leaderboardRepository.recordSale(Map.of(LeaderboardDimension.SHOW, 10L), List.of(twoSeconds), 5);
+        assertThat(leaderboardRepository.getTop(LeaderboardDimension.SHOW, twoSeconds, 10))
+                .containsExactly(new LeaderboardEntry(10L, 5));
+
+        // when
+        Thread.sleep(2_100);  // 첫 판매 버킷이 기간 밖으로 밀려남
+        leaderboardRepository.recordSale(Map.of(LeaderboardDimension.SHOW, 20L), List.of(twoSeconds), 1);
+
+        // then
+        assertThat(leaderboardRepository.getTop(LeaderboardDimension.SHOW, twoSeconds, 10))
+                .containsExactly(new LeaderboardEntry(20L, 1));
+    }
+}
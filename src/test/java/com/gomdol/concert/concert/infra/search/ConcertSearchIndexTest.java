@@ -0,0 +1,170 @@
+package com.gomdol.concert.concert.infra.search;
+
+import com.gomdol.concert.concert.domain.model.ConcertStatus;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertCatalogVersionProjection;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertQueryJpaRepository;
+import com.gomdol.concert.concert.infra.persistence.query.ConcertSearchDocumentProjection;
+import com.gomdol.concert.concert.infra.search.ConcertSearchIndex.SearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcertSearchIndexTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Mock
+    private ConcertQueryJpaRepository concertQueryJpaRepository;
+
+    @InjectMocks
+    private ConcertSearchIndex searchIndex;
+
+    @Test
+    @DisplayName("색인이 만들어지기 전에는 empty를 반환해 DB 조회로 대체된다")
+    void search_beforeRefresh_returnsEmpty() {
+        // when
+        Optional<SearchResult> result = searchIndex.search("아이유", 0, 10);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(concertQueryJpaRepository);
+    }
+
+    @Test
+    @DisplayName("제목/아티스트/공연장명 중 하나라도 키워드를 포함하면 id 오름차순으로 반환한다")
+    void search_matchesAnyField() {
+        // given
+        refreshWith(
+                document(3L, "HEREH WORLD TOUR", "아이유", "잠실 주경기장"),
+                document(1L, "아이유 콘서트", "IU", "올림픽공원"),
+                document(2L, "봄 페스티벌", "10cm", "잠실 실내체육관"),
+                document(4L, "겨울 콘서트", "성시경", "KSPO DOME"));
+
+        // when
+        SearchResult artistOrTitle = searchIndex.search("아이유", 0, 10).orElseThrow();
+        SearchResult venue = searchIndex.search("잠실", 0, 10).orElseThrow();
+        SearchResult caseInsensitive = searchIndex.search("kspo", 0, 10).orElseThrow();
+
+        // then
+        assertThat(artistOrTitle.ids()).containsExactly(1L, 3L);
+        assertThat(venue.ids()).containsExactly(2L, 3L);
+        assertThat(caseInsensitive.ids()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("n-gram이 모두 있어도 연속 부분 문자열이 아니면 결과에서 제외된다")
+    void search_reverifiesContiguousMatch() {
+        // given
+        refreshWith(
+                document(1L, "콘서트 투어", "A", "B"),
+                document(2L, "투어 콘서트", "A", "B"));
+
+        // when
+        SearchResult result = searchIndex.search("콘서트 투어", 0, 10).orElseThrow();
+
+        // then
+        assertThat(result.ids()).containsExactly(1L);
+        assertThat(result.totalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 글자 키워드와 자모 분리(NFD) 키워드도 같은 음절로 검색된다")
+    void search_singleCharAndNfd() {
+        // given
+        refreshWith(
+                document(1L, "봄 콘서트", "A", "B"),
+                document(2L, "여름 콘서트", "A", "B"));
+
+        // when
+        SearchResult single = searchIndex.search("봄", 0, 10).orElseThrow();
+        SearchResult nfd = searchIndex.search(Normalizer.normalize("여름", Normalizer.Form.NFD), 0, 10).orElseThrow();
+        SearchResult none = searchIndex.search("가을", 0, 10).orElseThrow();
+
+        // then
+        assertThat(single.ids()).containsExactly(1L);
+        assertThat(nfd.ids()).containsExactly(2L);
+        assertThat(none.ids()).isEmpty();
+        assertThat(none.totalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 페이지를 자르고 전체 건수는 일치 건수 전체로 계산한다")
+    void search_paging() {
+        // given
+        refreshWith(
+                document(1L, "콘서트 1", "A", "B"),
+                document(2L, "콘서트 2", "A", "B"),
+                document(3L, "콘서트 3", "A", "B"),
+                document(4L, "콘서트 4", "A", "B"),
+                document(5L, "콘서트 5", "A", "B"));
+
+        // when
+        SearchResult result = searchIndex.search("콘서트", 2, 2).orElseThrow();
+
+        // then
+        assertThat(result.ids()).containsExactly(3L, 4L);
+        assertThat(result.totalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("카탈로그 버전이 그대로면 재생성하지 않고 바뀌면 새 색인으로 교체한다")
+    void refreshIfChanged_rebuildsOnlyWhenVersionChanges() {
+        // given
+        ConcertCatalogVersionProjection v1 = version(1L, UPDATED_AT);
+        ConcertCatalogVersionProjection v2 = version(2L, UPDATED_AT.plusMinutes(1));
+        when(concertQueryJpaRepository.findCatalogVersion()).thenReturn(v1, v1, v2);
+        when(concertQueryJpaRepository.findSearchDocuments(ConcertStatus.PUBLIC)).thenReturn(
+                List.of(document(1L, "봄 콘서트", "A", "B")),
+                List.of(document(1L, "봄 콘서트", "A", "B"), document(2L, "봄 페스티벌", "A", "B")));
+
+        // when
+        boolean first = searchIndex.refreshIfChanged();
+        boolean unchanged = searchIndex.refreshIfChanged();
+        SearchResult before = searchIndex.search("봄", 0, 10).orElseThrow();
+        boolean changed = searchIndex.refreshIfChanged();
+        SearchResult after = searchIndex.search("봄", 0, 10).orElseThrow();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(unchanged).isFalse();
+        assertThat(changed).isTrue();
+        assertThat(before.ids()).containsExactly(1L);
+        assertThat(after.ids()).containsExactly(1L, 2L);
+        verify(concertQueryJpaRepository, times(2)).findSearchDocuments(ConcertStatus.PUBLIC);
+    }
+
+    private void refreshWith(ConcertSearchDocumentProjection... documents) {
+        when(concertQueryJpaRepository.findCatalogVersion()).thenReturn(version(documents.length, UPDATED_AT));
+        when(concertQueryJpaRepository.findSearchDocuments(ConcertStatus.PUBLIC)).thenReturn(List.of(documents));
+        searchIndex.refreshIfChanged();
+    }
+
+    private static ConcertCatalogVersionProjection version(long count, LocalDateTime updatedAt) {
+        return new ConcertCatalogVersionProjection() {
+            @Override public Long getConcertCount() { return count; }
+            @Override public LocalDateTime getConcertUpdatedAt() { return updatedAt; }
+            @Override public LocalDateTime getVenueUpdatedAt() { return updatedAt; }
+        };
+    }
+
+    private static ConcertSearchDocumentProjection document(Long id, String title, String artist, String venueName) {
+        return new ConcertSearchDocumentProjection() {
+            @Override public Long getId() { return id; }
+            @Override public String getTitle() { return title; }
+            @Override public String getArtist() { return artist; }
+            @Override public String getVenueName() { return venueName; }
+        };
+    }
+}
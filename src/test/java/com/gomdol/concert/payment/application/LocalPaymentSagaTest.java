@@ -0,0 +1,213 @@
+package com.gomdol.concert.payment.application;
+
+import com.gomdol.concert.payment.application.port.in.SavePaymentPort.PaymentCommand;
+import com.gomdol.concert.payment.application.port.out.PaymentRepository;
+import com.gomdol.concert.payment.application.saga.LocalPaymentSaga;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTracker;
+import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.PaymentStatus;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import com.gomdol.concert.point.application.service.PointCommandService;
+import com.gomdol.concert.reservation.application.port.out.ReservationRepository;
+import com.gomdol.concert.reservation.application.service.ReservationCommandService;
+import com.gomdol.concert.reservation.application.service.ReservationCompletionPublisher;
+import com.gomdol.concert.reservation.domain.model.Reservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LocalPaymentSagaTest {
+
+    private static final String REQUEST_ID = "123e4567-e89b-12d3-a456-426614174999";
+    private static final long AMOUNT = 10000L;
+
+    @Mock
+    private PaymentSaveUseCase paymentSaveUseCase;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentSagaTracker sagaTracker;
+
+    @Mock
+    private PointCommandService pointCommandService;
+
+    @Mock
+    private ReservationCommandService reservationCommandService;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationCompletionPublisher completionPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private LocalPaymentSaga localPaymentSaga;
+
+    private final PaymentCommand command = new PaymentCommand(10L, FIXED_UUID, REQUEST_ID, AMOUNT);
+
+    private PaymentSaga saga;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(paymentSaveUseCase.createPayment(command)).thenReturn(payment(PaymentStatus.PENDING));
+        saga = PaymentSaga.start(payment(PaymentStatus.PENDING), LocalDateTime.now().plusMinutes(1));
+        when(sagaTracker.lock(1L)).thenAnswer(inv -> Optional.of(saga));
+        doAnswer(inv -> {
+            inv.<PaymentSaga>getArgument(0).pointUsed(LocalDateTime.now().plusMinutes(1));
+            return null;
+        }).when(sagaTracker).pointUsed(any());
+    }
+
+    @Test
+    @DisplayName("포인트 차감 → 좌석 확정 → 결제 완료 순서로 처리하고 최종 상태를 반환한다")
+    void process_success() {
+        // given
+        Reservation reservation = mock(Reservation.class);
+        when(reservationRepository.findById(10L)).thenReturn(Optional.of(reservation));
+        when(paymentSaveUseCase.completePayment(1L)).thenReturn(payment(PaymentStatus.SUCCEEDED));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("SUCCEEDED");
+        InOrder inOrder = inOrder(pointCommandService, sagaTracker, reservationCommandService, completionPublisher, paymentSaveUseCase);
+        inOrder.verify(pointCommandService).usePoint(FIXED_UUID, REQUEST_ID, AMOUNT);
+        inOrder.verify(sagaTracker).pointUsed(saga);
+        inOrder.verify(reservationCommandService).confirmSeats(10L);
+        inOrder.verify(completionPublisher).publish(reservation);
+        inOrder.verify(sagaTracker).complete(saga);
+        inOrder.verify(paymentSaveUseCase).completePayment(1L);
+        verify(pointCommandService, never()).refundPoint(any(), any(), anyLong(), any());
+        verify(sagaTracker, never()).fail(any());
+    }
+
+    @Test
+    @DisplayName("포인트 차감 실패 시 좌석을 취소하고 결제를 실패 처리한다")
+    void process_pointFailure_cancelsSeats() {
+        // given
+        doThrow(new IllegalArgumentException("잔액이 부족합니다.")).when(pointCommandService).usePoint(FIXED_UUID, REQUEST_ID, AMOUNT);
+        when(paymentSaveUseCase.failPayment(eq(1L), anyString())).thenReturn(payment(PaymentStatus.FAILED));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("FAILED");
+        verify(reservationCommandService).cancelSeats(10L);
+        verify(sagaTracker).fail(saga);
+        verify(reservationCommandService, never()).confirmSeats(any());
+        verify(paymentSaveUseCase, never()).completePayment(any());
+    }
+
+    @Test
+    @DisplayName("포인트 차감이 잔액 부족 외의 예외(포인트 정보 없음, 락/DB 오류)로 실패해도 좌석을 취소하고 결제를 실패 처리한다")
+    void process_pointUnexpectedFailure_cancelsSeats() {
+        // given
+        doThrow(new IllegalStateException("포인트 정보가 없습니다.")).when(pointCommandService).usePoint(FIXED_UUID, REQUEST_ID, AMOUNT);
+        when(paymentSaveUseCase.failPayment(eq(1L), anyString())).thenReturn(payment(PaymentStatus.FAILED));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("FAILED");
+        verify(reservationCommandService).cancelSeats(10L);
+        verify(paymentSaveUseCase).failPayment(1L, "포인트 사용 실패: 포인트 정보가 없습니다.");
+        verify(sagaTracker).fail(saga);
+        verify(sagaTracker, never()).pointUsed(any());
+    }
+
+    @Test
+    @DisplayName("좌석 확정 실패 시 차감한 포인트를 환불하고 결제를 실패 처리한다")
+    void process_confirmFailure_refundsPoint() {
+        // given
+        doThrow(new IllegalStateException("예약이 만료되었습니다.")).when(reservationCommandService).confirmSeats(10L);
+        when(paymentSaveUseCase.failPayment(eq(1L), anyString())).thenReturn(payment(PaymentStatus.FAILED));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("FAILED");
+        verify(pointCommandService).refundPoint(FIXED_UUID, REQUEST_ID + "-refund", AMOUNT, "좌석 확정 실패");
+        verify(paymentSaveUseCase).failPayment(1L, "좌석 확정 실패: 예약이 만료되었습니다.");
+        verify(sagaTracker).fail(saga);
+        verify(completionPublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("포인트 차감 직후 이미 기한 초과로 보상된 Saga면 포인트만 환불하고 좌석 확정은 진행하지 않는다")
+    void process_timedOutAfterPointUsed_refundsOnly() {
+        // given
+        saga = PaymentSaga.of(1L, 10L, FIXED_UUID, REQUEST_ID, AMOUNT, PaymentSagaStep.TIMED_OUT, null);
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.FAILED)));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("FAILED");
+        verify(pointCommandService).refundPoint(FIXED_UUID, REQUEST_ID + "-refund", AMOUNT, "Saga 기한 초과 후 포인트 차감");
+        verify(reservationCommandService, never()).confirmSeats(any());
+        verify(sagaTracker, never()).pointUsed(any());
+        verify(paymentSaveUseCase, never()).failPayment(any(), any());
+    }
+
+    @Test
+    @DisplayName("포인트 차감 후 좌석 확정 전에 기한 초과로 보상된 Saga면 좌석 확정/완료 이벤트 없이 현재 결제 상태를 반환한다")
+    void process_timedOutBeforeConfirm_skipsConfirm() {
+        // given
+        doAnswer(inv -> {
+            PaymentSaga locked = inv.getArgument(0);
+            locked.pointUsed(LocalDateTime.now().plusMinutes(1));
+            locked.timeout();  // 타임아웃 스캐너가 좌석 확정 전에 보상 처리
+            return null;
+        }).when(sagaTracker).pointUsed(any());
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.FAILED)));
+
+        // when
+        PaymentResponse response = localPaymentSaga.process(command);
+
+        // then
+        assertThat(response.status()).isEqualTo("FAILED");
+        verify(reservationCommandService, never()).confirmSeats(any());
+        verify(completionPublisher, never()).publish(any());
+        verify(sagaTracker, never()).complete(any());
+        verify(paymentSaveUseCase, never()).completePayment(any());
+        verify(pointCommandService, never()).refundPoint(any(), any(), anyLong(), any());
+    }
+
+    private static Payment payment(PaymentStatus status) {
+        LocalDateTime paidAt = status == PaymentStatus.SUCCEEDED ? LocalDateTime.now() : null;
+        return Payment.of(1L, 10L, FIXED_UUID, "PAY-1", REQUEST_ID, AMOUNT, status, paidAt);
+    }
+}
@@ -0,0 +1,132 @@
+package com.gomdol.concert.payment.application;
+
+import com.gomdol.concert.common.application.outbox.OutboxEventPublisher;
+import com.gomdol.concert.common.application.outbox.OutboxMessage;
+import com.gomdol.concert.common.infra.config.SagaTimeoutProperties;
+import com.gomdol.concert.payment.application.port.out.PaymentRepository;
+import com.gomdol.concert.payment.application.port.out.PaymentSagaRepository;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTimeoutHandler;
+import com.gomdol.concert.payment.application.saga.PaymentSagaTracker;
+import com.gomdol.concert.payment.application.usecase.PaymentSaveUseCase;
+import com.gomdol.concert.payment.domain.PaymentSagaStep;
+import com.gomdol.concert.payment.domain.PaymentStatus;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.domain.model.PaymentSaga;
+import com.gomdol.concert.point.domain.command.RefundPointCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentSagaTimeoutHandlerTest {
+
+    private static final String REQUEST_ID = "123e4567-e89b-12d3-a456-426614174999";
+
+    @Mock
+    private PaymentSagaRepository sagaRepository;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentSaveUseCase paymentSaveUseCase;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    private PaymentSagaTimeoutHandler timeoutHandler;
+
+    @BeforeEach
+    void setUp() {
+        SagaTimeoutProperties properties = new SagaTimeoutProperties(300000, 300000, 10000, 100);
+        PaymentSagaTracker sagaTracker = new PaymentSagaTracker(sagaRepository, properties);
+        timeoutHandler = new PaymentSagaTimeoutHandler(sagaRepository, paymentRepository, paymentSaveUseCase, sagaTracker, outboxEventPublisher, properties);
+    }
+
+    @Test
+    @DisplayName("좌석 확정 대기 중 기한이 지나면 결제 실패 + 좌석 취소 + 포인트 환불을 한 번에 저장한다")
+    void compensateExpired_awaitingSeats_cancelsSeatsAndRefunds() {
+        // given
+        PaymentSaga saga = saga(1L, PaymentSagaStep.AWAITING_SEATS);
+        when(sagaRepository.findExpiredForUpdate(any(LocalDateTime.class), eq(100))).thenReturn(List.of(saga));
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(1L, PaymentStatus.PENDING)));
+
+        // when
+        int compensated = timeoutHandler.compensateExpired();
+
+        // then
+        assertThat(compensated).isEqualTo(1);
+        assertThat(saga.getStep()).isEqualTo(PaymentSagaStep.TIMED_OUT);
+        assertThat(saga.getNextDeadline()).isNull();
+        verify(paymentSaveUseCase).failPayment(eq(1L), anyString());
+        verify(sagaRepository).save(saga);
+
+        List<OutboxMessage> messages = captureMessages();
+        assertThat(messages).extracting(OutboxMessage::eventType).containsExactly("CancelSeatsCommand", "RefundPointCommand");
+        RefundPointCommand refund = (RefundPointCommand) messages.get(1).event();
+        assertThat(refund.getAmount()).isEqualTo(10000L);
+        assertThat(refund.getRequestId()).isEqualTo(REQUEST_ID + "-refund");
+    }
+
+    @Test
+    @DisplayName("포인트 차감 대기 중 기한이 지나면 좌석만 취소하고, 이미 종료된 결제는 실패 처리하지 않는다")
+    void compensateExpired_awaitingPoint_cancelsSeatsOnly() {
+        // given
+        PaymentSaga pending = saga(1L, PaymentSagaStep.AWAITING_POINT);
+        PaymentSaga alreadyFailed = saga(2L, PaymentSagaStep.AWAITING_POINT);
+        when(sagaRepository.findExpiredForUpdate(any(LocalDateTime.class), eq(100))).thenReturn(List.of(pending, alreadyFailed));
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(payment(1L, PaymentStatus.PENDING)));
+        when(paymentRepository.findById(2L)).thenReturn(Optional.of(payment(2L, PaymentStatus.FAILED)));
+
+        // when
+        int compensated = timeoutHandler.compensateExpired();
+
+        // then
+        assertThat(compensated).isEqualTo(2);
+        verify(paymentSaveUseCase).failPayment(eq(1L), anyString());
+        verify(paymentSaveUseCase, never()).failPayment(eq(2L), anyString());
+        assertThat(captureMessages()).extracting(OutboxMessage::eventType).containsExactly("CancelSeatsCommand", "CancelSeatsCommand");
+    }
+
+    @Test
+    @DisplayName("기한이 지난 Saga가 없으면 아무것도 저장하지 않는다")
+    void compensateExpired_nothingExpired() {
+        // given
+        when(sagaRepository.findExpiredForUpdate(any(LocalDateTime.class), eq(100))).thenReturn(List.of());
+
+        // when
+        int compensated = timeoutHandler.compensateExpired();
+
+        // then
+        assertThat(compensated).isZero();
+        verifyNoInteractions(outboxEventPublisher, paymentSaveUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OutboxMessage> captureMessages() {
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventPublisher).saveOutboxEvents(eq("PAYMENT"), captor.capture());
+        return captor.getValue();
+    }
+
+    private static PaymentSaga saga(Long paymentId, PaymentSagaStep step) {
+        return PaymentSaga.of(paymentId, 10L, FIXED_UUID, REQUEST_ID, 10000L, step, LocalDateTime.now().minusMinutes(1));
+    }
+
+    private static Payment payment(Long paymentId, PaymentStatus status) {
+        return Payment.of(paymentId, 10L, FIXED_UUID, "PAY-" + paymentId, REQUEST_ID, 10000L, status, null);
+    }
+}
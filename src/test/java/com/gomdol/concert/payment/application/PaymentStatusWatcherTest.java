@@ -0,0 +1,161 @@
+package com.gomdol.concert.payment.application;
+
+import com.gomdol.concert.payment.application.service.PaymentStatusWatcher;
+import com.gomdol.concert.payment.application.usecase.PaymentQueryUseCase;
+import com.gomdol.concert.payment.domain.PaymentStatus;
+import com.gomdol.concert.payment.domain.model.Payment;
+import com.gomdol.concert.payment.presentation.dto.PaymentResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentStatusWatcherTest {
+
+    @Mock
+    private PaymentQueryUseCase paymentQueryUseCase;
+
+    @InjectMocks
+    private PaymentStatusWatcher watcher;
+
+    @Test
+    @DisplayName("PENDING 결제는 대기하다가 상태 알림을 받으면 완료되고 등록이 정리된다")
+    void awaitFinalStatus_completesOnNotify() {
+        // given
+        when(paymentQueryUseCase.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.PENDING)));
+        CompletableFuture<PaymentResponse> first = watcher.awaitFinalStatus(1L, FIXED_UUID);
+        CompletableFuture<PaymentResponse> second = watcher.awaitFinalStatus(1L, FIXED_UUID);
+        assertThat(first).isNotDone();
+        assertThat(watcher.watchingCount()).isEqualTo(2);
+
+        // when
+        watcher.notify(PaymentResponse.fromDomain(payment(PaymentStatus.SUCCEEDED)));
+
+        // then
+        assertThat(first.join().status()).isEqualTo("SUCCEEDED");
+        assertThat(second.join().status()).isEqualTo("SUCCEEDED");
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 최종 상태인 결제는 즉시 완료된다")
+    void awaitFinalStatus_alreadyFinal() {
+        // given
+        when(paymentQueryUseCase.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.FAILED)));
+
+        // when
+        CompletableFuture<PaymentResponse> future = watcher.awaitFinalStatus(1L, FIXED_UUID);
+
+        // then
+        assertThat(future.join().status()).isEqualTo("FAILED");
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 결제의 알림이나 타임아웃 해제 후에는 영향을 받지 않는다")
+    void unwatch_and_otherPayment() {
+        // given
+        when(paymentQueryUseCase.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.PENDING)));
+        CompletableFuture<PaymentResponse> future = watcher.awaitFinalStatus(1L, FIXED_UUID);
+
+        // when
+        watcher.notify(new PaymentResponse(2L, 10L, "SUCCEEDED", 1000L, LocalDateTime.now()));
+        watcher.unwatch(1L, future);
+
+        // then
+        assertThat(future).isNotDone();
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 결제는 예외가 발생하고 등록이 남지 않는다")
+    void awaitFinalStatus_notFound() {
+        // given
+        when(paymentQueryUseCase.findById(1L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> watcher.awaitFinalStatus(1L, FIXED_UUID)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 결제는 존재하지 않는 결제와 같이 예외가 발생하고 등록이 남지 않는다")
+    void awaitFinalStatus_otherUser() {
+        // given
+        when(paymentQueryUseCase.findById(1L)).thenReturn(Optional.of(payment(PaymentStatus.SUCCEEDED)));
+
+        // when & then
+        assertThatThrownBy(() -> watcher.awaitFinalStatus(1L, "other-user"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("결제를 찾을 수 없습니다");
+        assertThatThrownBy(() -> watcher.currentStatus(1L, "other-user")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("등록과 알림/해제가 동시에 일어나도 등록된 요청은 모두 맵에 남거나 완료된다")
+    void watch_concurrentWithNotifyAndUnwatch() throws Exception {
+        // given
+        int rounds = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<CompletableFuture<PaymentResponse>> registered = new CopyOnWriteArrayList<>();
+
+        // when - 결제마다 기존 요청 해제(Set이 비어 맵에서 제거됨)와 새 요청 등록을 동시에 실행
+        try {
+            for (long paymentId = 1; paymentId <= rounds; paymentId++) {
+                long id = paymentId;
+                CompletableFuture<PaymentResponse> previous = watcher.watch(id);
+                CountDownLatch start = new CountDownLatch(1);
+                Future<?> watching = executor.submit(() -> {
+                    await(start);
+                    registered.add(watcher.watch(id));
+                });
+                Future<?> unwatching = executor.submit(() -> {
+                    await(start);
+                    watcher.unwatch(id, previous);
+                });
+                start.countDown();
+                watching.get();
+                unwatching.get();
+                watcher.notify(new PaymentResponse(id, 10L, "SUCCEEDED", 1000L, LocalDateTime.now()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then - Set 유실 없이 모두 알림을 받음
+        assertThat(registered).hasSize(rounds).allMatch(CompletableFuture::isDone);
+        assertThat(watcher.watchingCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Payment payment(PaymentStatus status) {
+        LocalDateTime paidAt = status == PaymentStatus.SUCCEEDED ? LocalDateTime.now() : null;
+        return Payment.of(1L, 10L, FIXED_UUID, "PAY-1", "request-1", 1000L, status, paidAt);
+    }
+}
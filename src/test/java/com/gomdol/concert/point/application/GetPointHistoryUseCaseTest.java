@@ -0,0 +1,88 @@
+package com.gomdol.concert.point.application;
+
+import com.gomdol.concert.common.application.pagination.KeysetCursor;
+import com.gomdol.concert.common.presentation.dto.CursorResponse;
+import com.gomdol.concert.point.application.port.out.PointHistoryRepository;
+import com.gomdol.concert.point.application.usecase.GetPointHistoryUseCase;
+import com.gomdol.concert.point.domain.model.UseType;
+import com.gomdol.concert.point.infra.persistence.query.PointHistoryProjection;
+import com.gomdol.concert.point.presentation.dto.PointHistoryItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetPointHistoryUseCaseTest {
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @InjectMocks
+    private GetPointHistoryUseCase getPointHistoryUseCase;
+
+    @Test
+    @DisplayName("size + 1건이 조회되면 size건만 반환하고 마지막 행 id로 다음 커서를 만든다")
+    void getPointHistories_hasNext() {
+        // given
+        when(pointHistoryRepository.findPageByUserId(FIXED_UUID, null, null, null, null, 4)).thenReturn(rows(10, 9, 8, 7));
+
+        // when
+        CursorResponse<PointHistoryItem> response = getPointHistoryUseCase.getPointHistories(FIXED_UUID, null, 3, null, null, null);
+
+        // then
+        assertThat(response.content()).hasSize(3);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(response.nextCursor())).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("전달받은 커서의 id 이후부터 조회하고 마지막 페이지면 커서가 없다")
+    void getPointHistories_lastPage() {
+        // given
+        String cursor = KeysetCursor.encode(8L);
+        when(pointHistoryRepository.findPageByUserId(FIXED_UUID, 8L, UseType.USE, null, null, 4)).thenReturn(rows(7, 6));
+
+        // when
+        CursorResponse<PointHistoryItem> response = getPointHistoryUseCase.getPointHistories(FIXED_UUID, cursor, 3, UseType.USE, null, null);
+
+        // then
+        assertThat(response.content()).hasSize(2);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("변조된 커서는 조회 없이 예외가 발생한다")
+    void getPointHistories_invalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> getPointHistoryUseCase.getPointHistories(FIXED_UUID, "not-a-cursor", 3, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(pointHistoryRepository, never()).findPageByUserId(any(), any(), any(), any(), any(), anyInt());
+    }
+
+    private static List<PointHistoryProjection> rows(long... ids) {
+        return LongStream.of(ids).<PointHistoryProjection>mapToObj(id -> new Row(id)).toList();
+    }
+
+    private record Row(Long id) implements PointHistoryProjection {
+        public Long getId() { return id; }
+        public UseType getUseType() { return UseType.USE; }
+        public long getAmount() { return -1000L; }
+        public Long getAfterBalance() { return 0L; }
+        public LocalDateTime getCreatedAt() { return LocalDateTime.now(); }
+    }
+}
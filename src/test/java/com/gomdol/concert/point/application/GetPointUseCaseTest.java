@@ -1,9 +1,9 @@
 package com.gomdol.concert.point.application;
 
 import com.gomdol.concert.point.application.port.in.GetPointBalancePort.PointSearchResponse;
+import com.gomdol.concert.point.application.port.out.PointBalanceCache;
 import com.gomdol.concert.point.application.port.out.PointRepository;
 import com.gomdol.concert.point.application.usecase.GetPointBalanceUseCase;
-import com.gomdol.concert.point.domain.model.Point;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,8 +14,8 @@ import java.util.Optional;
 
 import static com.gomdol.concert.common.FixedField.FIXED_UUID;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 public class GetPointUseCaseTest {
@@ -23,33 +23,50 @@ public class GetPointUseCaseTest {
     @Mock
     private PointRepository pointRepository;
 
+    @Mock
+    private PointBalanceCache pointBalanceCache;
+
     @InjectMocks
     private GetPointBalanceUseCase getPointBalanceUseCase;
 
     @Test
     public void 포인트가_없으면_0원으로_초기화_후_반환한다() throws Exception {
         // given
-        Point point = Point.create(FIXED_UUID,0L);
-        when(pointRepository.findByUserIdWithLock(FIXED_UUID)).thenReturn(Optional.of(point));
+        when(pointBalanceCache.get(FIXED_UUID)).thenReturn(Optional.empty());
+        when(pointRepository.findBalance(FIXED_UUID)).thenReturn(Optional.empty());
         // when
         PointSearchResponse response = getPointBalanceUseCase.getPoint(FIXED_UUID);
         // then
-        assertThat(response).isEqualTo(PointSearchResponse.fromDomain(point));
+        assertThat(response).isEqualTo(new PointSearchResponse(FIXED_UUID, 0L));
         assertThat(response.balance()).isEqualTo(0L);
 
-        verify(pointRepository).findByUserIdWithLock(FIXED_UUID);
+        verify(pointRepository).findBalance(FIXED_UUID);
+        verify(pointBalanceCache).putIfAbsent(FIXED_UUID, 0L);
     }
 
     @Test
     public void 포인트가_존재하면_해당_포인트를_반환한다() throws Exception {
-        Point point = Point.create(FIXED_UUID,10000L);
-        when(pointRepository.findByUserIdWithLock(FIXED_UUID)).thenReturn(Optional.of(point));
+        when(pointBalanceCache.get(FIXED_UUID)).thenReturn(Optional.empty());
+        when(pointRepository.findBalance(FIXED_UUID)).thenReturn(Optional.of(10000L));
         // when
         PointSearchResponse response = getPointBalanceUseCase.getPoint(FIXED_UUID);
         // then
-        assertThat(response).isEqualTo(PointSearchResponse.fromDomain(point));
+        assertThat(response).isEqualTo(new PointSearchResponse(FIXED_UUID, 10000L));
         assertThat(response.balance()).isEqualTo(10000L);
 
-        verify(pointRepository).findByUserIdWithLock(FIXED_UUID);
+        verify(pointRepository).findBalance(FIXED_UUID);
+        verify(pointBalanceCache).putIfAbsent(FIXED_UUID, 10000L);
+    }
+
+    @Test
+    public void 캐시에_잔액이_있으면_DB를_조회하지_않는다() throws Exception {
+        // given
+        when(pointBalanceCache.get(FIXED_UUID)).thenReturn(Optional.of(7000L));
+        // when
+        PointSearchResponse response = getPointBalanceUseCase.getPoint(FIXED_UUID);
+        // then
+        assertThat(response.balance()).isEqualTo(7000L);
+        verifyNoInteractions(pointRepository);
+        verify(pointBalanceCache, never()).putIfAbsent(any(), anyLong());
     }
 }
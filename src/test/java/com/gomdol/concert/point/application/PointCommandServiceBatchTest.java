@@ -0,0 +1,102 @@
+package com.gomdol.concert.point.application;
+
+import com.gomdol.concert.common.application.idempotency.port.in.CreateIdempotencyKey;
+import com.gomdol.concert.point.application.port.out.PointHistoryRepository;
+import com.gomdol.concert.point.application.port.out.PointRepository;
+import com.gomdol.concert.point.application.service.PointCommandService;
+import com.gomdol.concert.point.application.service.PointCommandService.PointUseRequest;
+import com.gomdol.concert.point.application.service.PointCommandService.PointUseResult;
+import com.gomdol.concert.point.domain.event.PointBalanceChangedEvent;
+import com.gomdol.concert.point.domain.model.Point;
+import com.gomdol.concert.point.domain.model.PointHistory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointCommandServiceBatchTest {
+
+    private static final String OTHER_USER = "223e4567-e89b-12d3-a456-426614174000";
+
+    @Mock
+    private CreateIdempotencyKey createIdempotencyKey;
+
+    @Mock
+    private PointRepository pointRepository;
+
+    @Mock
+    private PointHistoryRepository historyRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PointCommandService pointCommandService;
+
+    @Test
+    @DisplayName("같은 사용자의 여러 요청은 순서대로 차감되고 잔액 부족 요청만 실패로 반환된다")
+    void usePoints_appliesSequentiallyAndIsolatesFailures() {
+        // given
+        Point point = Point.create(FIXED_UUID, 10000L);
+        Point other = Point.create(OTHER_USER, 5000L);
+        when(pointRepository.findAllByUserIdsWithLock(List.of(FIXED_UUID, OTHER_USER))).thenReturn(List.of(point, other));
+        when(historyRepository.saveAll(anyList())).thenAnswer(inv -> inv.getArgument(0));
+
+        List<PointUseRequest> requests = List.of(
+                new PointUseRequest(FIXED_UUID, UUID.randomUUID().toString(), 6000L),
+                new PointUseRequest(FIXED_UUID, UUID.randomUUID().toString(), 6000L),   // 잔액 부족
+                new PointUseRequest(OTHER_USER, UUID.randomUUID().toString(), 5000L),
+                new PointUseRequest(FIXED_UUID, UUID.randomUUID().toString(), 4000L)
+        );
+
+        // when
+        List<PointUseResult> results = pointCommandService.usePoints(requests);
+
+        // then
+        assertThat(results).extracting(PointUseResult::success).containsExactly(true, false, true, true);
+        assertThat(results.get(1).failureReason()).isEqualTo("잔액이 부족합니다.");
+        assertThat(point.getBalance()).isZero();
+        assertThat(other.getBalance()).isZero();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Point>> pointCaptor = ArgumentCaptor.forClass(List.class);
+        verify(pointRepository).saveAll(pointCaptor.capture());
+        assertThat(pointCaptor.getValue()).containsExactly(point, other);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PointHistory>> historyCaptor = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository).saveAll(historyCaptor.capture());
+        assertThat(historyCaptor.getValue()).extracting(PointHistory::getAfterBalance).containsExactly(4000L, 0L, 0L);
+        verify(createIdempotencyKey, times(3)).createIdempotencyKey(any(), any(), any(), any());
+        verify(eventPublisher, times(3)).publishEvent(any(PointBalanceChangedEvent.class));
+        verify(pointRepository, never()).findByUserIdWithLock(any());
+    }
+
+    @Test
+    @DisplayName("포인트 정보가 없는 사용자가 포함되면 배치 전체가 예외로 실패한다")
+    void usePoints_missingPoint_throws() {
+        // given
+        when(pointRepository.findAllByUserIdsWithLock(List.of(FIXED_UUID))).thenReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> pointCommandService.usePoints(List.of(new PointUseRequest(FIXED_UUID, UUID.randomUUID().toString(), 1000L))))
+                .isInstanceOf(IllegalStateException.class);
+        verify(pointRepository, never()).saveAll(anyList());
+        verifyNoInteractions(historyRepository, createIdempotencyKey, eventPublisher);
+    }
+}
@@ -3,6 +3,7 @@ package com.gomdol.concert.point.application;
 import com.gomdol.concert.common.application.idempotency.port.in.CreateIdempotencyKey;
 import com.gomdol.concert.point.application.port.in.SavePointPort.PointSaveResponse;
 import com.gomdol.concert.point.application.usecase.SavePointUseCase;
+import com.gomdol.concert.point.domain.event.PointBalanceChangedEvent;
 import com.gomdol.concert.point.domain.model.PointHistory;
 import com.gomdol.concert.point.domain.model.UseType;
 import com.gomdol.concert.point.domain.model.Point;
@@ -16,7 +17,9 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -40,6 +43,9 @@ public class SavePointUseCaseTest {
     @Mock
     private PointHistoryRepository pointHistoryRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SavePointUseCase savePointUseCase;
 
@@ -160,4 +166,82 @@ public class SavePointUseCaseTest {
         // 이력 저장은 시도되었지만 실패(예외)로 끝남
         verifyNoMoreInteractions(pointRepository, pointHistoryRepository);
     }
+
+    @Test
+    public void 조건부_업데이트_사용_성공시_잠금_조회없이_차감_후_이력이_저장된다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(savePointUseCase, "atomicUpdateEnabled", true);
+        PointRequest req = new PointRequest(UUID.randomUUID().toString(), FIXED_UUID, 3000L, UseType.USE);
+        when(pointRepository.decreaseBalance(FIXED_UUID, 3000L)).thenReturn(Optional.of(7000L));
+        when(pointHistoryRepository.save(any(PointHistory.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        PointSaveResponse response = savePointUseCase.savePoint(req);
+
+        // then
+        assertThat(response.balance()).isEqualTo(7000L);
+        ArgumentCaptor<PointHistory> histCap = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(histCap.capture());
+        assertThat(histCap.getValue().getBeforeBalance()).isEqualTo(10000L);
+        assertThat(histCap.getValue().getAfterBalance()).isEqualTo(7000L);
+        verify(pointRepository, never()).findByUserIdWithLock(any());
+        verify(pointRepository, never()).save(any(Point.class));
+    }
+
+    @Test
+    public void 조건부_업데이트_영향행이_없으면_잔액부족_예외를_던지고_이력은_저장하지_않는다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(savePointUseCase, "atomicUpdateEnabled", true);
+        PointRequest req = new PointRequest(UUID.randomUUID().toString(), FIXED_UUID, 3000L, UseType.USE);
+        when(pointRepository.decreaseBalance(FIXED_UUID, 3000L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> savePointUseCase.savePoint(req))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잔액이 부족합니다.");
+        verifyNoInteractions(pointHistoryRepository, createIdempotencyKey, eventPublisher);
+    }
+
+    @Test
+    public void 조건부_업데이트_충전시_upsert_후_변경_전후_잔액으로_이력이_저장된다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(savePointUseCase, "atomicUpdateEnabled", true);
+        PointRequest req = new PointRequest(UUID.randomUUID().toString(), FIXED_UUID, 10000L, UseType.CHARGE);
+        when(pointRepository.increaseBalance(FIXED_UUID, 10000L)).thenReturn(Optional.of(15000L));
+        when(pointHistoryRepository.save(any(PointHistory.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        PointSaveResponse response = savePointUseCase.savePoint(req);
+
+        // then
+        assertThat(response.balance()).isEqualTo(15000L);
+        ArgumentCaptor<PointHistory> histCap = ArgumentCaptor.forClass(PointHistory.class);
+        InOrder inOrder = inOrder(pointRepository, pointHistoryRepository);
+        inOrder.verify(pointRepository).increaseBalance(FIXED_UUID, 10000L);
+        inOrder.verify(pointHistoryRepository).save(histCap.capture());
+        assertThat(histCap.getValue().getBeforeBalance()).isEqualTo(5000L);
+        assertThat(histCap.getValue().getAfterBalance()).isEqualTo(15000L);
+        verify(eventPublisher).publishEvent(PointBalanceChangedEvent.of(FIXED_UUID, 15000L, null));
+    }
+
+    @Test
+    public void 원장_저장소_충전은_변경_전후_잔액_없이_이력만_저장되고_잔액은_null로_응답한다() throws Exception {
+        // given
+        ReflectionTestUtils.setField(savePointUseCase, "atomicUpdateEnabled", true);
+        PointRequest req = new PointRequest(UUID.randomUUID().toString(), FIXED_UUID, 10000L, UseType.CHARGE);
+        when(pointRepository.increaseBalance(FIXED_UUID, 10000L)).thenReturn(Optional.empty());
+        when(pointHistoryRepository.save(any(PointHistory.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        // when
+        PointSaveResponse response = savePointUseCase.savePoint(req);
+
+        // then
+        assertThat(response.balance()).isNull();
+        ArgumentCaptor<PointHistory> histCap = ArgumentCaptor.forClass(PointHistory.class);
+        verify(pointHistoryRepository).save(histCap.capture());
+        assertThat(histCap.getValue().getAmount()).isEqualTo(10000L);
+        assertThat(histCap.getValue().getBeforeBalance()).isNull();
+        assertThat(histCap.getValue().getAfterBalance()).isNull();
+        verify(eventPublisher).publishEvent(PointBalanceChangedEvent.of(FIXED_UUID, null, null));
+    }
 }
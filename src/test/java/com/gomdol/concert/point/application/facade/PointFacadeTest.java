@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -330,4 +331,26 @@ class PointFacadeTest {
                 ArgumentMatchers.<Supplier<PointSaveResponse>>any()
         );
     }
+
+    @Test
+    @DisplayName("조건부 UPDATE 모드에서는 분산 락 없이 UseCase를 호출한다")
+    void 조건부_업데이트_모드_분산락_미사용() {
+        // Given
+        ReflectionTestUtils.setField(pointFacade, "atomicUpdateEnabled", true);
+        String requestId = UUID.randomUUID().toString();
+        PointRequest request = new PointRequest(requestId, FIXED_UUID, 5000L, UseType.USE);
+        PointSaveResponse expectedResponse = new PointSaveResponse(400L, FIXED_UUID, 5000L);
+
+        when(cacheRepository.get(anyString(), eq(PointSaveResponse.class))).thenReturn(Optional.empty());
+        when(getIdempotencyKey.getIdempotencyKey(requestId, FIXED_UUID, ResourceType.POINT)).thenReturn(Optional.empty());
+        when(savePointUseCase.savePoint(request)).thenReturn(expectedResponse);
+
+        // When
+        PointSaveResponse result = pointFacade.savePoint(request);
+
+        // Then
+        assertThat(result).isEqualTo(expectedResponse);
+        verify(cacheRepository).set(eq("point:result:" + requestId), eq(expectedResponse), any(Duration.class));
+        verify(distributedLock, never()).executeWithLock(anyString(), anyLong(), anyLong(), any(TimeUnit.class), ArgumentMatchers.<Supplier<PointSaveResponse>>any());
+    }
 }
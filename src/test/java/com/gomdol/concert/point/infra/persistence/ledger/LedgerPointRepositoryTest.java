@@ -0,0 +1,95 @@
+package com.gomdol.concert.point.infra.persistence.ledger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.gomdol.concert.common.FixedField.FIXED_UUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerPointRepositoryTest {
+
+    @Mock
+    private PointSnapshotJpaRepository snapshotRepository;
+
+    @InjectMocks
+    private LedgerPointRepository ledgerPointRepository;
+
+    @Test
+    @DisplayName("사용 시 스냅샷 배타 잠금 후 스냅샷 + 이력 tail 합으로 잔액을 검사하고 차감 후 잔액을 반환한다")
+    void decreaseBalance_usesSnapshotPlusTail() {
+        // given
+        PointSnapshotEntity snapshot = snapshot(5000L);
+        when(snapshotRepository.findByUserIdForUpdate(FIXED_UUID)).thenReturn(Optional.of(snapshot));
+        when(snapshotRepository.sumTailForShare(FIXED_UUID)).thenReturn(3000L);
+
+        // when
+        Optional<Long> after = ledgerPointRepository.decreaseBalance(FIXED_UUID, 7000L);
+
+        // then
+        assertThat(after).contains(1000L);
+        verify(snapshotRepository, never()).insertIgnore(any(), any());
+    }
+
+    @Test
+    @DisplayName("잔액이 부족하면 empty를 반환하고 아무것도 기록하지 않는다")
+    void decreaseBalance_insufficient() {
+        // given
+        PointSnapshotEntity snapshot = snapshot(5000L);
+        when(snapshotRepository.findByUserIdForUpdate(FIXED_UUID)).thenReturn(Optional.of(snapshot));
+        when(snapshotRepository.sumTailForShare(FIXED_UUID)).thenReturn(3000L);
+
+        // when
+        Optional<Long> after = ledgerPointRepository.decreaseBalance(FIXED_UUID, 9000L);
+
+        // then
+        assertThat(after).isEmpty();
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("충전은 스냅샷 행을 잠그지 않고 변경 후 잔액도 계산하지 않는다 (동시 충전끼리 대기 없음)")
+    void increaseBalance_appendOnly() {
+        // given
+        when(snapshotRepository.existsById(FIXED_UUID)).thenReturn(true);
+
+        // when
+        Optional<Long> after = ledgerPointRepository.increaseBalance(FIXED_UUID, 1000L);
+
+        // then
+        assertThat(after).isEmpty();
+        verify(snapshotRepository, never()).findByUserIdForUpdate(any());
+        verify(snapshotRepository, never()).sumTailForShare(any());
+        verify(snapshotRepository, never()).insertIgnore(any(), any());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 사용자의 첫 충전은 0원 스냅샷을 만든다")
+    void increaseBalance_createsSnapshot() {
+        // given
+        when(snapshotRepository.existsById(FIXED_UUID)).thenReturn(false);
+
+        // when
+        ledgerPointRepository.increaseBalance(FIXED_UUID, 1000L);
+
+        // then
+        verify(snapshotRepository).insertIgnore(eq(FIXED_UUID), any());
+        verify(snapshotRepository, never()).findByUserIdForUpdate(any());
+    }
+
+    private static PointSnapshotEntity snapshot(long balance) {
+        PointSnapshotEntity snapshot = mock(PointSnapshotEntity.class);
+        lenient().when(snapshot.getUserId()).thenReturn(FIXED_UUID);
+        when(snapshot.getBalance()).thenReturn(balance);
+        return snapshot;
+    }
+}
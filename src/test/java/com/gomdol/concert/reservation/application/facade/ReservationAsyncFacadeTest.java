@@ -0,0 +1,174 @@
+package com.gomdol.concert.reservation.application.facade;
+
+import com.gomdol.concert.common.application.cache.port.out.CacheRepository;
+import com.gomdol.concert.common.infra.config.ReservationAsyncProperties;
+import com.gomdol.concert.reservation.application.port.in.ReservationAcceptPort.AcceptStatus;
+import com.gomdol.concert.reservation.application.port.in.ReservationAcceptPort.ReservationStatusResponse;
+import com.gomdol.concert.reservation.application.port.in.ReservationResponse;
+import com.gomdol.concert.reservation.application.port.in.ReservationSeatPort.ReservationSeatCommand;
+import com.gomdol.concert.reservation.application.port.out.ReservationPolicyProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationAsyncFacade 테스트")
+class ReservationAsyncFacadeTest {
+
+    @Mock
+    private ReservationFacade reservationFacade;
+
+    @Mock
+    private CacheRepository cacheRepository;
+
+    @Mock
+    private ReservationPolicyProvider policyProvider;
+
+    private static final String USER_ID = "550e8400-e29b-41d4-a716-446655440000";
+    private static final String REQUEST_ID = "req-async-1";
+    private static final ReservationSeatCommand COMMAND = new ReservationSeatCommand(USER_ID, REQUEST_ID, 100L, List.of(1L, 2L));
+
+    private ReservationAsyncProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ReservationAsyncProperties(true, 2, 10);
+    }
+
+    private ReservationAsyncFacade facadeWith(Executor executor) {
+        return new ReservationAsyncFacade(reservationFacade, cacheRepository, policyProvider, properties, executor);
+    }
+
+    @Test
+    @DisplayName("요청을 접수하면 PENDING을 반환하고 워커가 처리 후 SUCCEEDED로 갱신한다")
+    void acceptAndProcess() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(4);
+        when(cacheRepository.get(anyString(), any())).thenReturn(Optional.empty());
+        ReservationResponse response = new ReservationResponse(1L, "code", REQUEST_ID, LocalDateTime.now().plusMinutes(10));
+        when(cacheRepository.setIfAbsent(eq("reservation:status:" + REQUEST_ID), any(), any())).thenReturn(true);
+        when(reservationFacade.reservationSeat(COMMAND)).thenReturn(response);
+
+        // when
+        ReservationStatusResponse result = facadeWith(Runnable::run).acceptReservation(COMMAND);
+
+        // then
+        assertThat(result.status()).isEqualTo(AcceptStatus.PENDING);
+        ArgumentCaptor<ReservationStatusResponse> captor = ArgumentCaptor.forClass(ReservationStatusResponse.class);
+        verify(cacheRepository).set(eq("reservation:status:" + REQUEST_ID), captor.capture(), any());
+        assertThat(captor.getValue().status()).isEqualTo(AcceptStatus.SUCCEEDED);
+        assertThat(captor.getValue().reservation().reservationId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("워커 처리 중 예외가 발생하면 FAILED 상태로 저장한다")
+    void processFailure() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(4);
+        when(cacheRepository.get(anyString(), any())).thenReturn(Optional.empty());
+        when(cacheRepository.setIfAbsent(eq("reservation:status:" + REQUEST_ID), any(), any())).thenReturn(true);
+        when(reservationFacade.reservationSeat(COMMAND)).thenThrow(new IllegalStateException("이미 선택된 좌석입니다."));
+
+        // when
+        facadeWith(Runnable::run).acceptReservation(COMMAND);
+
+        // then
+        ArgumentCaptor<ReservationStatusResponse> captor = ArgumentCaptor.forClass(ReservationStatusResponse.class);
+        verify(cacheRepository).set(eq("reservation:status:" + REQUEST_ID), captor.capture(), any());
+        assertThat(captor.getValue().status()).isEqualTo(AcceptStatus.FAILED);
+        assertThat(captor.getValue().failureReason()).isEqualTo("이미 선택된 좌석입니다.");
+    }
+
+    @Test
+    @DisplayName("이미 접수된 요청이면 큐에 다시 넣지 않고 기존 상태를 반환한다")
+    void duplicateRequest() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(4);
+        ReservationStatusResponse pending = ReservationStatusResponse.pending(REQUEST_ID, USER_ID);
+        when(cacheRepository.get("reservation:status:" + REQUEST_ID, ReservationStatusResponse.class)).thenReturn(Optional.of(pending));
+        Executor executor = mock(Executor.class);
+
+        // when
+        ReservationStatusResponse result = facadeWith(executor).acceptReservation(COMMAND);
+
+        // then
+        assertThat(result).isEqualTo(pending);
+        verify(executor, never()).execute(any());
+    }
+
+    @Test
+    @DisplayName("같은 requestId가 동시에 접수되면 SET NX에 실패한 요청은 큐에 넣지 않고 먼저 저장된 상태를 반환한다")
+    void concurrentDuplicateRequest() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(4);
+        ReservationStatusResponse pending = ReservationStatusResponse.pending(REQUEST_ID, USER_ID);
+        when(cacheRepository.get("reservation:status:" + REQUEST_ID, ReservationStatusResponse.class))
+                .thenReturn(Optional.empty(), Optional.of(pending));
+        when(cacheRepository.setIfAbsent(eq("reservation:status:" + REQUEST_ID), any(), any())).thenReturn(false);
+        Executor executor = mock(Executor.class);
+
+        // when
+        ReservationStatusResponse result = facadeWith(executor).acceptReservation(COMMAND);
+
+        // then
+        assertThat(result).isEqualTo(pending);
+        verify(executor, never()).execute(any());
+        verify(cacheRepository, never()).set(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("워커 큐가 가득 차면 접수 상태를 지우고 예외를 던진다")
+    void queueFull() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(4);
+        when(cacheRepository.get(anyString(), any())).thenReturn(Optional.empty());
+        when(cacheRepository.setIfAbsent(eq("reservation:status:" + REQUEST_ID), any(), any())).thenReturn(true);
+        Executor executor = task -> { throw new RejectedExecutionException("full"); };
+
+        // when & then
+        assertThatThrownBy(() -> facadeWith(executor).acceptReservation(COMMAND))
+                .isInstanceOf(RejectedExecutionException.class);
+        verify(cacheRepository).delete("reservation:status:" + REQUEST_ID);
+        verify(reservationFacade, never()).reservationSeat(any());
+    }
+
+    @Test
+    @DisplayName("최대 좌석 수를 초과하면 접수하지 않는다")
+    void exceedMaxSeats() {
+        // given
+        when(policyProvider.maxSeatsPerReservation()).thenReturn(1);
+
+        // when & then
+        assertThatThrownBy(() -> facadeWith(Runnable::run).acceptReservation(COMMAND))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(cacheRepository, never()).set(anyString(), any(), any());
+        verify(cacheRepository, never()).setIfAbsent(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 요청 상태는 조회할 수 없다")
+    void getStatusOfOtherUser() {
+        // given
+        ReservationStatusResponse pending = ReservationStatusResponse.pending(REQUEST_ID, USER_ID);
+        when(cacheRepository.get("reservation:status:" + REQUEST_ID, ReservationStatusResponse.class)).thenReturn(Optional.of(pending));
+
+        // when & then
+        assertThatThrownBy(() -> facadeWith(Runnable::run).getReservationStatus("other-user", REQUEST_ID))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}